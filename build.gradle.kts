@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.2.3"
     id("io.spring.dependency-management") version "1.1.4"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.evawova"
@@ -32,6 +33,9 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("me.paulschwarz:spring-dotenv:4.0.0")
+
+    // 로컬 인메모리 캐시 (토큰 검증 결과 등)
+    implementation("com.github.ben-manes.caffeine:caffeine")
     
     // OpenAI API 클라이언트
     implementation("com.theokanning.openai-gpt3-java:service:0.18.2")
@@ -55,3 +59,11 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 마이크로 벤치마크 (./gradlew jmh, 결과: build/results/jmh)
+jmh {
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    profilers = listOf("gc")
+}
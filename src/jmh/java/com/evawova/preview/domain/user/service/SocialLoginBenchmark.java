@@ -0,0 +1,156 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.PreviewServiceApplication;
+import com.evawova.preview.domain.user.dto.SocialLoginRequest;
+import com.evawova.preview.domain.user.dto.UserDto;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 소셜 로그인 경로 쿼리 수/지연 비교 (H2 인메모리 DB로 애플리케이션 컨텍스트 기동)
+ * - legacy: 기존 경로 (findByUid → findByPlanType → save → createSubscription(사용자/플랜/활성 구독 재조회) → 로그인 기록용 findById)
+ * - consolidated: UserService.socialLogin (사용자+활성 플랜 1회 조회, 캐시된 FREE 플랜으로 첫 구독 생성)
+ *
+ * p99는 SampleTime 결과의 p0.99 항목으로, 호출당 쿼리 수는 종료 시 출력되는 값으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocialLoginBenchmark {
+
+    /**
+     * NEW: 매 호출 신규 가입, EXISTING: 이미 가입한 사용자의 재로그인
+     */
+    @Param({"NEW", "EXISTING"})
+    public String scenario;
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private SubscriptionService subscriptionService;
+    private UserRepository userRepository;
+    private PlanRepository planRepository;
+    private TransactionTemplate transactionTemplate;
+    private Statistics statistics;
+    private long sequence;
+    private long invocations;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PreviewServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:social-login-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.properties.hibernate.generate_statistics=true",
+                        "logging.level.root=WARN",
+                        "logging.level.com.evawova.preview=WARN",
+                        "openai.api.key=benchmark",
+                        "FIREBASE_PROJECT_ID=benchmark",
+                        "FIREBASE_PRIVATE_KEY_ID=benchmark",
+                        "FIREBASE_PRIVATE_KEY=benchmark",
+                        "FIREBASE_CLIENT_EMAIL=benchmark@example.com",
+                        "FIREBASE_CLIENT_ID=benchmark",
+                        "FIREBASE_CLIENT_CERT_URL=https://example.com/cert")
+                .run();
+
+        userService = context.getBean(UserService.class);
+        subscriptionService = context.getBean(SubscriptionService.class);
+        userRepository = context.getBean(UserRepository.class);
+        planRepository = context.getBean(PlanRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+        if (planRepository.findByPlanType(PlanType.FREE).isEmpty()) {
+            planRepository.save(Plan.createPlan(PlanType.FREE, BigDecimal.ZERO, BigDecimal.ZERO, 10000, true));
+            context.getBean(PlanCatalog.class).refresh();
+        }
+        // 재로그인 시나리오용 사용자
+        userService.socialLogin(request("existing"));
+    }
+
+    @Setup(Level.Iteration)
+    public void resetStatistics() {
+        statistics.clear();
+        invocations = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportStatements() {
+        if (invocations > 0) {
+            System.out.printf("%n[%s] 호출당 쿼리 수: %.2f%n", scenario,
+                    (double) statistics.getPrepareStatementCount() / invocations);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private SocialLoginRequest request(String uid) {
+        SocialLoginRequest request = new SocialLoginRequest();
+        request.setUid(uid);
+        request.setEmail(uid + "@example.com");
+        request.setDisplayName("사용자");
+        request.setProvider(User.Provider.GOOGLE);
+        request.setEmailVerified(true);
+        request.setLastLoginAt(LocalDateTime.now());
+        return request;
+    }
+
+    private SocialLoginRequest nextRequest(String prefix) {
+        invocations++;
+        return "NEW".equals(scenario) ? request(prefix + "-" + sequence++) : request("existing");
+    }
+
+    @Benchmark
+    public User legacy() {
+        SocialLoginRequest request = nextRequest("legacy");
+        Long userId = transactionTemplate.execute(status -> {
+            User user = userRepository.findByUid(request.getUid()).orElse(null);
+            if (user == null) {
+                Plan freePlan = planRepository.findByPlanType(PlanType.FREE).orElseThrow();
+                user = userRepository.save(User.createSocialUser(
+                        request.getUid(), request.getEmail(), request.getDisplayName(), request.getProvider()));
+                subscriptionService.createSubscription(user.getId(), freePlan.getId(),
+                        Subscription.SubscriptionCycle.MONTHLY);
+            } else {
+                user.updateAdditionalInfo(request.getDisplayName(), request.getPhotoUrl(),
+                        request.isEmailVerified(), request.getLastLoginAt());
+            }
+            UserDto.fromEntity(user);
+            return user.getId();
+        });
+        // 로그인 기록 저장을 위한 재조회
+        return userRepository.findById(userId).orElseThrow();
+    }
+
+    @Benchmark
+    public User consolidated() {
+        return userService.socialLogin(nextRequest("consolidated")).getUser();
+    }
+}
@@ -0,0 +1,119 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.PreviewServiceApplication;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 구독 만료 배치 처리 시간 (H2 인메모리 DB로 애플리케이션 컨텍스트 기동)
+ * - 반복마다 종료일이 지난 PRO 구독 rows건과 각 사용자의 활성 구독 포인터를 SQL로 한 번에 적재
+ * - 한 번 호출에 전부 만료시키는 시간(SingleShotTime)을 청크 크기별로 비교
+ *
+ * 반복 종료 시 남은 활성 구독 수(0이어야 함)와 FREE로 전환된 사용자 수를 출력합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SubscriptionExpiryBenchmark {
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"500", "1000", "5000"})
+    public int chunkSize;
+
+    private ConfigurableApplicationContext context;
+    private SubscriptionExpiryJob job;
+    private JdbcTemplate jdbcTemplate;
+    private Long planId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(PreviewServiceApplication.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:subscription-expiry-bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.evawova.preview=WARN",
+                        // 백그라운드 실행 대신 벤치마크에서 직접 호출
+                        "subscription.expiry.enabled=false",
+                        "subscription.expiry.chunk-size=" + chunkSize,
+                        "openai.api.key=benchmark",
+                        "FIREBASE_PROJECT_ID=benchmark",
+                        "FIREBASE_PRIVATE_KEY_ID=benchmark",
+                        "FIREBASE_PRIVATE_KEY=benchmark",
+                        "FIREBASE_CLIENT_EMAIL=benchmark@example.com",
+                        "FIREBASE_CLIENT_ID=benchmark",
+                        "FIREBASE_CLIENT_CERT_URL=https://example.com/cert")
+                .run();
+
+        job = context.getBean(SubscriptionExpiryJob.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        PlanRepository planRepository = context.getBean(PlanRepository.class);
+        planId = planRepository.findByPlanType(PlanType.PRO)
+                .orElseGet(() -> planRepository.save(Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900),
+                        BigDecimal.valueOf(199000), 100000, true)))
+                .getId();
+    }
+
+    /**
+     * 사용자 id와 구독 id를 같게 적재하고, 종료일은 1초 간격으로 모두 과거
+     */
+    @Setup(Level.Iteration)
+    public void load() {
+        jdbcTemplate.execute("set referential_integrity false");
+        jdbcTemplate.execute("truncate table subscriptions");
+        jdbcTemplate.execute("truncate table users");
+        jdbcTemplate.execute("set referential_integrity true");
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("insert into users (id, uid, email, display_name, provider, role, is_active, " +
+                "active_subscription_id, current_plan_type, created_at, updated_at) " +
+                "select x, concat('bench-', x), concat('bench-', x, '@example.com'), 'bench', 'GOOGLE', " +
+                "'USER_PRO', true, x, 'PRO', ?, ? from system_range(1, ?)", now, now, rows);
+        jdbcTemplate.update("insert into subscriptions (id, user_id, plan_id, start_date, end_date, status, " +
+                "payment_amount, subscription_cycle, is_active, active_guard, created_at, updated_at) " +
+                "select x, x, ?, dateadd('MONTH', -1, ?), dateadd('SECOND', -x, ?), 'ACTIVE', 19900, 0, true, x, " +
+                "?, ? from system_range(1, ?)", planId, now, now, now, now, rows);
+    }
+
+    @TearDown(Level.Iteration)
+    public void verify() {
+        Long remaining = jdbcTemplate.queryForObject(
+                "select count(*) from subscriptions where status = 'ACTIVE'", Long.class);
+        Long downgraded = jdbcTemplate.queryForObject(
+                "select count(*) from users where role = 'USER_FREE' and active_subscription_id is null", Long.class);
+        System.out.printf("%n[chunk=%d] 남은 활성 구독: %d, FREE 전환 사용자: %d%n", chunkSize, remaining, downgraded);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int expireAll() {
+        return job.run();
+    }
+}
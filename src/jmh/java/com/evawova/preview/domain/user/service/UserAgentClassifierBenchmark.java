@@ -0,0 +1,123 @@
+package com.evawova.preview.domain.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 기록용 User-Agent 분석 성능 비교
+ * - legacy: 기존 UserLoginLogService.parseUserAgent (전체 소문자 변환 + contains 반복)
+ * - singlePass: UserAgentClassifier 단일 순회 분석 (캐시 미사용)
+ * - cached: UserAgentClassifier.classify (UA별 캐시)
+ *
+ * 할당량은 gc 프로파일러의 gc.alloc.rate.norm 항목으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UserAgentClassifierBenchmark {
+
+    /**
+     * 실제 로그인 분포를 흉내낸 코퍼스 (앱 UA가 대부분, 일부 웹 브라우저)
+     */
+    private static final String[] CORPUS = {
+            "PreviewApp/1.4.2 (iPhone; iOS 17.1; Scale/3.00)",
+            "PreviewApp/1.4.2 (iPhone; iOS 17.1; Scale/3.00)",
+            "PreviewApp/1.4.2 (iPhone; iOS 16.6; Scale/2.00)",
+            "PreviewApp/1.4.1 (Linux; Android 14; SM-S918N) okhttp/4.12.0",
+            "PreviewApp/1.4.1 (Linux; Android 14; SM-S918N) okhttp/4.12.0",
+            "PreviewApp/1.4.1 (Linux; Android 13; SM-A536N) okhttp/4.12.0",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Safari/605.1.15",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Mobile/15E148 Safari/604.1",
+            "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.6099.144 Mobile Safari/537.36",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.2210.91",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:121.0) Gecko/20100101 Firefox/121.0",
+    };
+
+    private UserAgentClassifier classifier;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        classifier = new UserAgentClassifier("PreviewApp", 1000);
+    }
+
+    private String next() {
+        index = (index + 1) % CORPUS.length;
+        return CORPUS[index];
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(LegacyParser.parse(next()));
+    }
+
+    @Benchmark
+    public void singlePass(Blackhole blackhole) {
+        blackhole.consume(classifier.classifyUncached(next()));
+    }
+
+    @Benchmark
+    public void cached(Blackhole blackhole) {
+        blackhole.consume(classifier.classify(next()));
+    }
+
+    /**
+     * 비교 기준으로 남겨둔 기존 구현
+     */
+    static final class LegacyParser {
+
+        static String[] parse(String userAgent) {
+            String deviceType;
+            String browserInfo;
+            String osInfo;
+            userAgent = userAgent.toLowerCase();
+
+            if (userAgent.contains("mobile") || userAgent.contains("android") || userAgent.contains("iphone")) {
+                deviceType = "Mobile";
+            } else if (userAgent.contains("tablet") || userAgent.contains("ipad")) {
+                deviceType = "Tablet";
+            } else {
+                deviceType = "Desktop";
+            }
+
+            if (userAgent.contains("firefox")) {
+                browserInfo = "Firefox";
+            } else if (userAgent.contains("edge") || userAgent.contains("edg")) {
+                browserInfo = "Edge";
+            } else if (userAgent.contains("chrome") && !userAgent.contains("edg")) {
+                browserInfo = "Chrome";
+            } else if (userAgent.contains("safari") && !userAgent.contains("chrome")) {
+                browserInfo = "Safari";
+            } else if (userAgent.contains("opera") || userAgent.contains("opr")) {
+                browserInfo = "Opera";
+            } else {
+                browserInfo = "Other";
+            }
+
+            if (userAgent.contains("windows")) {
+                osInfo = "Windows";
+            } else if (userAgent.contains("mac os")) {
+                osInfo = "macOS";
+            } else if (userAgent.contains("linux")) {
+                osInfo = "Linux";
+            } else if (userAgent.contains("android")) {
+                osInfo = "Android";
+            } else if (userAgent.contains("iphone") || userAgent.contains("ipad") || userAgent.contains("ipod")) {
+                osInfo = "iOS";
+            } else {
+                osInfo = "Other";
+            }
+
+            return new String[]{deviceType, browserInfo, osInfo};
+        }
+    }
+}
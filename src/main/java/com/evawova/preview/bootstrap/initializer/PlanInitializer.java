@@ -8,7 +8,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.math.BigDecimal;
+import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class PlanInitializer implements EntityInitializer {
 
     private final PlanRepository planRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -56,7 +59,10 @@ public class PlanInitializer implements EntityInitializer {
                 100000,
                 true);
 
-        planRepository.saveAll(java.util.List.of(freePlan, standardPlan, proPlan));
+        List<Plan> savedPlans = planRepository.saveAll(List.of(freePlan, standardPlan, proPlan));
+
+        // 커밋 후 PlanCreatedEvent 발행 및 플랜 카탈로그 갱신
+        savedPlans.forEach(eventPublisher::publishEvent);
         log.info("Plan 데이터 초기화가 완료되었습니다. 총 {}개의 플랜이 생성되었습니다.", 3);
     }
 
@@ -23,12 +23,12 @@ public class ApiResponse<T> {
     private LocalDateTime timestamp;
 
     @Builder
-    private ApiResponse(boolean success, int status, String message, T data) {
+    private ApiResponse(boolean success, int status, String message, T data, LocalDateTime timestamp) {
         this.success = success;
         this.status = status;
         this.message = message;
         this.data = data;
-        this.timestamp = LocalDateTime.now();
+        this.timestamp = timestamp != null ? timestamp : LocalDateTime.now();
     }
 
     // 성공 응답 생성 메서드들
@@ -50,6 +50,19 @@ public class ApiResponse<T> {
                 .build();
     }
 
+    /**
+     * 응답 시각을 지정한 성공 응답 (미리 만들어 두는 본문이 같은 내용이면 같은 바이트가 되도록 내용의 수정 시각을 사용)
+     */
+    public static <T> ApiResponse<T> success(T data, String message, LocalDateTime timestamp) {
+        return ApiResponse.<T>builder()
+                .success(true)
+                .status(HttpStatus.OK.value())
+                .message(message)
+                .data(data)
+                .timestamp(timestamp)
+                .build();
+    }
+
     public static <T> ApiResponse<T> success(T data, HttpStatus status) {
         return ApiResponse.<T>builder()
                 .success(true)
@@ -0,0 +1,62 @@
+package com.evawova.preview.common.response;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * 조건부 GET 응답 생성
+ * - If-None-Match(우선) / If-Modified-Since가 현재 버전과 일치하면 본문을 만들지 않고 304 반환
+ *   (본문 조회와 직렬화를 모두 건너뜀)
+ * - 그 외에는 본문을 만들고 성공 응답에만 ETag, Last-Modified, Cache-Control 헤더를 추가
+ * - 요청 헤더에 따라 표현이 달라지는 응답은 vary를 넘겨 304에도 200과 같은 Vary를 붙임
+ */
+public final class ConditionalResponses {
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * @param version 현재 본문 버전. null이면 (내용이 없거나 버전을 모르는 경우) 조건부 처리 없이 응답
+     */
+    public static <T> ResponseEntity<T> of(WebRequest request, ContentVersion version, CacheControl cacheControl,
+            Supplier<ResponseEntity<T>> response) {
+        return of(request, version, cacheControl, null, response);
+    }
+
+    /**
+     * @param version 현재 요청에 내려줄 표현의 버전. null이면 조건부 처리 없이 응답
+     * @param vary 표현을 고르는 요청 헤더 (null이면 Vary 없음). 200 응답의 Vary는 response가 직접 붙임
+     */
+    public static <T> ResponseEntity<T> of(WebRequest request, ContentVersion version, CacheControl cacheControl,
+            String vary, Supplier<ResponseEntity<T>> response) {
+        if (version == null) {
+            return response.get();
+        }
+
+        if (request.checkNotModified(version.getEtag(), version.getLastModified().toEpochMilli())) {
+            ResponseEntity.HeadersBuilder<?> notModified = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(version.getEtag())
+                    .lastModified(version.getLastModified())
+                    .cacheControl(cacheControl);
+            if (vary != null) {
+                notModified.varyBy(vary);
+            }
+            return notModified.build();
+        }
+
+        ResponseEntity<T> full = response.get();
+        if (!full.getStatusCode().is2xxSuccessful()) {
+            return full;
+        }
+        return ResponseEntity.status(full.getStatusCode())
+                .headers(full.getHeaders())
+                .eTag(version.getEtag())
+                .lastModified(version.getLastModified())
+                .cacheControl(cacheControl)
+                .body(full.getBody());
+    }
+}
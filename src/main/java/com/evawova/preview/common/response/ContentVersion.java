@@ -0,0 +1,27 @@
+package com.evawova.preview.common.response;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.time.Instant;
+
+/**
+ * 조건부 GET에 사용하는 응답 본문 버전
+ * - etag: 본문 내용의 MD5 해시로 만든 강한 ETag (인스턴스가 달라도 같은 내용이면 같은 값)
+ * - lastModified: 본문의 마지막 변경 시각 (초 단위로 비교됨)
+ */
+@Getter
+public class ContentVersion {
+
+    private final String etag;
+    private final Instant lastModified;
+
+    public ContentVersion(String etag, Instant lastModified) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+    }
+
+    public static ContentVersion of(byte[] content, Instant lastModified) {
+        return new ContentVersion("\"" + DigestUtils.md5DigestAsHex(content) + "\"", lastModified);
+    }
+}
@@ -0,0 +1,40 @@
+package com.evawova.preview.common.response;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지 응답
+ * - 전체 건수를 세지 않고, 다음 페이지 존재 여부와 다음 요청에 넘길 커서만 제공
+ */
+@Getter
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+    private final boolean hasNext;
+
+    private CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+
+    /**
+     * size + 1건을 조회한 결과로 페이지를 만듭니다.
+     * 초과분이 있으면 마지막 항목 기준으로 다음 커서를 생성합니다.
+     */
+    public static <T> CursorPage<T> of(List<T> fetched, int size, Function<T, String> cursorOf) {
+        if (fetched.size() <= size) {
+            return new CursorPage<>(fetched, null);
+        }
+        List<T> items = fetched.subList(0, size);
+        return new CursorPage<>(items, cursorOf.apply(items.get(size - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+}
@@ -0,0 +1,68 @@
+package com.evawova.preview.common.response;
+
+import com.evawova.preview.common.exception.ApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (시각, id) 기반 keyset 커서
+ * - 마지막으로 응답한 행의 정렬 키(시각)와 id를 그대로 커서로 사용
+ * - 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로 전달
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    /**
+     * 시각 범위의 상한 (MySQL DATETIME 최댓값 이내)
+     */
+    public static final LocalDateTime MAX_TIME = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * 시각 범위의 하한
+     */
+    public static final LocalDateTime MIN_TIME = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    /**
+     * 내림차순 첫 페이지 조회용 커서 (모든 행보다 뒤에 위치)
+     */
+    public static final KeysetCursor FIRST_DESC = new KeysetCursor(MAX_TIME, Long.MAX_VALUE);
+
+    /**
+     * 오름차순 첫 페이지 조회용 커서 (모든 행보다 앞에 위치)
+     */
+    public static final KeysetCursor FIRST_ASC = new KeysetCursor(MIN_TIME, 0L);
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime at;
+    private final Long id;
+
+    public String encode() {
+        String raw = at.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. 값이 없으면 first를 반환합니다.
+     */
+    public static KeysetCursor decode(String cursor, KeysetCursor first) {
+        if (cursor == null || cursor.isBlank()) {
+            return first;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
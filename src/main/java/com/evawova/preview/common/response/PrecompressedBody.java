@@ -0,0 +1,119 @@
+package com.evawova.preview.common.response;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 미리 직렬화/압축해 둔 JSON 응답 본문
+ * - 거의 바뀌지 않는 큰 본문(법적 문서, FAQ)을 내용 버전마다 한 번만 만들어 두고 그대로 내려줌
+ * - Accept-Encoding에 gzip이 있으면 압축본을, 없으면 원본을 응답 (요청당 비용은 선택과 버퍼 쓰기뿐)
+ * - 원본과 압축본은 서로 다른 표현이므로 ETag도 따로 둠 (원본 바이트의 MD5, 압축본은 여기에 -gz를 붙임)
+ */
+@Getter
+public class PrecompressedBody {
+
+    private static final String GZIP = "gzip";
+
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String identityEtag;
+    private final String gzipEtag;
+
+    private PrecompressedBody(byte[] identity, byte[] gzip) {
+        this.identity = identity;
+        this.gzip = gzip;
+        String hash = DigestUtils.md5DigestAsHex(identity);
+        this.identityEtag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + "-gz\"";
+    }
+
+    public static PrecompressedBody of(byte[] identity) {
+        return new PrecompressedBody(identity, gzip(identity));
+    }
+
+    /**
+     * 요청의 Accept-Encoding에 맞는 표현의 버전 (toResponse가 내려줄 본문의 ETag)
+     */
+    public ContentVersion versionFor(WebRequest request, Instant lastModified) {
+        boolean compressed = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        return new ContentVersion(compressed ? gzipEtag : identityEtag, lastModified);
+    }
+
+    /**
+     * 요청의 Accept-Encoding에 맞는 본문으로 200 응답을 만듭니다.
+     */
+    public ResponseEntity<byte[]> toResponse(WebRequest request) {
+        boolean compressed = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        byte[] body = compressed ? gzip : identity;
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(body.length)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (compressed) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * gzip(또는 x-gzip, *)이 q=0이 아닌 값으로 포함되어 있는지
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (!StringUtils.hasText(acceptEncoding)) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!GZIP.equalsIgnoreCase(coding) && !"x-gzip".equalsIgnoreCase(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            if (quality(parts) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String param = parts[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        // 한 번만 압축하므로 압축률 우선
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzipOut.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("응답 본문 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -2,6 +2,7 @@ package com.evawova.preview.config;
 
 import com.evawova.preview.security.FirebaseAuthenticationFilter;
 import com.evawova.preview.security.FirebaseTokenProvider;
+import com.evawova.preview.security.InvalidTokenGuard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -27,6 +28,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final FirebaseTokenProvider firebaseTokenProvider;
+    private final InvalidTokenGuard invalidTokenGuard;
     private final Environment environment;
 
     @Bean
@@ -96,7 +98,7 @@ public class SecurityConfig {
 
     @Bean
     public FirebaseAuthenticationFilter firebaseAuthenticationFilter() {
-        return new FirebaseAuthenticationFilter(firebaseTokenProvider);
+        return new FirebaseAuthenticationFilter(firebaseTokenProvider, invalidTokenGuard);
     }
 
     // 현재 활성화된 프로필 확인을 위한 유틸리티 메서드
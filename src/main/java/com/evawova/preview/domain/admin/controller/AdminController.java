@@ -1,14 +1,41 @@
 package com.evawova.preview.domain.admin.controller;
 
+import com.evawova.preview.common.exception.ApiException;
 import com.evawova.preview.common.response.ApiResponse;
+import com.evawova.preview.domain.user.dto.PlanDto;
+import com.evawova.preview.domain.user.dto.PlanUpdateRequest;
+import com.evawova.preview.domain.user.dto.ActivePlanConsistencyReport;
+import com.evawova.preview.domain.user.dto.RoleMigrationStatus;
+import com.evawova.preview.domain.user.dto.UserLoginLogDto;
+import com.evawova.preview.domain.user.entity.UserLoginLog;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.domain.user.service.ActivePlanConsistencyChecker;
+import com.evawova.preview.domain.user.service.PlanService;
+import com.evawova.preview.domain.user.service.UserLoginLogService;
+import com.evawova.preview.domain.user.service.UserRoleMigrationJob;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -21,6 +48,16 @@ import java.util.Map;
 @RequiredArgsConstructor
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final UserLoginLogService loginLogService;
+    private final ObjectMapper objectMapper;
+    private final UserRoleMigrationJob roleMigrationJob;
+    private final ActivePlanConsistencyChecker activePlanConsistencyChecker;
+    private final PlanService planService;
     
     /**
      * 시스템 통계 정보 조회
@@ -81,4 +118,90 @@ public class AdminController {
         
         return ResponseEntity.ok(ApiResponse.success(config, "시스템 설정 조회 성공"));
     }
-} 
\ No newline at end of file
+
+    /**
+     * 사용자 로그인 내역 내보내기 (NDJSON)
+     * - 한 줄에 로그인 기록 하나씩, keyset 청크 단위로 조회하며 바로 응답에 기록
+     * - 전체 목록을 메모리에 올리지 않음
+     */
+    @GetMapping("/users/{userId}/login-history/export")
+    public ResponseEntity<StreamingResponseBody> exportLoginHistory(
+            @PathVariable Long userId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) Boolean success) {
+
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
+        }
+
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime to = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
+
+        StreamingResponseBody body = outputStream -> {
+            try {
+                loginLogService.exportLoginHistory(userId, from, to, success, EXPORT_CHUNK_SIZE, chunk -> {
+                    try {
+                        for (UserLoginLog loginLog : chunk) {
+                            outputStream.write(objectMapper.writeValueAsBytes(UserLoginLogDto.fromEntity(loginLog)));
+                            outputStream.write('\n');
+                        }
+                        outputStream.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"login-history-" + userId + ".ndjson\"")
+                .body(body);
+    }
+
+    /**
+     * 사용자 역할 마이그레이션 시작
+     * - 백그라운드에서 실행되며, 중단된 이전 실행이 있으면 체크포인트부터 이어서 처리
+     */
+    @PostMapping("/users/role-migration")
+    public ResponseEntity<ApiResponse<RoleMigrationStatus>> startRoleMigration() {
+        if (!roleMigrationJob.start()) {
+            throw new ApiException(HttpStatus.CONFLICT, "역할 마이그레이션이 이미 실행 중입니다.");
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(roleMigrationJob.getStatus(), HttpStatus.ACCEPTED, "역할 마이그레이션을 시작했습니다."));
+    }
+
+    /**
+     * 사용자 역할 마이그레이션 진행 상황 조회
+     */
+    @GetMapping("/users/role-migration")
+    public ResponseEntity<ApiResponse<RoleMigrationStatus>> getRoleMigrationStatus() {
+        return ResponseEntity.ok(ApiResponse.success(roleMigrationJob.getStatus(), "역할 마이그레이션 진행 상황 조회 성공"));
+    }
+
+    /**
+     * 사용자 활성 구독 포인터 정합성 확인
+     * - 불일치가 있으면 역할 마이그레이션을 다시 실행해 백필
+     */
+    @GetMapping("/users/active-plan/consistency")
+    public ResponseEntity<ApiResponse<ActivePlanConsistencyReport>> checkActivePlanConsistency(
+            @RequestParam(defaultValue = "20") int sampleSize) {
+        return ResponseEntity.ok(ApiResponse.success(activePlanConsistencyChecker.check(Math.min(sampleSize, 1000)),
+                "활성 구독 포인터 정합성 확인 완료"));
+    }
+
+    /**
+     * 플랜 수정
+     * - 커밋 후 플랜 카탈로그가 새 스냅샷으로 교체되어 이후 플랜 조회에 바로 반영
+     */
+    @PutMapping("/plans/{planId}")
+    public ResponseEntity<ApiResponse<PlanDto>> updatePlan(
+            @PathVariable Long planId,
+            @Valid @RequestBody PlanUpdateRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(planService.updatePlan(planId, request), "플랜 수정 성공"));
+    }
+}
@@ -1,8 +1,11 @@
 package com.evawova.preview.domain.app.controller;
 
-import java.util.Map;
+import java.time.Duration;
 import java.time.LocalDateTime;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,18 +13,27 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.format.annotation.DateTimeFormat;
 
 import com.evawova.preview.common.response.ApiResponse;
+import com.evawova.preview.common.response.ConditionalResponses;
+import com.evawova.preview.common.response.ContentVersion;
+import com.evawova.preview.common.response.PrecompressedBody;
+import com.evawova.preview.domain.app.dto.AppInfoDeltaDto;
 import com.evawova.preview.domain.app.dto.AppInfoDto;
 import com.evawova.preview.domain.app.dto.CompanyInfoDto;
 import com.evawova.preview.domain.app.dto.ServiceStatusInfoDto;
 import com.evawova.preview.domain.app.dto.DeploymentInfoDto;
-import com.evawova.preview.domain.app.entity.AppInfo;
 import com.evawova.preview.domain.app.entity.ServiceStatus;
 import com.evawova.preview.domain.app.service.AppInfoService;
+import com.evawova.preview.domain.app.service.AppInfoCatalog;
+import com.evawova.preview.domain.app.service.AppInfoSnapshot;
+import com.evawova.preview.domain.app.service.ServiceStatusBroadcaster;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,74 +42,87 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AppInfoController {
 
+    /**
+     * 서비스 상태/긴급 공지가 포함되므로 캐시는 하되 매번 재검증 (변경 없으면 304)
+     */
+    private static final CacheControl INFO_CACHE = CacheControl.noCache();
+    /**
+     * 거의 바뀌지 않는 정적 문서는 1시간 동안 재검증 없이 사용
+     */
+    private static final CacheControl DOCUMENT_CACHE = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    /**
+     * 변경분 조회(?since=)에 사용할 앱 정보 버전
+     */
+    private static final String SYNC_VERSION_HEADER = "X-App-Info-Version";
+
     private final AppInfoService appInfoService;
+    private final AppInfoCatalog appInfoCatalog;
+    private final ServiceStatusBroadcaster statusBroadcaster;
 
     /**
      * 최신 앱 정보 조회
      */
     @GetMapping("/info")
-    public ResponseEntity<ApiResponse<AppInfoDto>> getLatestAppInfo() {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null) {
-            return ResponseEntity.notFound().build();
-        }
-        return ResponseEntity.ok(ApiResponse.success(AppInfoDto.fromEntity(appInfo), "앱 정보를 성공적으로 조회했습니다."));
+    public ResponseEntity<ApiResponse<AppInfoDto>> getLatestAppInfo(WebRequest request) {
+        AppInfoSnapshot snapshot = appInfoCatalog.snapshot();
+        return ConditionalResponses.of(request, snapshot.findVersion(AppInfoSnapshot.INFO), INFO_CACHE, () -> {
+            if (snapshot.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok()
+                    .header(SYNC_VERSION_HEADER, String.valueOf(snapshot.getSyncVersion()))
+                    .body(ApiResponse.success(snapshot.getInfo(), "앱 정보를 성공적으로 조회했습니다."));
+        });
     }
 
     /**
-     * 법적 정보 조회 (이용약관, 개인정보처리방침 등)
+     * 앱 정보 변경분 조회
+     * since(이전 응답의 version 또는 X-App-Info-Version) 이후 바뀐 구역만 반환하며,
+     * since를 알 수 없으면 전체 앱 정보를 반환
      */
-    @GetMapping("/legal/{type}")
-    public ResponseEntity<ApiResponse<String>> getLegalInfo(@PathVariable String type) {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null || appInfo.getLegalInfo() == null) {
+    @GetMapping(value = "/info", params = "since")
+    public ResponseEntity<ApiResponse<AppInfoDeltaDto>> getAppInfoChanges(@RequestParam long since) {
+        AppInfoDeltaDto delta = appInfoCatalog.changesSince(since);
+        if (delta == null) {
             return ResponseEntity.notFound().build();
         }
 
-        String content = switch (type) {
-            case "terms" -> appInfo.getLegalInfo().getTermsOfService();
-            case "privacy" -> appInfo.getLegalInfo().getPrivacyPolicy();
-            case "license" -> appInfo.getLegalInfo().getLicenseInfo();
-            case "copyright" -> appInfo.getLegalInfo().getCopyrightInfo();
-            case "cookie" -> appInfo.getLegalInfo().getCookiePolicy();
-            case "youth" -> appInfo.getLegalInfo().getYouthProtectionPolicy();
-            default -> null;
-        };
-
-        if (content == null) {
-            return ResponseEntity.notFound().build();
-        }
+        return ResponseEntity.ok()
+                .cacheControl(INFO_CACHE)
+                .body(ApiResponse.success(delta, "앱 정보 변경 사항을 성공적으로 조회했습니다."));
+    }
 
-        return ResponseEntity.ok(ApiResponse.success(content, "법적 정보를 성공적으로 조회했습니다."));
+    /**
+     * 법적 정보 조회 (이용약관, 개인정보처리방침 등)
+     * 본문은 스냅샷에 미리 직렬화/압축되어 있음
+     */
+    @GetMapping("/legal/{type}")
+    public ResponseEntity<byte[]> getLegalInfo(@PathVariable String type, WebRequest request) {
+        return renderedDocument(AppInfoSnapshot.legal(type), request);
     }
 
     /**
      * 회사 정보 조회
      */
     @GetMapping("/company")
-    public ResponseEntity<ApiResponse<CompanyInfoDto>> getCompanyInfo() {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null || appInfo.getCompanyInfo() == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        return ResponseEntity.ok(ApiResponse.success(CompanyInfoDto.fromEntity(appInfo.getCompanyInfo()),
-                "회사 정보를 성공적으로 조회했습니다."));
+    public ResponseEntity<ApiResponse<CompanyInfoDto>> getCompanyInfo(WebRequest request) {
+        AppInfoSnapshot snapshot = appInfoCatalog.snapshot();
+        return ConditionalResponses.of(request, snapshot.findVersion(AppInfoSnapshot.COMPANY), DOCUMENT_CACHE, () -> {
+            if (snapshot.getCompanyInfo() == null) {
+                return ResponseEntity.notFound().build();
+            }
+
+            return ResponseEntity.ok(ApiResponse.success(snapshot.getCompanyInfo(), "회사 정보를 성공적으로 조회했습니다."));
+        });
     }
 
     /**
      * FAQ 정보 조회
+     * 본문은 스냅샷에 미리 직렬화/압축되어 있음
      */
     @GetMapping("/faq")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getFaq() {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null || appInfo.getServiceStatusInfo() == null ||
-                appInfo.getServiceStatusInfo().getFaqContent() == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        return ResponseEntity.ok(ApiResponse.success(appInfo.getServiceStatusInfo().getFaqContent(),
-                "FAQ 정보를 성공적으로 조회했습니다."));
+    public ResponseEntity<byte[]> getFaq(WebRequest request) {
+        return renderedDocument(AppInfoSnapshot.FAQ, request);
     }
 
     /**
@@ -105,13 +130,22 @@ public class AppInfoController {
      */
     @GetMapping("/deployment")
     public ResponseEntity<ApiResponse<DeploymentInfoDto>> getDeploymentInfo() {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null || appInfo.getDeploymentInfo() == null) {
+        DeploymentInfoDto deploymentInfo = appInfoCatalog.snapshot().getDeploymentInfo();
+        if (deploymentInfo == null) {
             return ResponseEntity.notFound().build();
         }
 
-        return ResponseEntity.ok(ApiResponse.success(DeploymentInfoDto.fromEntity(appInfo.getDeploymentInfo()),
-                "배포 정보를 성공적으로 조회했습니다."));
+        return ResponseEntity.ok(ApiResponse.success(deploymentInfo, "배포 정보를 성공적으로 조회했습니다."));
+    }
+
+    /**
+     * 서비스 상태/공지 변경 스트림 (SSE)
+     * 연결 시 현재 상태를 보내고, 이후 상태나 공지가 바뀔 때마다 전송
+     */
+    @GetMapping(value = "/status/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamServiceStatus(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return statusBroadcaster.subscribe(lastEventId);
     }
 
     /**
@@ -121,12 +155,12 @@ public class AppInfoController {
     public ResponseEntity<ApiResponse<ServiceStatusInfoDto>> updateServiceStatus(
             @RequestParam ServiceStatus status,
             @RequestParam String message) {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null) {
+        Long appInfoId = appInfoCatalog.snapshot().getAppInfoId();
+        if (appInfoId == null) {
             return ResponseEntity.notFound().build();
         }
 
-        var updatedStatusInfo = appInfoService.updateServiceStatus(appInfo.getId(), status, message);
+        var updatedStatusInfo = appInfoService.updateServiceStatus(appInfoId, status, message);
         return ResponseEntity.ok(ApiResponse.success(ServiceStatusInfoDto.fromEntity(updatedStatusInfo),
                 "서비스 상태가 성공적으로 업데이트되었습니다."));
     }
@@ -139,12 +173,12 @@ public class AppInfoController {
             @RequestParam String notice,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startAt,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endAt) {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null) {
+        Long appInfoId = appInfoCatalog.snapshot().getAppInfoId();
+        if (appInfoId == null) {
             return ResponseEntity.notFound().build();
         }
 
-        var updatedStatusInfo = appInfoService.setEmergencyNotice(appInfo.getId(), notice, startAt, endAt);
+        var updatedStatusInfo = appInfoService.setEmergencyNotice(appInfoId, notice, startAt, endAt);
         return ResponseEntity.ok(ApiResponse.success(ServiceStatusInfoDto.fromEntity(updatedStatusInfo),
                 "긴급 공지가 성공적으로 설정되었습니다."));
     }
@@ -154,13 +188,27 @@ public class AppInfoController {
      */
     @DeleteMapping("/emergency-notice")
     public ResponseEntity<ApiResponse<ServiceStatusInfoDto>> clearEmergencyNotice() {
-        AppInfo appInfo = appInfoService.getLatestAppInfo();
-        if (appInfo == null) {
+        Long appInfoId = appInfoCatalog.snapshot().getAppInfoId();
+        if (appInfoId == null) {
             return ResponseEntity.notFound().build();
         }
 
-        var updatedStatusInfo = appInfoService.clearEmergencyNotice(appInfo.getId());
+        var updatedStatusInfo = appInfoService.clearEmergencyNotice(appInfoId);
         return ResponseEntity.ok(ApiResponse.success(ServiceStatusInfoDto.fromEntity(updatedStatusInfo),
                 "긴급 공지가 성공적으로 해제되었습니다."));
     }
-}
\ No newline at end of file
+
+    /**
+     * 미리 만든 본문 응답. ETag는 내려줄 표현(원본/gzip)의 바이트에서 만들고, 304에도 Vary: Accept-Encoding을 붙임
+     */
+    private ResponseEntity<byte[]> renderedDocument(String section, WebRequest request) {
+        AppInfoSnapshot snapshot = appInfoCatalog.snapshot();
+        PrecompressedBody body = snapshot.findRenderedBody(section);
+        ContentVersion version = snapshot.findVersion(section);
+        if (body == null || version == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ConditionalResponses.of(request, body.versionFor(request, version.getLastModified()), DOCUMENT_CACHE,
+                HttpHeaders.ACCEPT_ENCODING, () -> body.toResponse(request));
+    }
+}
@@ -0,0 +1,37 @@
+package com.evawova.preview.domain.app.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 앱 정보 변경분 (GET /api/v1/app/info?since=)
+ * - full이면 info에 전체 앱 정보가 담기고 (클라이언트 버전이 너무 오래됐거나 알 수 없는 경우)
+ * - 아니면 changedSections에 나열된 구역만 채워짐 (변경이 없으면 빈 목록)
+ * - 클라이언트는 version을 보관했다가 다음 요청의 since로 보냄
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AppInfoDeltaDto {
+    private long version;
+    private boolean full;
+    private AppInfoDto info;
+    private List<String> changedSections;
+
+    // 구역별 변경 내용
+    private LegalInfoDto legalInfo;
+    private CompanyInfoDto companyInfo;
+    private ServiceStatusInfoDto serviceStatusInfo;
+    private DeploymentInfoDto deploymentInfo;
+    private Map<String, Object> faqContent;
+    private List<String> notices;
+}
@@ -0,0 +1,47 @@
+package com.evawova.preview.domain.app.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 서비스 상태 스트림(SSE)으로 내려주는 상태/공지 정보
+ * FAQ, 지원 언어처럼 크고 거의 바뀌지 않는 항목은 제외
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceStatusStreamDto {
+    private ServiceStatus serviceStatus;
+    private String serviceStatusMessage;
+    private String emergencyNotice;
+    private LocalDateTime emergencyNoticeStartAt;
+    private LocalDateTime emergencyNoticeEndAt;
+    private boolean emergencyNoticeActive;
+    private String maintenanceNotice;
+    private List<String> notices;
+
+    public static ServiceStatusStreamDto from(ServiceStatusInfoDto statusInfo) {
+        if (statusInfo == null) {
+            return null;
+        }
+
+        return ServiceStatusStreamDto.builder()
+                .serviceStatus(statusInfo.getServiceStatus())
+                .serviceStatusMessage(statusInfo.getServiceStatusMessage())
+                .emergencyNotice(statusInfo.getEmergencyNotice())
+                .emergencyNoticeStartAt(statusInfo.getEmergencyNoticeStartAt())
+                .emergencyNoticeEndAt(statusInfo.getEmergencyNoticeEndAt())
+                .emergencyNoticeActive(statusInfo.isEmergencyNoticeActive())
+                .maintenanceNotice(statusInfo.getMaintenanceNotice())
+                .notices(statusInfo.getNotices())
+                .build();
+    }
+}
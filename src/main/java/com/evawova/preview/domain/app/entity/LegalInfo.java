@@ -2,6 +2,7 @@ package com.evawova.preview.domain.app.entity;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import lombok.AccessLevel;
@@ -30,6 +31,8 @@ import jakarta.persistence.EntityListeners;
 @EntityListeners(AuditingEntityListener.class)
 public class LegalInfo {
 
+    public static final List<String> CONTENT_TYPES = List.of("terms", "privacy", "license", "copyright", "cookie", "youth");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -110,6 +113,22 @@ public class LegalInfo {
         this.subscriptionInfo = subscriptionInfo;
     }
 
+    /**
+     * 법적 정보 유형별 본문 (terms, privacy, license, copyright, cookie, youth)
+     * 알 수 없는 유형이면 null
+     */
+    public String getContent(String type) {
+        return switch (type) {
+            case "terms" -> termsOfService;
+            case "privacy" -> privacyPolicy;
+            case "license" -> licenseInfo;
+            case "copyright" -> copyrightInfo;
+            case "cookie" -> cookiePolicy;
+            case "youth" -> youthProtectionPolicy;
+            default -> null;
+        };
+    }
+
     // 양방향 관계 설정
     public void setAppInfo(AppInfo appInfo) {
         this.appInfo = appInfo;
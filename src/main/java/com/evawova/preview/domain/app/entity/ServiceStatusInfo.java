@@ -116,7 +116,7 @@ public class ServiceStatusInfo {
         this.emergencyNotice = notice;
         this.emergencyNoticeStartAt = startAt;
         this.emergencyNoticeEndAt = endAt;
-        this.emergencyNoticeActive = true;
+        this.emergencyNoticeActive = isEmergencyNoticeActiveAt(startAt, endAt, LocalDateTime.now());
     }
 
     public void clearEmergencyNotice() {
@@ -126,10 +126,26 @@ public class ServiceStatusInfo {
         this.emergencyNoticeActive = false;
     }
 
-    public void updateEmergencyNoticeStatus() {
-        if (this.emergencyNoticeEndAt != null && LocalDateTime.now().isAfter(this.emergencyNoticeEndAt)) {
-            this.emergencyNoticeActive = false;
+    /**
+     * 긴급 공지 활성 여부를 주어진 시각에 맞춥니다.
+     *
+     * @return 활성 여부가 실제로 바뀌었으면 true
+     */
+    public boolean syncEmergencyNoticeStatus(LocalDateTime now) {
+        boolean active = this.emergencyNotice != null
+                && isEmergencyNoticeActiveAt(this.emergencyNoticeStartAt, this.emergencyNoticeEndAt, now);
+        if (active == this.emergencyNoticeActive) {
+            return false;
         }
+        this.emergencyNoticeActive = active;
+        return true;
+    }
+
+    /**
+     * 긴급 공지 노출 구간 [startAt, endAt) 안에 있는지 (null이면 해당 방향으로 제한 없음)
+     */
+    public static boolean isEmergencyNoticeActiveAt(LocalDateTime startAt, LocalDateTime endAt, LocalDateTime now) {
+        return (startAt == null || !now.isBefore(startAt)) && (endAt == null || now.isBefore(endAt));
     }
 
     public void setFaqContent(Map<String, Object> faqContent) {
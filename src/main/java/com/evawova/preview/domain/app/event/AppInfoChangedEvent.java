@@ -0,0 +1,20 @@
+package com.evawova.preview.domain.app.event;
+
+import com.evawova.preview.domain.common.model.AbstractDomainEvent;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 앱 정보(하위 법적/회사/서비스 상태/배포 정보 포함)가 변경됨
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class AppInfoChangedEvent extends AbstractDomainEvent {
+    private final Long appInfoId;
+
+    public AppInfoChangedEvent(Long appInfoId) {
+        super();
+        this.appInfoId = appInfoId;
+    }
+}
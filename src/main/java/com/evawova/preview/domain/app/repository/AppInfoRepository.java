@@ -1,6 +1,10 @@
 package com.evawova.preview.domain.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.evawova.preview.domain.app.entity.AppInfo;
@@ -9,7 +13,16 @@ import com.evawova.preview.domain.app.entity.AppInfo;
 public interface AppInfoRepository extends JpaRepository<AppInfo, Long> {
     // 가장 최신 버전의 앱 정보 조회
     AppInfo findTopByOrderByUpdatedAtDesc();
+
+    // 가장 최신 버전의 앱 정보를 하위 정보(법적/회사/서비스 상태/배포)와 함께 한 번에 조회
+    @Query("SELECT a FROM AppInfo a " +
+           "LEFT JOIN FETCH a.legalInfo " +
+           "LEFT JOIN FETCH a.companyInfo " +
+           "LEFT JOIN FETCH a.serviceStatusInfo " +
+           "LEFT JOIN FETCH a.deploymentInfo " +
+           "ORDER BY a.updatedAt DESC")
+    List<AppInfo> findLatestWithDetails(Pageable pageable);
     
     // 앱 버전으로 조회
     AppInfo findByAppVersion(String appVersion);
-} 
\ No newline at end of file
+} 
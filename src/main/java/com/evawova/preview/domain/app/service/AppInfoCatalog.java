@@ -0,0 +1,163 @@
+package com.evawova.preview.domain.app.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.evawova.preview.domain.app.dto.AppInfoDeltaDto;
+import com.evawova.preview.domain.app.event.AppInfoChangedEvent;
+import com.evawova.preview.domain.app.repository.AppInfoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최신 앱 정보 카탈로그 (메모리 스냅샷)
+ * - 공개 앱 정보 API는 요청마다 최신 앱 정보와 하위 정보 4개, 요소 컬렉션을 읽어야 하므로
+ *   한 번 모두 읽어 불변 스냅샷으로 보관하고 조회는 스냅샷만 사용 (DB 접근 없음)
+ * - AppInfoService 쓰기 메서드가 발행한 AppInfoChangedEvent가 커밋되면 새 스냅샷을 만들어 통째로 교체
+ * - 교체될 때마다 version이 1씩 증가
+ * - 최근 스냅샷들의 구역별 해시를 변경 기록으로 보관해 ?since= 변경분 조회에 사용
+ */
+@Slf4j
+@Component
+public class AppInfoCatalog {
+
+    private static final int CHANGE_LOG_SIZE = 64;
+
+    private final AppInfoRepository appInfoRepository;
+    private final ObjectWriter writer;
+    private final TransactionTemplate refreshTemplate;
+    private final AtomicReference<AppInfoSnapshot> snapshot = new AtomicReference<>();
+    // syncVersion -> 구역별 해시, 최근 CHANGE_LOG_SIZE개만 보관 (synchronized로 보호)
+    private final Map<Long, ChangeLogEntry> changeLog = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, ChangeLogEntry> eldest) {
+            return size() > CHANGE_LOG_SIZE;
+        }
+    };
+
+    public AppInfoCatalog(AppInfoRepository appInfoRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.appInfoRepository = appInfoRepository;
+        // 같은 내용이면 항상 같은 해시가 나오도록 Map 키 순서를 고정
+        this.writer = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+        // 커밋 직후 콜백에서도 새 커넥션/영속성 컨텍스트로 읽도록 별도 트랜잭션 사용
+        this.refreshTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 스냅샷을 읽는 다른 리스너(EmergencyNoticeScheduler 등)보다 먼저 교체
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppInfoChanged(AppInfoChangedEvent event) {
+        log.debug("앱 정보 변경 감지 (앱 정보 ID: {}), 스냅샷을 다시 만듭니다.", event.getAppInfoId());
+        refresh();
+    }
+
+    public AppInfoSnapshot snapshot() {
+        AppInfoSnapshot current = snapshot.get();
+        if (current == null) {
+            // 기동 완료 이벤트 전 호출
+            current = refresh();
+        }
+        return current;
+    }
+
+    /**
+     * 클라이언트가 가진 syncVersion 이후 바뀐 구역만 담은 변경분. 앱 정보가 없으면 null
+     * since가 변경 기록에 없으면 (너무 오래됐거나, 다른 앱 정보/다른 노드의 값이면) 전체 앱 정보를 돌려줍니다.
+     */
+    public AppInfoDeltaDto changesSince(long since) {
+        AppInfoSnapshot current = snapshot();
+        if (current.isEmpty()) {
+            return null;
+        }
+
+        ChangeLogEntry base;
+        synchronized (this) {
+            base = changeLog.get(since);
+        }
+        if (base == null || !Objects.equals(base.appInfoId, current.getAppInfoId())) {
+            return current.toFullDelta();
+        }
+        return current.toDelta(AppInfoSnapshot.SECTIONS.stream()
+                .filter(section -> !Objects.equals(base.sectionHashes.get(section),
+                        current.getSectionHashes().get(section)))
+                .toList());
+    }
+
+    /**
+     * DB에서 최신 앱 정보를 다시 읽어 스냅샷을 교체합니다.
+     * 동시에 여러 변경이 커밋되어도 버전 순서대로 하나씩 교체되도록 직렬화합니다.
+     */
+    public synchronized AppInfoSnapshot refresh() {
+        AppInfoSnapshot previous = snapshot.get();
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+
+        AppInfoSnapshot next = refreshTemplate.execute(status ->
+                appInfoRepository.findLatestWithDetails(PageRequest.ofSize(1)).stream()
+                        .findFirst()
+                        .map(appInfo -> AppInfoSnapshot.of(version, appInfo, writer))
+                        .orElseGet(() -> AppInfoSnapshot.empty(version)));
+        next = record(previous, next);
+        snapshot.set(next);
+        log.info("앱 정보 스냅샷 로딩 완료: 버전 {}, 앱 정보 ID {}", next.getVersion(), next.getAppInfoId());
+        return next;
+    }
+
+    /**
+     * 변경 기록에 추가합니다. 내용이 바뀌었는데 수정 시각이 앞서지 않았다면 (요소 컬렉션만 바뀐 경우 등)
+     * 이전 syncVersion 다음 값을 사용해 같은 버전에 다른 내용이 기록되지 않도록 합니다.
+     */
+    private AppInfoSnapshot record(AppInfoSnapshot previous, AppInfoSnapshot next) {
+        if (next.isEmpty()) {
+            return next;
+        }
+        if (previous != null && !previous.isEmpty()
+                && next.getSyncVersion() <= previous.getSyncVersion()
+                && !previous.getSectionHashes().equals(next.getSectionHashes())) {
+            next = next.withSyncVersion(previous.getSyncVersion() + 1);
+        }
+        changeLog.put(next.getSyncVersion(), new ChangeLogEntry(next.getAppInfoId(), next.getSectionHashes()));
+        return next;
+    }
+
+    /**
+     * 변경 기록 항목 (구역별 내용 해시만 보관)
+     */
+    private static final class ChangeLogEntry {
+
+        private final Long appInfoId;
+        private final Map<String, String> sectionHashes;
+
+        private ChangeLogEntry(Long appInfoId, Map<String, String> sectionHashes) {
+            this.appInfoId = appInfoId;
+            this.sectionHashes = sectionHashes;
+        }
+    }
+}
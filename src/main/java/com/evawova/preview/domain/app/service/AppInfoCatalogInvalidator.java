@@ -0,0 +1,45 @@
+package com.evawova.preview.domain.app.service;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evawova.preview.domain.app.event.AppInfoChangedEvent;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationHandler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 앱 정보가 바뀐 트랜잭션에 무효화 기록을 남기고, 다른 노드의 기록을 받으면 이 노드에 AppInfoChangedEvent를 다시 발행
+ * - 트랜잭션 밖에서 발행하므로 스냅샷 교체, 긴급 공지 타이머, 상태 스트림이 커밋 직후와 같은 순서로 바로 반응
+ * - 기록 리스너는 트랜잭션 안에서만 실행되므로 다시 발행한 이벤트가 또 기록되지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AppInfoCatalogInvalidator implements CacheInvalidationHandler {
+
+    static final String CACHE_NAME = "app-info";
+
+    private final CacheInvalidationBus invalidationBus;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordAppInfoChanged(AppInfoChangedEvent event) {
+        invalidationBus.publish(CACHE_NAME, String.valueOf(event.getAppInfoId()));
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String appInfoId) {
+        log.debug("다른 노드의 앱 정보 변경 (앱 정보 ID: {})", appInfoId);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId == null ? null : Long.valueOf(appInfoId)));
+    }
+}
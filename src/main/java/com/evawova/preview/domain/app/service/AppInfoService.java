@@ -6,7 +6,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +16,7 @@ import com.evawova.preview.domain.app.entity.DeploymentInfo;
 import com.evawova.preview.domain.app.entity.LegalInfo;
 import com.evawova.preview.domain.app.entity.ServiceStatus;
 import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.evawova.preview.domain.app.event.AppInfoChangedEvent;
 import com.evawova.preview.domain.app.repository.AppInfoRepository;
 import com.evawova.preview.domain.app.repository.CompanyInfoRepository;
 import com.evawova.preview.domain.app.repository.DeploymentInfoRepository;
@@ -36,6 +37,7 @@ public class AppInfoService {
     private final CompanyInfoRepository companyInfoRepository;
     private final ServiceStatusInfoRepository serviceStatusInfoRepository;
     private final DeploymentInfoRepository deploymentInfoRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * 최신 앱 정보 조회
@@ -113,7 +115,9 @@ public class AppInfoService {
         deploymentInfo = deploymentInfoRepository.save(deploymentInfo);
         appInfo.setDeploymentInfo(deploymentInfo);
         
-        return appInfoRepository.save(appInfo);
+        appInfo = appInfoRepository.save(appInfo);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfo.getId()));
+        return appInfo;
     }
     
     /**
@@ -166,6 +170,7 @@ public class AppInfoService {
             "성능 개선 및 버그 수정"
         );
         deploymentInfoRepository.save(deploymentInfo);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfo2.getId()));
         
         return List.of(appInfo1, appInfo2);
     }
@@ -180,6 +185,7 @@ public class AppInfoService {
         }
         
         statusInfo.updateServiceStatus(status, message);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId));
         return serviceStatusInfoRepository.save(statusInfo);
     }
     
@@ -194,6 +200,7 @@ public class AppInfoService {
         }
         
         statusInfo.setEmergencyNotice(notice, startAt, endAt);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId));
         return serviceStatusInfoRepository.save(statusInfo);
     }
     
@@ -207,6 +214,7 @@ public class AppInfoService {
         }
         
         statusInfo.clearEmergencyNotice();
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId));
         return serviceStatusInfoRepository.save(statusInfo);
     }
     
@@ -221,19 +229,24 @@ public class AppInfoService {
         }
         
         deployInfo.updateDeploymentInfo(deploymentInfo, deploymentStatus, deploymentNotes);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId));
         return deploymentInfoRepository.save(deployInfo);
     }
     
     /**
-     * 긴급 공지 상태 자동 업데이트 (스케줄러에서 호출)
+     * 긴급 공지 활성 상태를 현재 시각에 맞춤 (EmergencyNoticeScheduler 타이머에서 호출)
+     * 상태가 실제로 바뀐 경우에만 저장하고 변경 이벤트를 발행합니다.
+     *
+     * @return 상태가 바뀌었으면 true
      */
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
-    public void updateEmergencyNoticeStatus() {
-        AppInfo appInfo = getLatestAppInfo();
-        if (appInfo != null && appInfo.getServiceStatusInfo() != null) {
-            ServiceStatusInfo statusInfo = appInfo.getServiceStatusInfo();
-            statusInfo.updateEmergencyNoticeStatus();
-            serviceStatusInfoRepository.save(statusInfo);
+    public boolean syncEmergencyNoticeStatus(Long appInfoId) {
+        ServiceStatusInfo statusInfo = serviceStatusInfoRepository.findByAppInfoId(appInfoId);
+        if (statusInfo == null || !statusInfo.syncEmergencyNoticeStatus(LocalDateTime.now())) {
+            return false;
         }
+
+        serviceStatusInfoRepository.save(statusInfo);
+        eventPublisher.publishEvent(new AppInfoChangedEvent(appInfoId));
+        return true;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,310 @@
+package com.evawova.preview.domain.app.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import com.evawova.preview.common.response.ApiResponse;
+import com.evawova.preview.common.response.ContentVersion;
+import com.evawova.preview.common.response.PrecompressedBody;
+import com.evawova.preview.domain.app.dto.AppInfoDeltaDto;
+import com.evawova.preview.domain.app.dto.AppInfoDto;
+import com.evawova.preview.domain.app.dto.CompanyInfoDto;
+import com.evawova.preview.domain.app.dto.DeploymentInfoDto;
+import com.evawova.preview.domain.app.dto.ServiceStatusInfoDto;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.LegalInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.Getter;
+
+/**
+ * 특정 시점의 최신 앱 정보 (메모리 스냅샷)
+ * - 엔티티의 연관/컬렉션을 모두 복사해 만든 DTO만 보관하므로 영속성 컨텍스트 없이 직렬화할 수 있음
+ * - 생성 후 변경되지 않으며, DTO는 읽기 전용으로 공유됩니다.
+ * - 구역(info, legal/{type}, company, faq)별 응답 버전(ETag/Last-Modified)을 함께 계산해 둠
+ * - 변경분 동기화(?since=)를 위해 구역(legal, company, status, deployment, faq, notices)별 내용 해시와
+ *   syncVersion(하위 정보 포함 마지막 수정 시각, ms)을 보관. syncVersion은 DB 값에서 나오므로 노드/재기동과 무관
+ * - 크고 거의 바뀌지 않는 법적 문서와 FAQ는 응답 본문(ApiResponse)까지 미리 직렬화/압축해 둠
+ *   (본문의 timestamp는 내용의 마지막 수정 시각이라 같은 내용이면 노드/재생성과 무관하게 같은 바이트와 ETag가 나옴.
+ *   원본과 압축본은 다른 표현이므로 ETag는 PrecompressedBody의 인코딩별 ETag를 사용)
+ */
+@Getter
+public final class AppInfoSnapshot {
+
+    public static final String INFO = "info";
+    public static final String COMPANY = "company";
+    public static final String FAQ = "faq";
+
+    public static final String SECTION_LEGAL = "legal";
+    public static final String SECTION_STATUS = "status";
+    public static final String SECTION_DEPLOYMENT = "deployment";
+    public static final String SECTION_NOTICES = "notices";
+    public static final List<String> SECTIONS =
+            List.of(SECTION_LEGAL, COMPANY, SECTION_STATUS, SECTION_DEPLOYMENT, FAQ, SECTION_NOTICES);
+
+    static final String LEGAL_MESSAGE = "법적 정보를 성공적으로 조회했습니다.";
+    static final String FAQ_MESSAGE = "FAQ 정보를 성공적으로 조회했습니다.";
+
+    private final long version;
+    private final long syncVersion;
+    private final Long appInfoId;
+    private final AppInfoDto info;
+    private final Map<String, String> legalContents;
+    private final Map<String, ContentVersion> versions;
+    private final Map<String, PrecompressedBody> renderedBodies;
+    private final Map<String, String> sectionHashes;
+
+    private AppInfoSnapshot(long version, long syncVersion, Long appInfoId, AppInfoDto info,
+            Map<String, String> legalContents, Map<String, ContentVersion> versions,
+            Map<String, PrecompressedBody> renderedBodies, Map<String, String> sectionHashes) {
+        this.version = version;
+        this.syncVersion = syncVersion;
+        this.appInfoId = appInfoId;
+        this.info = info;
+        this.legalContents = legalContents;
+        this.versions = versions;
+        this.renderedBodies = renderedBodies;
+        this.sectionHashes = sectionHashes;
+    }
+
+    public static String legal(String type) {
+        return "legal/" + type;
+    }
+
+    /**
+     * 앱 정보가 없을 때의 스냅샷
+     */
+    public static AppInfoSnapshot empty(long version) {
+        return new AppInfoSnapshot(version, 0, null, null, Map.of(), Map.of(), Map.of(), Map.of());
+    }
+
+    /**
+     * 앱 정보 엔티티로 스냅샷을 만듭니다. 지연 로딩 컬렉션을 읽으므로 트랜잭션 안에서 호출해야 합니다.
+     *
+     * @param writer 응답 버전 계산과 본문 직렬화용 (같은 내용이면 같은 해시가 나오도록 Map 키 순서가 고정된 writer)
+     */
+    public static AppInfoSnapshot of(long version, AppInfo appInfo, ObjectWriter writer) {
+        AppInfoDto info = copyOf(AppInfoDto.fromEntity(appInfo));
+        Instant updatedAt = updatedAt(appInfo);
+        Instant lastModified = updatedAt.truncatedTo(ChronoUnit.SECONDS);
+
+        Map<String, String> legalContents = new HashMap<>();
+        Map<String, ContentVersion> versions = new HashMap<>();
+        Map<String, PrecompressedBody> renderedBodies = new HashMap<>();
+        versions.put(INFO, contentVersion(writer, info, lastModified));
+
+        LegalInfo legalInfo = appInfo.getLegalInfo();
+        if (legalInfo != null) {
+            for (String type : LegalInfo.CONTENT_TYPES) {
+                String content = legalInfo.getContent(type);
+                if (content != null) {
+                    legalContents.put(type, content);
+                    versions.put(legal(type), contentVersion(writer, content, lastModified));
+                    renderedBodies.put(legal(type), render(writer, content, LEGAL_MESSAGE, lastModified));
+                }
+            }
+        }
+        if (info.getCompanyInfo() != null) {
+            versions.put(COMPANY, contentVersion(writer, info.getCompanyInfo(), lastModified));
+        }
+        if (info.getServiceStatusInfo() != null && info.getServiceStatusInfo().getFaqContent() != null) {
+            versions.put(FAQ, contentVersion(writer, info.getServiceStatusInfo().getFaqContent(), lastModified));
+            renderedBodies.put(FAQ, render(writer, info.getServiceStatusInfo().getFaqContent(), FAQ_MESSAGE,
+                    lastModified));
+        }
+
+        Map<String, String> sectionHashes = new HashMap<>();
+        for (String section : SECTIONS) {
+            Object content = section(info, section);
+            if (content != null) {
+                sectionHashes.put(section, contentVersion(writer, content, lastModified).getEtag());
+            }
+        }
+
+        return new AppInfoSnapshot(version, updatedAt.toEpochMilli(), appInfo.getId(), info,
+                Map.copyOf(legalContents), Map.copyOf(versions), Map.copyOf(renderedBodies), Map.copyOf(sectionHashes));
+    }
+
+    /**
+     * syncVersion만 바꾼 스냅샷 (내용이 바뀌었는데 수정 시각이 앞서지 않은 경우 AppInfoCatalog가 사용)
+     */
+    AppInfoSnapshot withSyncVersion(long syncVersion) {
+        return new AppInfoSnapshot(version, syncVersion, appInfoId, info, legalContents, versions, renderedBodies,
+                sectionHashes);
+    }
+
+    /**
+     * 전체 앱 정보를 담은 변경분 (클라이언트 버전을 알 수 없을 때)
+     */
+    public AppInfoDeltaDto toFullDelta() {
+        return AppInfoDeltaDto.builder()
+                .version(syncVersion)
+                .full(true)
+                .info(info)
+                .build();
+    }
+
+    /**
+     * 주어진 구역만 담은 변경분
+     */
+    public AppInfoDeltaDto toDelta(List<String> changedSections) {
+        AppInfoDeltaDto.AppInfoDeltaDtoBuilder delta = AppInfoDeltaDto.builder()
+                .version(syncVersion)
+                .changedSections(changedSections);
+        for (String section : changedSections) {
+            switch (section) {
+                case SECTION_LEGAL -> delta.legalInfo(info.getLegalInfo());
+                case COMPANY -> delta.companyInfo(info.getCompanyInfo());
+                case SECTION_STATUS -> delta.serviceStatusInfo(statusSection(info.getServiceStatusInfo()));
+                case SECTION_DEPLOYMENT -> delta.deploymentInfo(info.getDeploymentInfo());
+                case FAQ -> delta.faqContent(getFaqContent());
+                case SECTION_NOTICES -> delta.notices(
+                        getServiceStatusInfo() != null ? getServiceStatusInfo().getNotices() : null);
+                default -> throw new IllegalArgumentException("알 수 없는 앱 정보 구역입니다: " + section);
+            }
+        }
+        return delta.build();
+    }
+
+    private static Object section(AppInfoDto info, String section) {
+        ServiceStatusInfoDto statusInfo = info.getServiceStatusInfo();
+        return switch (section) {
+            case SECTION_LEGAL -> info.getLegalInfo();
+            case COMPANY -> info.getCompanyInfo();
+            case SECTION_STATUS -> statusSection(statusInfo);
+            case SECTION_DEPLOYMENT -> info.getDeploymentInfo();
+            case FAQ -> statusInfo != null ? statusInfo.getFaqContent() : null;
+            case SECTION_NOTICES -> statusInfo != null ? statusInfo.getNotices() : null;
+            default -> throw new IllegalArgumentException("알 수 없는 앱 정보 구역입니다: " + section);
+        };
+    }
+
+    /**
+     * 서비스 상태 구역 (FAQ, 공지 목록은 별도 구역이고, 수정 시각은 두 구역 변경에도 바뀌므로 제외)
+     */
+    private static ServiceStatusInfoDto statusSection(ServiceStatusInfoDto statusInfo) {
+        if (statusInfo == null) {
+            return null;
+        }
+        return ServiceStatusInfoDto.builder()
+                .id(statusInfo.getId())
+                .serviceStatus(statusInfo.getServiceStatus())
+                .serviceStatusMessage(statusInfo.getServiceStatusMessage())
+                .emergencyNotice(statusInfo.getEmergencyNotice())
+                .emergencyNoticeStartAt(statusInfo.getEmergencyNoticeStartAt())
+                .emergencyNoticeEndAt(statusInfo.getEmergencyNoticeEndAt())
+                .emergencyNoticeActive(statusInfo.isEmergencyNoticeActive())
+                .maintenanceNotice(statusInfo.getMaintenanceNotice())
+                .supportedLanguages(statusInfo.getSupportedLanguages())
+                .build();
+    }
+
+    public boolean isEmpty() {
+        return info == null;
+    }
+
+    /**
+     * 구역의 응답 버전. 앱 정보나 해당 구역 내용이 없으면 null
+     */
+    public ContentVersion findVersion(String section) {
+        return versions.get(section);
+    }
+
+    /**
+     * 미리 만들어 둔 구역의 응답 본문. 해당 구역 내용이 없으면 null
+     */
+    public PrecompressedBody findRenderedBody(String section) {
+        return renderedBodies.get(section);
+    }
+
+    public String getLegalContent(String type) {
+        return legalContents.get(type);
+    }
+
+    public CompanyInfoDto getCompanyInfo() {
+        return info != null ? info.getCompanyInfo() : null;
+    }
+
+    public ServiceStatusInfoDto getServiceStatusInfo() {
+        return info != null ? info.getServiceStatusInfo() : null;
+    }
+
+    public Map<String, Object> getFaqContent() {
+        ServiceStatusInfoDto statusInfo = getServiceStatusInfo();
+        return statusInfo != null ? statusInfo.getFaqContent() : null;
+    }
+
+    public DeploymentInfoDto getDeploymentInfo() {
+        return info != null ? info.getDeploymentInfo() : null;
+    }
+
+    /**
+     * fromEntity가 넘겨준 엔티티 컬렉션(PersistentBag 등)을 읽기 전용 복사본으로 바꿉니다.
+     */
+    private static AppInfoDto copyOf(AppInfoDto info) {
+        if (info.getLegalInfo() != null) {
+            info.getLegalInfo().setTermsOfServiceTranslations(
+                    copyOfMap(info.getLegalInfo().getTermsOfServiceTranslations()));
+        }
+        if (info.getCompanyInfo() != null) {
+            info.getCompanyInfo().setSocialMediaLinks(copyOfMap(info.getCompanyInfo().getSocialMediaLinks()));
+        }
+        ServiceStatusInfoDto statusInfo = info.getServiceStatusInfo();
+        if (statusInfo != null) {
+            statusInfo.setNotices(statusInfo.getNotices() != null
+                    ? List.copyOf(statusInfo.getNotices()) : null);
+            statusInfo.setFaqContent(copyOfMap(statusInfo.getFaqContent()));
+            statusInfo.setSupportedLanguages(statusInfo.getSupportedLanguages() != null
+                    ? Collections.unmodifiableSet(new LinkedHashSet<>(statusInfo.getSupportedLanguages())) : null);
+        }
+        return info;
+    }
+
+    private static <V> Map<String, V> copyOfMap(Map<String, V> source) {
+        return source != null ? Collections.unmodifiableMap(new LinkedHashMap<>(source)) : null;
+    }
+
+    private static PrecompressedBody render(ObjectWriter writer, Object data, String message, Instant lastModified) {
+        LocalDateTime timestamp = LocalDateTime.ofInstant(lastModified, ZoneId.systemDefault());
+        try {
+            return PrecompressedBody.of(writer.writeValueAsBytes(ApiResponse.success(data, message, timestamp)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("앱 정보 응답 본문 직렬화 실패", e);
+        }
+    }
+
+    private static ContentVersion contentVersion(ObjectWriter writer, Object body, Instant lastModified) {
+        try {
+            return ContentVersion.of(writer.writeValueAsBytes(body), lastModified);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("앱 정보 응답 버전 계산 실패", e);
+        }
+    }
+
+    /**
+     * 앱 정보와 하위 정보 중 가장 최근 수정 시각
+     */
+    private static Instant updatedAt(AppInfo appInfo) {
+        return Stream.of(
+                        appInfo.getUpdatedAt(),
+                        appInfo.getLegalInfo() != null ? appInfo.getLegalInfo().getUpdatedAt() : null,
+                        appInfo.getCompanyInfo() != null ? appInfo.getCompanyInfo().getUpdatedAt() : null,
+                        appInfo.getServiceStatusInfo() != null ? appInfo.getServiceStatusInfo().getUpdatedAt() : null,
+                        appInfo.getDeploymentInfo() != null ? appInfo.getDeploymentInfo().getUpdatedAt() : null)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .map(time -> time.atZone(ZoneId.systemDefault()).toInstant())
+                .orElseGet(Instant::now);
+    }
+}
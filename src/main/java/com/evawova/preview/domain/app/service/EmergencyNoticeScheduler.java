@@ -0,0 +1,148 @@
+package com.evawova.preview.domain.app.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.evawova.preview.domain.app.dto.ServiceStatusInfoDto;
+import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.evawova.preview.domain.app.event.AppInfoChangedEvent;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 긴급 공지 활성/만료 타이머
+ * - 1분마다 폴링하며 매번 저장하던 방식 대신, 다음 상태 전환 시각(startAt 또는 endAt)에 타이머 하나만 걸어 둠
+ * - 앱 정보가 바뀌어 스냅샷이 교체될 때마다, 그리고 기동 시 스냅샷 기준으로 타이머를 다시 검
+ * - 타이머가 울리면 AppInfoService가 상태를 다시 계산하고 실제로 바뀐 경우에만 저장
+ */
+@Slf4j
+@Component
+public class EmergencyNoticeScheduler {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final AppInfoCatalog appInfoCatalog;
+    private final AppInfoService appInfoService;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private ScheduledFuture<?> pending;
+    private LocalDateTime armedAt;
+
+    @Autowired
+    public EmergencyNoticeScheduler(AppInfoCatalog appInfoCatalog, AppInfoService appInfoService) {
+        this(appInfoCatalog, appInfoService, Clock.systemDefaultZone());
+    }
+
+    EmergencyNoticeScheduler(AppInfoCatalog appInfoCatalog, AppInfoService appInfoService, Clock clock) {
+        this.appInfoCatalog = appInfoCatalog;
+        this.appInfoService = appInfoService;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "emergency-notice-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 스냅샷을 읽으므로 AppInfoCatalog가 스냅샷을 교체한 뒤에 실행
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rearm();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppInfoChanged(AppInfoChangedEvent event) {
+        rearm();
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 현재 스냅샷의 긴급 공지 기준으로 다음 전환 시각에 타이머를 겁니다. 같은 시각에 이미 걸려 있으면 그대로 둡니다.
+     */
+    public synchronized void rearm() {
+        AppInfoSnapshot snapshot = appInfoCatalog.snapshot();
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime next = nextTransition(snapshot.getServiceStatusInfo(), now);
+        if (pending != null && !pending.isDone() && Objects.equals(next, armedAt)) {
+            return;
+        }
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        armedAt = next;
+        pending = null;
+        if (next == null) {
+            return;
+        }
+
+        Long appInfoId = snapshot.getAppInfoId();
+        long delay = Math.max(0, Duration.between(now, next).toMillis());
+        pending = scheduler.schedule(() -> fire(appInfoId), delay, TimeUnit.MILLISECONDS);
+        log.debug("긴급 공지 타이머 설정: {} (앱 정보 ID: {})", next, appInfoId);
+    }
+
+    synchronized LocalDateTime getArmedAt() {
+        return armedAt;
+    }
+
+    private void fire(Long appInfoId) {
+        try {
+            // 상태가 바뀌면 변경 이벤트 커밋 후 onAppInfoChanged에서 다음 타이머를 검
+            if (!appInfoService.syncEmergencyNoticeStatus(appInfoId)) {
+                rearm();
+            }
+        } catch (RuntimeException e) {
+            log.warn("긴급 공지 상태 갱신 실패, {}초 후 재시도합니다. (앱 정보 ID: {})",
+                    RETRY_DELAY.toSeconds(), appInfoId, e);
+            scheduler.schedule(this::rearm, RETRY_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 다음 상태 전환 시각. 저장된 활성 여부가 지금 기준과 다르면 now, 더 이상 전환이 없으면 null
+     */
+    static LocalDateTime nextTransition(ServiceStatusInfoDto statusInfo, LocalDateTime now) {
+        if (statusInfo == null || statusInfo.getEmergencyNotice() == null) {
+            return null;
+        }
+
+        LocalDateTime startAt = statusInfo.getEmergencyNoticeStartAt();
+        LocalDateTime endAt = statusInfo.getEmergencyNoticeEndAt();
+        if (ServiceStatusInfo.isEmergencyNoticeActiveAt(startAt, endAt, now) != statusInfo.isEmergencyNoticeActive()) {
+            return now;
+        }
+        if (startAt != null && now.isBefore(startAt)) {
+            return startAt;
+        }
+        if (endAt != null && now.isBefore(endAt)) {
+            return endAt;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,255 @@
+package com.evawova.preview.domain.app.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.evawova.preview.domain.app.dto.ServiceStatusStreamDto;
+import com.evawova.preview.domain.app.event.AppInfoChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 서비스 상태/공지 SSE 스트림
+ * - 앱 정보 스냅샷이 교체될 때 상태/공지 내용이 실제로 바뀐 경우에만 연결된 모든 클라이언트에 전송
+ *   (서비스 상태 변경, 긴급 공지 설정/해제, 긴급 공지 타이머에 의한 활성/만료)
+ * - 연결은 서블릿 비동기 요청으로 유지하므로 대기 중인 연결이 스레드를 점유하지 않음
+ * - 전송은 연결마다 가상 스레드에서 수행해 느린 클라이언트가 다른 연결을 막지 않도록 하고,
+ *   이벤트가 전체 상태이므로 밀린 이벤트는 최신 하나만 보냄
+ * - 이벤트 ID는 "{기동 시각}-{순번}". 재연결 시 Last-Event-ID가 현재 이벤트와 같으면 다시 보내지 않고,
+ *   다르면 (다른 노드/재기동 전 ID 포함) 현재 상태를 바로 보냄
+ * - heartbeat 주기마다 주석 이벤트를 보내 프록시의 유휴 연결 종료를 막고 끊긴 연결을 정리
+ */
+@Slf4j
+@Component
+public class ServiceStatusBroadcaster {
+
+    static final String EVENT_NAME = "status";
+    private static final long RECONNECT_MILLIS = 3000;
+
+    private final AppInfoCatalog appInfoCatalog;
+    private final ObjectMapper objectMapper;
+    private final Duration timeout;
+    private final Duration heartbeat;
+    private final String epoch = Long.toString(System.currentTimeMillis());
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeatScheduler;
+
+    private volatile StatusEvent current;
+    private long sequence;
+
+    @Autowired
+    public ServiceStatusBroadcaster(AppInfoCatalog appInfoCatalog, ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app-info.status-stream.timeout:PT30M}") Duration timeout,
+            @Value("${app-info.status-stream.heartbeat:PT15S}") Duration heartbeat) {
+        this(appInfoCatalog, objectMapper, timeout, heartbeat);
+        Gauge.builder("app.status-stream.connections", subscribers, Set::size)
+                .register(meterRegistry);
+    }
+
+    ServiceStatusBroadcaster(AppInfoCatalog appInfoCatalog, ObjectMapper objectMapper, Duration timeout,
+            Duration heartbeat) {
+        this.appInfoCatalog = appInfoCatalog;
+        this.objectMapper = objectMapper;
+        this.timeout = timeout;
+        this.heartbeat = heartbeat;
+        this.heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "status-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeatScheduler.scheduleAtFixedRate(this::sendHeartbeats,
+                heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeatScheduler.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        senders.shutdownNow();
+    }
+
+    /**
+     * 스냅샷을 읽으므로 AppInfoCatalog가 스냅샷을 교체한 뒤에 실행
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        publishIfChanged();
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAppInfoChanged(AppInfoChangedEvent event) {
+        publishIfChanged();
+    }
+
+    /**
+     * 새 구독을 등록합니다. 현재 상태를 아직 받지 못한 클라이언트에는 바로 현재 상태를 보냅니다.
+     *
+     * @param lastEventId 재연결 시 브라우저가 보내는 마지막 이벤트 ID (없으면 null)
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, lastEventId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+
+        StatusEvent event = currentEvent();
+        if (event != null) {
+            subscriber.offer(event);
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    StatusEvent currentEvent() {
+        if (current == null) {
+            publishIfChanged();
+        }
+        return current;
+    }
+
+    /**
+     * 현재 스냅샷의 상태/공지가 마지막 이벤트와 다르면 새 이벤트를 만들어 모든 구독자에게 보냅니다.
+     */
+    synchronized void publishIfChanged() {
+        ServiceStatusStreamDto status = ServiceStatusStreamDto.from(appInfoCatalog.snapshot().getServiceStatusInfo());
+        if (status == null) {
+            return;
+        }
+
+        String data = serialize(status);
+        if (current != null && current.data.equals(data)) {
+            return;
+        }
+        StatusEvent event = new StatusEvent(++sequence, epoch + "-" + sequence, data);
+        current = event;
+        log.debug("서비스 상태 이벤트 전송: {} (구독자 {}명)", event.getId(), subscribers.size());
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private void sendHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            // SseEventBuilder는 전송 시 내부 버퍼를 비우므로 연결마다 새로 만듦
+            senders.execute(() -> subscriber.send(SseEmitter.event().comment("heartbeat")));
+        }
+    }
+
+    private String serialize(ServiceStatusStreamDto status) {
+        try {
+            return objectMapper.writeValueAsString(status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("서비스 상태 이벤트 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 한 번 직렬화해 모든 구독자에게 그대로 보내는 상태 이벤트
+     */
+    @Getter
+    static final class StatusEvent {
+
+        private final long sequence;
+        private final String id;
+        private final String data;
+
+        StatusEvent(long sequence, String id, String data) {
+            this.sequence = sequence;
+            this.id = id;
+            this.data = data;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final AtomicReference<StatusEvent> latest = new AtomicReference<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile String lastSentId;
+
+        private Subscriber(SseEmitter emitter, String lastEventId) {
+            this.emitter = emitter;
+            this.lastSentId = lastEventId;
+        }
+
+        private void offer(StatusEvent event) {
+            latest.accumulateAndGet(event,
+                    (previous, next) -> previous == null || next.sequence > previous.sequence ? next : previous);
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        /**
+         * 밀린 이벤트 중 최신 하나만 보냅니다. 한 연결에는 한 번에 하나의 가상 스레드만 전송합니다.
+         */
+        private void drain() {
+            do {
+                StatusEvent event = latest.get();
+                if (!Objects.equals(event.id, lastSentId)) {
+                    if (!send(SseEmitter.event()
+                            .id(event.id)
+                            .name(EVENT_NAME)
+                            .reconnectTime(RECONNECT_MILLIS)
+                            .data(event.data, MediaType.APPLICATION_JSON))) {
+                        return;
+                    }
+                    lastSentId = event.id;
+                }
+                draining.set(false);
+            } while (!Objects.equals(latest.get().id, lastSentId) && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트 연결 종료
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
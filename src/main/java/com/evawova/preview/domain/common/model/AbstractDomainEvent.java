@@ -5,6 +5,10 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
+/**
+ * 도메인 이벤트 기본 클래스
+ * 아웃박스 JSON에서 복원할 때는 하위 클래스의 private 기본 생성자로 만든 뒤 필드(eventId, occurredOn 포함)를 채움
+ */
 @Getter
 public abstract class AbstractDomainEvent implements DomainEvent {
     private final String eventId;
@@ -2,12 +2,13 @@ package com.evawova.preview.domain.user.controller;
 
 import com.evawova.preview.common.exception.ApiException;
 import com.evawova.preview.common.response.ApiResponse;
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
 import com.evawova.preview.domain.user.dto.SocialLoginRequest;
-import com.evawova.preview.domain.user.dto.UserDto;
 import com.evawova.preview.domain.user.dto.UserLoginLogDto;
-import com.evawova.preview.domain.user.entity.User;
 import com.evawova.preview.domain.user.entity.UserLoginLog;
 import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.domain.user.service.SocialLoginResult;
 import com.evawova.preview.domain.user.service.UserLoginLogService;
 import com.evawova.preview.domain.user.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,7 +23,6 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -30,6 +30,8 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final int MAX_LOGIN_HISTORY_PAGE_SIZE = 100;
+
     private final UserRepository userRepository;
     private final UserLoginLogService loginLogService;
     private final UserService userService;
@@ -40,16 +42,14 @@ public class AuthController {
             HttpServletRequest httpRequest) {
 
         // 소셜 로그인 처리
-        UserDto userDto = userService.socialLogin(request);
+        SocialLoginResult result = userService.socialLogin(request);
 
-        // 로그인 성공 로그
-        User user = userRepository.findById(userDto.getId())
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-        UserLoginLog loginLog = loginLogService.logSuccessfulLogin(user, httpRequest);
+        // 로그인 성공 로그 (로그인 처리에서 조회한 사용자를 그대로 사용)
+        UserLoginLog loginLog = loginLogService.logSuccessfulLogin(result.getUser(), httpRequest);
 
         // 응답 데이터 구성
         Map<String, Object> response = new HashMap<>();
-        response.put("user", userDto);
+        response.put("user", result.getUserDto());
         response.put("loginInfo", Map.of(
                 "loginAt", loginLog.getLoginAt(),
                 "ipAddress", loginLog.getIpAddress(),
@@ -67,36 +67,26 @@ public class AuthController {
     }
 
     @GetMapping("/login-history/{userId}")
-    public ResponseEntity<ApiResponse<List<UserLoginLogDto>>> getLoginHistory(
+    public ResponseEntity<ApiResponse<CursorPage<UserLoginLogDto>>> getLoginHistory(
             @PathVariable Long userId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(required = false) Boolean success) {
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
-
-        List<UserLoginLogDto> loginHistory;
-        if (startDate != null && endDate != null) {
-            LocalDateTime startDateTime = startDate.atStartOfDay();
-            LocalDateTime endDateTime = endDate.atTime(LocalTime.MAX);
-            loginHistory = loginLogService.getLoginHistoryByDateRange(user, startDateTime, endDateTime)
-                    .stream()
-                    .map(UserLoginLogDto::fromEntity)
-                    .toList();
-        } else {
-            loginHistory = loginLogService.getLoginHistory(user)
-                    .stream()
-                    .map(UserLoginLogDto::fromEntity)
-                    .toList();
-        }
+            @RequestParam(required = false) Boolean success,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
-        if (success != null) {
-            loginHistory = loginHistory.stream()
-                    .filter(log -> log.isSuccessful() == success)
-                    .toList();
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다.");
         }
 
+        LocalDateTime from = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime to = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
+        int pageSize = Math.min(Math.max(size, 1), MAX_LOGIN_HISTORY_PAGE_SIZE);
+
+        CursorPage<UserLoginLogDto> loginHistory = loginLogService
+                .getLoginHistory(userId, from, to, success, KeysetCursor.decode(cursor, KeysetCursor.FIRST_DESC), pageSize)
+                .map(UserLoginLogDto::fromEntity);
+
         return ResponseEntity.ok(ApiResponse.success(loginHistory, "로그인 내역을 조회했습니다."));
     }
-}
\ No newline at end of file
+}
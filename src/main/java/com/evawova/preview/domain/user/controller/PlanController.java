@@ -1,11 +1,15 @@
 package com.evawova.preview.domain.user.controller;
 
+import com.evawova.preview.common.response.ConditionalResponses;
 import com.evawova.preview.domain.user.dto.PlanDto;
 import com.evawova.preview.domain.user.service.PlanService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -15,23 +19,39 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class PlanController {
 
+    /**
+     * 플랜은 거의 바뀌지 않으므로 10분간 재검증 없이 사용하고, 이후에는 카탈로그 버전으로 재검증
+     */
+    private static final CacheControl PLAN_CACHE = CacheControl.maxAge(Duration.ofMinutes(10)).cachePublic();
+
     private final PlanService planService;
 
     @GetMapping
-    public ResponseEntity<List<PlanDto>> getAllPlans() {
-        return ResponseEntity.ok(planService.getAllPlans());
+    public ResponseEntity<List<PlanDto>> getAllPlans(WebRequest request) {
+        return ConditionalResponses.of(request, planService.getCatalogVersion(), PLAN_CACHE,
+                () -> ResponseEntity.ok(planService.getAllPlans()));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<PlanDto> getPlanById(@PathVariable Long id) {
-        return ResponseEntity.ok(planService.getPlanById(id));
+    public ResponseEntity<PlanDto> getPlanById(@PathVariable Long id, WebRequest request) {
+        // 메모리 조회이므로 먼저 찾아서, 없는 플랜은 캐시 헤더 없이 404
+        PlanDto plan = planService.getPlanById(id);
+        return ConditionalResponses.of(request, planService.getCatalogVersion(), PLAN_CACHE,
+                () -> ResponseEntity.ok(plan));
     }
 
     @GetMapping("/compare")
     public ResponseEntity<Map<String, Object>> comparePlans(
             @RequestParam Long plan1Id,
-            @RequestParam Long plan2Id
+            @RequestParam Long plan2Id,
+            WebRequest request
     ) {
+        Map<String, Object> comparisonResult = compare(plan1Id, plan2Id);
+        return ConditionalResponses.of(request, planService.getCatalogVersion(), PLAN_CACHE,
+                () -> ResponseEntity.ok(comparisonResult));
+    }
+
+    private Map<String, Object> compare(Long plan1Id, Long plan2Id) {
         PlanDto planDto1 = planService.getPlanById(plan1Id);
         PlanDto planDto2 = planService.getPlanById(plan2Id);
 
@@ -56,6 +76,6 @@ public class PlanController {
             )
         ));
 
-        return ResponseEntity.ok(comparisonResult);
+        return comparisonResult;
     }
 } 
\ No newline at end of file
@@ -2,37 +2,82 @@ package com.evawova.preview.domain.user.controller;
 
 import com.evawova.preview.common.exception.ApiException;
 import com.evawova.preview.common.response.ApiResponse;
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
 import com.evawova.preview.domain.user.dto.UserDto;
 import com.evawova.preview.domain.user.dto.ChangePlanRequest;
+import com.evawova.preview.domain.user.dto.UserSearchCondition;
 import com.evawova.preview.domain.user.dto.UserUpdateRequest;
 import com.evawova.preview.domain.user.entity.PlanType;
 import com.evawova.preview.domain.user.service.UserService;
 import com.evawova.preview.security.FirebaseUserDetails;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final UserService userService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<ApiResponse<List<UserDto>>> getAllUsers() {
-        List<UserDto> users = userService.getAllUsers();
+    public ResponseEntity<ApiResponse<CursorPage<UserDto>>> getAllUsers(
+            @ModelAttribute UserSearchCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CursorPage<UserDto> users = userService.searchUsers(condition,
+                KeysetCursor.decode(cursor, condition.firstCursor()), pageSize);
         return ResponseEntity.ok(ApiResponse.success(users, "사용자 목록을 성공적으로 조회했습니다."));
     }
 
+    /**
+     * 사용자 목록 내보내기 (JSON 배열)
+     * - DB 커서로 읽은 사용자를 JsonGenerator로 바로 응답에 기록하므로 전체 목록을 메모리에 올리지 않음
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@ModelAttribute UserSearchCondition condition) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+                generator.writeStartArray();
+                userService.exportUsers(condition, user -> {
+                    try {
+                        generator.writePOJO(user);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Content-Disposition", "attachment; filename=\"users.json\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN') or #uid == authentication.principal.uid")
     public ResponseEntity<ApiResponse<UserDto>> getUserById(@PathVariable Long id, @AuthenticationPrincipal FirebaseUserDetails principal) {
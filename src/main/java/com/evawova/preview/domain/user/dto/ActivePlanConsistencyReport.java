@@ -0,0 +1,27 @@
+package com.evawova.preview.domain.user.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 활성 구독 포인터 정합성 확인 결과
+ */
+@Getter
+public class ActivePlanConsistencyReport {
+
+    private final LocalDateTime checkedAt;
+    private final long mismatchCount;
+    private final List<Long> sampleUserIds;
+
+    public ActivePlanConsistencyReport(LocalDateTime checkedAt, long mismatchCount, List<Long> sampleUserIds) {
+        this.checkedAt = checkedAt;
+        this.mismatchCount = mismatchCount;
+        this.sampleUserIds = sampleUserIds;
+    }
+
+    public boolean isConsistent() {
+        return mismatchCount == 0;
+    }
+}
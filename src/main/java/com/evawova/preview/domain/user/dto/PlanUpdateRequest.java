@@ -0,0 +1,31 @@
+package com.evawova.preview.domain.user.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PlanUpdateRequest {
+
+    @NotNull(message = "월간 가격은 필수입니다.")
+    @PositiveOrZero(message = "월간 가격은 0 이상이어야 합니다.")
+    private BigDecimal monthlyPrice;
+
+    @NotNull(message = "연간 가격은 필수입니다.")
+    @PositiveOrZero(message = "연간 가격은 0 이상이어야 합니다.")
+    private BigDecimal annualPrice;
+
+    @NotNull(message = "월간 토큰 한도는 필수입니다.")
+    @Positive(message = "월간 토큰 한도는 1 이상이어야 합니다.")
+    private Integer monthlyTokenLimit;
+
+    @NotNull(message = "활성화 여부는 필수입니다.")
+    private Boolean isActive;
+}
@@ -0,0 +1,36 @@
+package com.evawova.preview.domain.user.dto;
+
+import com.evawova.preview.infrastructure.batch.JobCheckpoint;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 역할 마이그레이션 진행 상황 (파티션 체크포인트 합계)
+ */
+@Getter
+public class RoleMigrationStatus {
+
+    private final boolean running;
+    private final int totalPartitions;
+    private final int completedPartitions;
+    private final long processedCount;
+    private final long updatedCount;
+
+    private RoleMigrationStatus(boolean running, int totalPartitions, int completedPartitions,
+            long processedCount, long updatedCount) {
+        this.running = running;
+        this.totalPartitions = totalPartitions;
+        this.completedPartitions = completedPartitions;
+        this.processedCount = processedCount;
+        this.updatedCount = updatedCount;
+    }
+
+    public static RoleMigrationStatus of(boolean running, List<JobCheckpoint> checkpoints) {
+        return new RoleMigrationStatus(running,
+                checkpoints.size(),
+                (int) checkpoints.stream().filter(JobCheckpoint::isCompleted).count(),
+                checkpoints.stream().mapToLong(JobCheckpoint::getProcessedCount).sum(),
+                checkpoints.stream().mapToLong(JobCheckpoint::getUpdatedCount).sum());
+    }
+}
@@ -1,7 +1,8 @@
 package com.evawova.preview.domain.user.dto;
 
-import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.Plan;
 import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.repository.UserWithActivePlan;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,18 +27,26 @@ public class UserDto {
     private Boolean isEmailVerified;
     private LocalDateTime lastLoginAt;
 
+    /**
+     * 엔티티로부터 DTO를 생성합니다.
+     * 활성 구독 포인터의 구독과 플랜을 지연 로딩하므로,
+     * 조회 API에서는 UserRepository의 *WithActivePlan 조회 결과와 함께 of(User, Plan)를 사용합니다.
+     */
     public static UserDto fromEntity(User user) {
-        Subscription activeSubscription = user.getActiveSubscription();
-        PlanDto activePlanDto = (activeSubscription != null && activeSubscription.getPlan() != null)
-                ? PlanDto.fromEntity(activeSubscription.getPlan())
-                : null;
+        return of(user, user.getCurrentPlan());
+    }
+
+    public static UserDto of(UserWithActivePlan userWithActivePlan) {
+        return of(userWithActivePlan.getUser(), userWithActivePlan.getPlan());
+    }
 
+    public static UserDto of(User user, Plan activePlan) {
         return UserDto.builder()
                 .id(user.getId())
                 .uid(user.getUid())
                 .email(user.getEmail())
                 .displayName(user.getDisplayName())
-                .plan(activePlanDto)
+                .plan(activePlan != null ? PlanDto.fromEntity(activePlan) : null)
                 .provider(user.getProvider())
                 .role(user.getRole())
                 .isActive(user.getIsActive())
@@ -46,4 +55,4 @@ public class UserDto {
                 .lastLoginAt(user.getLastLoginAt())
                 .build();
     }
-}
\ No newline at end of file
+}
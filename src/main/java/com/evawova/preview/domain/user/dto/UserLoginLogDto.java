@@ -17,6 +17,7 @@ public class UserLoginLogDto {
     private String deviceType;
     private String browserInfo;
     private String osInfo;
+    private String appVersion;
     private boolean successful;
     private String failReason;
     
@@ -32,6 +33,7 @@ public class UserLoginLogDto {
                 .deviceType(entity.getDeviceType())
                 .browserInfo(entity.getBrowserInfo())
                 .osInfo(entity.getOsInfo())
+                .appVersion(entity.getAppVersion())
                 .successful(entity.getLoginStatus() == UserLoginLog.LoginStatus.SUCCESS)
                 .failReason(entity.getLoginStatus() == UserLoginLog.LoginStatus.FAILURE ? entity.getFailureReason() : null)
                 .loginAt(entity.getLoginAt())
@@ -0,0 +1,56 @@
+package com.evawova.preview.domain.user.dto;
+
+import com.evawova.preview.common.response.KeysetCursor;
+import com.evawova.preview.domain.user.entity.User;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 관리자 사용자 목록 조회 조건
+ * - 값이 없는 조건은 적용하지 않음
+ * - createdFrom/createdTo는 가입일 기준 (양 끝 포함)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@ToString
+public class UserSearchCondition {
+
+    public enum Sort {
+        /** ID 오름차순 (가입 순) */
+        ID,
+        /** 가입일 내림차순 (최근 가입 순) */
+        CREATED_AT
+    }
+
+    private User.Role role;
+    private User.Provider provider;
+    private Boolean isActive;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate createdTo;
+
+    private Sort sort = Sort.ID;
+
+    public LocalDateTime createdFromDateTime() {
+        return createdFrom != null ? createdFrom.atStartOfDay() : KeysetCursor.MIN_TIME;
+    }
+
+    public LocalDateTime createdToDateTime() {
+        return createdTo != null ? createdTo.atTime(LocalTime.MAX) : KeysetCursor.MAX_TIME;
+    }
+
+    public KeysetCursor firstCursor() {
+        return sort == Sort.CREATED_AT ? KeysetCursor.FIRST_DESC : KeysetCursor.FIRST_ASC;
+    }
+}
@@ -18,13 +18,22 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "subscriptions")
+@Table(name = "subscriptions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_subscriptions_active_guard", columnNames = "active_guard")
+}, indexes = {
+        // 만료 배치의 만료 대상 (status, end_date, id) keyset 조회용
+        @Index(name = "idx_subscriptions_status_end_date", columnList = "status, end_date"),
+        // 갱신 스케줄러의 갱신 예정 (status, renewal_date, id) keyset 조회용
+        @Index(name = "idx_subscriptions_status_renewal_date", columnList = "status, renewal_date")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @Builder
 public class Subscription extends AggregateRoot<Long> {
 
+    public static final String EXPIRED_REASON = "Subscription expired";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Comment("구독 고유 식별자")
@@ -65,6 +74,14 @@ public class Subscription extends AggregateRoot<Long> {
     @Comment("구독 활성화 여부")
     private Boolean isActive;
 
+    @Column(name = "active_guard")
+    @Comment("활성 구독 중복 방지 (활성이면 사용자 ID, 아니면 null)")
+    private Long activeGuard;
+
+    @Column(name = "expiry_claim", length = 36)
+    @Comment("만료 배치가 이 구독을 만료 처리한 실행의 토큰 (여러 노드 동시 실행 시 처리 주체 식별)")
+    private String expiryClaim;
+
     @Column(name = "stripe_subscription_id", unique = true)
     @Comment("Stripe 구독 ID")
     private String stripeSubscriptionId;
@@ -92,7 +109,14 @@ public class Subscription extends AggregateRoot<Long> {
 
     public enum SubscriptionCycle {
         MONTHLY,
-        ANNUAL
+        ANNUAL;
+
+        /**
+         * from에서 한 주기 뒤
+         */
+        public LocalDateTime next(LocalDateTime from) {
+            return this == MONTHLY ? from.plusMonths(1) : from.plusYears(1);
+        }
     }
 
     public static Subscription createSubscription(
@@ -112,10 +136,13 @@ public class Subscription extends AggregateRoot<Long> {
                 .paymentAmount(paymentAmount)
                 .subscriptionCycle(subscriptionCycle)
                 .isActive(true)
+                .activeGuard(user.getId())
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
+        user.changeActiveSubscription(subscription);
+
         // 도메인 이벤트 등록
         subscription.registerEvent(new SubscriptionCreatedEvent(subscription));
 
@@ -125,7 +152,9 @@ public class Subscription extends AggregateRoot<Long> {
     public void cancel() {
         this.status = SubscriptionStatus.CANCELLED;
         this.isActive = false;
+        this.activeGuard = null;
         this.updatedAt = LocalDateTime.now();
+        this.user.clearActiveSubscription(this);
 
         // 도메인 이벤트 등록
         this.registerEvent(new SubscriptionCancelledEvent(this, "User cancelled subscription"));
@@ -134,17 +163,21 @@ public class Subscription extends AggregateRoot<Long> {
     public void expire() {
         this.status = SubscriptionStatus.EXPIRED;
         this.isActive = false;
+        this.activeGuard = null;
         this.updatedAt = LocalDateTime.now();
+        this.user.clearActiveSubscription(this);
 
         // 도메인 이벤트 등록
-        this.registerEvent(new SubscriptionCancelledEvent(this, "Subscription expired"));
+        this.registerEvent(new SubscriptionCancelledEvent(this, EXPIRED_REASON));
     }
 
     public void renew(LocalDateTime newEndDate) {
         this.endDate = newEndDate;
         this.status = SubscriptionStatus.ACTIVE;
         this.isActive = true;
+        this.activeGuard = user.getId();
         this.updatedAt = LocalDateTime.now();
+        this.user.changeActiveSubscription(this);
 
         // 도메인 이벤트 등록
         this.registerEvent(new SubscriptionRenewedEvent(this));
@@ -154,7 +187,11 @@ public class Subscription extends AggregateRoot<Long> {
         this.endDate = newEndDate;
         this.renewalDate = newRenewalDate;
         this.status = SubscriptionStatus.ACTIVE; // Assuming renewal implies active
+        this.activeGuard = Boolean.TRUE.equals(isActive) ? user.getId() : null;
         this.updatedAt = LocalDateTime.now();
+        if (isActive()) {
+            this.user.changeActiveSubscription(this);
+        }
     }
 
     public boolean isActive() {
@@ -1,6 +1,8 @@
 package com.evawova.preview.domain.user.entity;
 
 import com.evawova.preview.domain.common.model.AggregateRoot;
+import com.evawova.preview.domain.user.event.UserRoleChangedEvent;
+import com.evawova.preview.domain.user.event.UserWithdrawnEvent;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -16,7 +18,12 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 관리자 목록의 가입일 순 keyset 조회용
+        @Index(name = "idx_users_created_at", columnList = "created_at"),
+        // 플랜 타입별 역할 재계산/사용량 조회용
+        @Index(name = "idx_users_current_plan_type", columnList = "current_plan_type")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -49,6 +56,20 @@ public class User extends AggregateRoot<Long> {
     @Comment("사용자의 구독 목록")
     private List<Subscription> subscriptions = new ArrayList<>();
 
+    /**
+     * 현재 활성 구독 (구독 생성/갱신/취소/만료 시 Subscription이 같은 트랜잭션에서 갱신)
+     * 구독 이력 삭제를 막지 않도록 외래 키 제약은 만들지 않으며, 불일치는 ActivePlanConsistencyChecker로 확인합니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "active_subscription_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    @Comment("현재 활성 구독 ID (없으면 null)")
+    private Subscription activeSubscription;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_plan_type", length = 20)
+    @Comment("현재 활성 구독의 플랜 타입 (없으면 null)")
+    private PlanType currentPlanType;
+
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     @Builder.Default
     @Comment("사용자의 로그인 기록 목록")
@@ -96,7 +117,18 @@ public class User extends AggregateRoot<Long> {
     }
 
     public enum Role {
-        ADMIN, USER_FREE, USER_STANDARD, USER_PRO
+        ADMIN, USER_FREE, USER_STANDARD, USER_PRO;
+
+        /**
+         * 플랜 타입에 대응하는 사용자 역할
+         */
+        public static Role of(PlanType planType) {
+            return switch (planType) {
+                case FREE -> USER_FREE;
+                case STANDARD -> USER_STANDARD;
+                case PRO -> USER_PRO;
+            };
+        }
     }
 
     // 생성 메서드
@@ -152,24 +184,52 @@ public class User extends AggregateRoot<Long> {
         this.photoUrl = null;
         this.isEmailVerified = false;
         this.lastLoginAt = null;
+
+        // 도메인 이벤트 등록
+        this.registerEvent(new UserWithdrawnEvent(this));
     }
 
     public void setRole(Role role) {
+        Role oldRole = this.role;
         this.role = role;
-    }
 
-    public Subscription getActiveSubscription() {
-        return subscriptions.stream()
-                .filter(Subscription::isActive)
-                .findFirst()
-                .orElse(null);
+        if (oldRole != role) {
+            // 도메인 이벤트 등록
+            this.registerEvent(new UserRoleChangedEvent(this, oldRole));
+        }
     }
 
     public Plan getCurrentPlan() {
-        Subscription activeSubscription = getActiveSubscription();
         return activeSubscription != null ? activeSubscription.getPlan() : null;
     }
 
+    /**
+     * 활성 구독 포인터를 subscription으로 바꿉니다. (Subscription 상태 변경 메서드에서만 호출)
+     */
+    public void changeActiveSubscription(Subscription subscription) {
+        this.activeSubscription = subscription;
+        this.currentPlanType = subscription.getPlan().getPlanType();
+    }
+
+    /**
+     * subscription이 현재 활성 구독이면 포인터를 비웁니다. (Subscription 상태 변경 메서드에서만 호출)
+     */
+    public void clearActiveSubscription(Subscription subscription) {
+        if (isActiveSubscription(subscription)) {
+            this.activeSubscription = null;
+            this.currentPlanType = null;
+        }
+    }
+
+    private boolean isActiveSubscription(Subscription subscription) {
+        if (activeSubscription == subscription) {
+            return true;
+        }
+        // 지연 로딩 프록시는 식별자로 비교 (프록시 초기화 없음)
+        return activeSubscription != null && subscription.getId() != null
+                && subscription.getId().equals(activeSubscription.getId());
+    }
+
     @Override
     public Long getId() {
         return this.id;
@@ -12,7 +12,10 @@ import org.springframework.data.annotation.CreatedDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_login_logs")
+@Table(name = "user_login_logs", indexes = {
+        // 로그인 내역 keyset 조회용 (InnoDB 보조 인덱스는 PK(id)를 포함하므로 (user_id, login_at, id) 순서로 정렬됨)
+        @Index(name = "idx_user_login_logs_user_login_at", columnList = "user_id, login_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -49,6 +52,10 @@ public class UserLoginLog {
     @Comment("운영체제 정보")
     private String osInfo;
 
+    @Column(name = "app_version")
+    @Comment("자사 앱 버전 (앱에서 로그인한 경우)")
+    private String appVersion;
+
     @Column(nullable = false, name = "login_at")
     @Comment("로그인 시간")
     private LocalDateTime loginAt;
@@ -73,7 +80,7 @@ public class UserLoginLog {
 
     @Builder
     public UserLoginLog(User user, String ipAddress, String userAgent,
-            String deviceType, String browserInfo, String osInfo,
+            String deviceType, String browserInfo, String osInfo, String appVersion,
             boolean successful, String failReason) {
         this.user = user;
         this.ipAddress = ipAddress;
@@ -81,6 +88,7 @@ public class UserLoginLog {
         this.deviceType = deviceType;
         this.browserInfo = browserInfo;
         this.osInfo = osInfo;
+        this.appVersion = appVersion;
         this.loginAt = LocalDateTime.now();
         this.loginStatus = successful ? LoginStatus.SUCCESS : LoginStatus.FAILURE;
         this.failureReason = failReason;
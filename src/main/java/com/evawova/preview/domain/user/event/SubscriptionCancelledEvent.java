@@ -2,9 +2,12 @@ package com.evawova.preview.domain.user.event;
 
 import com.evawova.preview.domain.common.model.AbstractDomainEvent;
 import com.evawova.preview.domain.user.entity.Subscription;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class SubscriptionCancelledEvent extends AbstractDomainEvent {
     private final Long subscriptionId;
     private final Long userId;
@@ -18,4 +21,15 @@ public class SubscriptionCancelledEvent extends AbstractDomainEvent {
         this.planId = subscription.getPlan().getId();
         this.reason = reason;
     }
+
+    /**
+     * 엔티티를 로딩하지 않고 일괄 변경한 경우 (구독 만료 배치)
+     */
+    public SubscriptionCancelledEvent(Long subscriptionId, Long userId, Long planId, String reason) {
+        super();
+        this.subscriptionId = subscriptionId;
+        this.userId = userId;
+        this.planId = planId;
+        this.reason = reason;
+    }
 }
\ No newline at end of file
@@ -2,9 +2,15 @@ package com.evawova.preview.domain.user.event;
 
 import com.evawova.preview.domain.common.model.AbstractDomainEvent;
 import com.evawova.preview.domain.user.entity.Subscription;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class SubscriptionRenewedEvent extends AbstractDomainEvent {
     private final Long subscriptionId;
     private final Long userId;
@@ -20,4 +26,17 @@ public class SubscriptionRenewedEvent extends AbstractDomainEvent {
         this.newEndDate = subscription.getEndDate().toString();
         this.paymentAmount = subscription.getPaymentAmount().toString();
     }
+
+    /**
+     * 엔티티를 로딩하지 않고 갱신한 경우 (구독 갱신 스케줄러)
+     */
+    public SubscriptionRenewedEvent(Long subscriptionId, Long userId, Long planId, LocalDateTime newEndDate,
+            BigDecimal paymentAmount) {
+        super();
+        this.subscriptionId = subscriptionId;
+        this.userId = userId;
+        this.planId = planId;
+        this.newEndDate = newEndDate.toString();
+        this.paymentAmount = paymentAmount.toString();
+    }
 }
\ No newline at end of file
@@ -2,9 +2,12 @@ package com.evawova.preview.domain.user.event;
 
 import com.evawova.preview.domain.common.model.AbstractDomainEvent;
 import com.evawova.preview.domain.user.entity.PlanType;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 
 @Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
 public class UserCreatedEvent extends AbstractDomainEvent {
     private final Long userId;
     private final String email;
@@ -0,0 +1,24 @@
+package com.evawova.preview.domain.user.event;
+
+import com.evawova.preview.domain.common.model.AbstractDomainEvent;
+import com.evawova.preview.domain.user.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class UserRoleChangedEvent extends AbstractDomainEvent {
+    private final Long userId;
+    private final String uid;
+    private final User.Role oldRole;
+    private final User.Role newRole;
+
+    public UserRoleChangedEvent(User user, User.Role oldRole) {
+        super();
+        this.userId = user.getId();
+        this.uid = user.getUid();
+        this.oldRole = oldRole;
+        this.newRole = user.getRole();
+    }
+}
@@ -0,0 +1,20 @@
+package com.evawova.preview.domain.user.event;
+
+import com.evawova.preview.domain.common.model.AbstractDomainEvent;
+import com.evawova.preview.domain.user.entity.User;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PRIVATE, force = true)
+public class UserWithdrawnEvent extends AbstractDomainEvent {
+    private final Long userId;
+    private final String uid;
+
+    public UserWithdrawnEvent(User user) {
+        super();
+        this.userId = user.getId();
+        this.uid = user.getUid();
+    }
+}
@@ -0,0 +1,24 @@
+package com.evawova.preview.domain.user.repository;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 대상 구독 (구독 테이블의 컬럼만 조회, 사용자/플랜은 조인하지 않음)
+ */
+@Getter
+public class SubscriptionExpiryCandidate {
+
+    private final Long subscriptionId;
+    private final Long userId;
+    private final Long planId;
+    private final LocalDateTime endDate;
+
+    public SubscriptionExpiryCandidate(Long subscriptionId, Long userId, Long planId, LocalDateTime endDate) {
+        this.subscriptionId = subscriptionId;
+        this.userId = userId;
+        this.planId = planId;
+        this.endDate = endDate;
+    }
+}
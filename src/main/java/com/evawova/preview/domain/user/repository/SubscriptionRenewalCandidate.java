@@ -0,0 +1,34 @@
+package com.evawova.preview.domain.user.repository;
+
+import com.evawova.preview.domain.user.entity.Subscription;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 갱신 예정 구독 (구독 테이블의 컬럼만 조회, 사용자/플랜은 조인하지 않음)
+ * renewalDate/endDate는 조회 시점 값으로, 갱신 시 이 값과 같을 때만 반영합니다.
+ */
+@Getter
+public class SubscriptionRenewalCandidate {
+
+    private final Long subscriptionId;
+    private final Long userId;
+    private final Long planId;
+    private final LocalDateTime renewalDate;
+    private final LocalDateTime endDate;
+    private final Subscription.SubscriptionCycle subscriptionCycle;
+    private final BigDecimal paymentAmount;
+
+    public SubscriptionRenewalCandidate(Long subscriptionId, Long userId, Long planId, LocalDateTime renewalDate,
+            LocalDateTime endDate, Subscription.SubscriptionCycle subscriptionCycle, BigDecimal paymentAmount) {
+        this.subscriptionId = subscriptionId;
+        this.userId = userId;
+        this.planId = planId;
+        this.renewalDate = renewalDate;
+        this.endDate = endDate;
+        this.subscriptionCycle = subscriptionCycle;
+        this.paymentAmount = paymentAmount;
+    }
+}
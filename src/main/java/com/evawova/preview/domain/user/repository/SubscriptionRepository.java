@@ -1,15 +1,122 @@
 package com.evawova.preview.domain.user.repository;
 
 import com.evawova.preview.domain.user.entity.Subscription;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
     List<Subscription> findByUserId(Long userId);
 
-    Optional<Subscription> findActiveByUserId(Long userId);
+    /**
+     * 활성 구독 (사용자당 최대 1건, active_guard 유니크 제약으로 보장)
+     */
+    @Query("select s from Subscription s where s.user.id = :userId and s.isActive = true " +
+            "and s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE")
+    Optional<Subscription> findActiveByUserId(@Param("userId") Long userId);
+
+    /**
+     * findActiveByUserId의 잠금 조회 (트랜잭션 스냅샷이 아니라 커밋된 최신 행을 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Subscription s where s.user.id = :userId and s.isActive = true " +
+            "and s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE")
+    Optional<Subscription> findActiveByUserIdForUpdate(@Param("userId") Long userId);
+
+    /**
+     * 구독 잠금 조회 (트랜잭션 스냅샷이 아니라 커밋된 최신 행을 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Subscription s where s.id = :id")
+    Optional<Subscription> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 구독 소유자 ID (구독 변경 락을 잡기 전에 엔티티를 로딩하지 않고 조회)
+     */
+    @Query("select s.user.id from Subscription s where s.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
 
     List<Subscription> findByPlanId(Long planId);
-}
\ No newline at end of file
+
+    /**
+     * 만료 배치 청크: now 이전에 끝난 활성 구독을 (endDate, id) 순으로 커서 다음부터 조회
+     * idx_subscriptions_status_end_date (status, end_date) 인덱스 범위 스캔 순서와 같아 정렬 비용이 없음
+     */
+    @Query("select new com.evawova.preview.domain.user.repository.SubscriptionExpiryCandidate(" +
+            "s.id, s.user.id, s.plan.id, s.endDate) " +
+            "from Subscription s " +
+            "where s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE " +
+            "and s.endDate <= :now " +
+            "and (s.endDate > :cursorEndDate or (s.endDate = :cursorEndDate and s.id > :cursorId)) " +
+            "order by s.endDate, s.id")
+    List<SubscriptionExpiryCandidate> findExpiryCandidates(@Param("now") LocalDateTime now,
+            @Param("cursorEndDate") LocalDateTime cursorEndDate, @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 아직 만료 대상인 구독만 만료 처리하고 claim 토큰을 기록합니다.
+     * 다른 노드가 먼저 처리(또는 갱신)한 행은 조건에서 빠지므로 한 구독은 한 실행만 처리합니다.
+     */
+    @Modifying
+    @Query("update Subscription s set " +
+            "s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.EXPIRED, " +
+            "s.isActive = false, s.activeGuard = null, s.expiryClaim = :claim, s.updatedAt = :now " +
+            "where s.id in :ids " +
+            "and s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE " +
+            "and s.endDate <= :now")
+    int expireAndClaim(@Param("ids") Collection<Long> ids, @Param("claim") String claim,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * expireAndClaim으로 이 실행이 만료 처리한 구독 ID
+     */
+    @Query("select s.id from Subscription s where s.id in :ids and s.expiryClaim = :claim")
+    List<Long> findClaimedIds(@Param("ids") Collection<Long> ids, @Param("claim") String claim);
+
+    /**
+     * 갱신 예정 구독: until까지 갱신일이 돌아오는, 아직 종료일이 지나지 않은 활성 구독을 (renewalDate, id) 순으로
+     * 커서 다음부터 조회 (종료일이 지난 구독은 만료 배치 대상이므로 갱신하지 않음)
+     * idx_subscriptions_status_renewal_date (status, renewal_date) 인덱스 범위 스캔 순서와 같아 정렬 비용이 없음
+     */
+    @Query("select new com.evawova.preview.domain.user.repository.SubscriptionRenewalCandidate(" +
+            "s.id, s.user.id, s.plan.id, s.renewalDate, s.endDate, s.subscriptionCycle, s.paymentAmount) " +
+            "from Subscription s " +
+            "where s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE " +
+            "and s.isActive = true " +
+            "and s.renewalDate <= :until " +
+            "and s.endDate > :now " +
+            "and (s.renewalDate > :cursorRenewalDate or (s.renewalDate = :cursorRenewalDate and s.id > :cursorId)) " +
+            "order by s.renewalDate, s.id")
+    List<SubscriptionRenewalCandidate> findRenewalCandidates(@Param("now") LocalDateTime now,
+            @Param("until") LocalDateTime until, @Param("cursorRenewalDate") LocalDateTime cursorRenewalDate,
+            @Param("cursorId") Long cursorId, Pageable pageable);
+
+    /**
+     * 갱신일/종료일이 조회 시점 값 그대로인 활성 구독만 다음 주기로 갱신합니다. (compare-and-set)
+     * 다른 노드나 재시작 전 실행이 이미 갱신했다면 갱신일이 바뀌어 있으므로 0을 반환합니다.
+     * 그 사이 종료일이 지났다면 만료 배치가 처리해야 하므로 갱신하지 않고 0을 반환합니다.
+     */
+    @Modifying
+    @Query("update Subscription s set s.endDate = :newEndDate, s.renewalDate = :newRenewalDate, s.updatedAt = :now " +
+            "where s.id = :id " +
+            "and s.renewalDate = :expectedRenewalDate " +
+            "and s.endDate = :expectedEndDate " +
+            "and s.status = com.evawova.preview.domain.user.entity.Subscription$SubscriptionStatus.ACTIVE " +
+            "and s.isActive = true " +
+            "and s.endDate > :now")
+    int renewIfUnchanged(@Param("id") Long id,
+            @Param("expectedRenewalDate") LocalDateTime expectedRenewalDate,
+            @Param("expectedEndDate") LocalDateTime expectedEndDate,
+            @Param("newRenewalDate") LocalDateTime newRenewalDate,
+            @Param("newEndDate") LocalDateTime newEndDate,
+            @Param("now") LocalDateTime now);
+}
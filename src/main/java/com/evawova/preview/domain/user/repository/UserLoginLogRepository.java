@@ -1,19 +1,32 @@
 package com.evawova.preview.domain.user.repository;
 
-import com.evawova.preview.domain.user.entity.User;
 import com.evawova.preview.domain.user.entity.UserLoginLog;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 public interface UserLoginLogRepository extends JpaRepository<UserLoginLog, Long> {
-    List<UserLoginLog> findByUserOrderByLoginAtDesc(User user);
 
-    Page<UserLoginLog> findByUserOrderByLoginAtDesc(User user, Pageable pageable);
-
-    List<UserLoginLog> findByUserAndLoginAtBetweenOrderByLoginAtDesc(
-            User user, LocalDateTime startDateTime, LocalDateTime endDateTime);
-}
\ No newline at end of file
+    /**
+     * 로그인 내역 keyset 조회
+     * - (user_id, login_at) 인덱스를 역순으로 읽으며 커서 위치부터 pageable 크기만큼만 가져옴
+     * - status가 null이면 성공/실패 모두 조회
+     */
+    @Query("SELECT l FROM UserLoginLog l " +
+            "WHERE l.user.id = :userId " +
+            "AND l.loginAt >= :from AND l.loginAt <= :to " +
+            "AND (:status IS NULL OR l.loginStatus = :status) " +
+            "AND (l.loginAt < :cursorAt OR (l.loginAt = :cursorAt AND l.id < :cursorId)) " +
+            "ORDER BY l.loginAt DESC, l.id DESC")
+    List<UserLoginLog> findLoginHistory(@Param("userId") Long userId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("status") UserLoginLog.LoginStatus status,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+}
@@ -1,14 +1,217 @@
 package com.evawova.preview.domain.user.repository;
 
+import com.evawova.preview.domain.user.entity.PlanType;
 import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.security.PrincipalSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    /**
+     * 사용자 + 활성 구독 플랜 조회 (users.active_subscription_id로 구독 한 건만 PK 조인)
+     */
+    String SELECT_WITH_ACTIVE_PLAN = "select new com.evawova.preview.domain.user.repository.UserWithActivePlan(u, p) " +
+            "from User u " +
+            "left join u.activeSubscription s " +
+            "left join s.plan p ";
+
+    /**
+     * 내보내기 조회에서 한 번에 가져오는 행 수
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * 구독 테이블 기준 사용자 u의 활성 구독 ID / 플랜 타입 (백필/정합성 확인용 native SQL)
+     * 활성 구독은 subscriptions.active_guard 유니크 제약으로 사용자당 최대 1건입니다.
+     */
+    String ACTIVE_SUBSCRIPTION_ID_SQL = "(select s.id from subscriptions s " +
+            "where s.user_id = u.id and s.is_active = true and s.status = 'ACTIVE')";
+    String ACTIVE_PLAN_TYPE_SQL = "(select p.plan_type from subscriptions s join plans p on p.id = s.plan_id " +
+            "where s.user_id = u.id and s.is_active = true and s.status = 'ACTIVE')";
+    String ACTIVE_PLAN_MISMATCH_SQL = "(coalesce(u.active_subscription_id, 0) <> coalesce(" +
+            ACTIVE_SUBSCRIPTION_ID_SQL + ", 0) " +
+            "or (u.current_plan_type is null and " + ACTIVE_PLAN_TYPE_SQL + " is not null) " +
+            "or (u.current_plan_type is not null and (" + ACTIVE_PLAN_TYPE_SQL + " is null " +
+            "or u.current_plan_type <> " + ACTIVE_PLAN_TYPE_SQL + "))) ";
+
+    /**
+     * 관리자 목록 조회 조건 (null인 조건은 무시)
+     */
+    String SEARCH_CONDITION = "where (:role is null or u.role = :role) " +
+            "and (:provider is null or u.provider = :provider) " +
+            "and (:isActive is null or u.isActive = :isActive) " +
+            "and u.createdAt >= :createdFrom and u.createdAt <= :createdTo ";
+
     Optional<User> findByEmail(String email);
     Optional<User> findByUid(String uid);
     boolean existsByEmail(String email);
-} 
\ No newline at end of file
+
+    /**
+     * 인증에 필요한 컬럼만 조회합니다. (연관 컬렉션을 로딩하지 않음)
+     */
+    @Query("select new com.evawova.preview.security.PrincipalSnapshot(u.uid, u.id, u.role, u.isActive) " +
+            "from User u where u.uid = :uid")
+    Optional<PrincipalSnapshot> findPrincipalByUid(@Param("uid") String uid);
+
+    @Query(SELECT_WITH_ACTIVE_PLAN + "where u.id = :id")
+    Optional<UserWithActivePlan> findWithActivePlanById(@Param("id") Long id);
+
+    @Query(SELECT_WITH_ACTIVE_PLAN + "where u.email = :email")
+    Optional<UserWithActivePlan> findWithActivePlanByEmail(@Param("email") String email);
+
+    @Query(SELECT_WITH_ACTIVE_PLAN + "where u.uid = :uid")
+    Optional<UserWithActivePlan> findWithActivePlanByUid(@Param("uid") String uid);
+
+    /**
+     * 관리자 목록: id 오름차순 keyset 조회
+     */
+    @Query(SELECT_WITH_ACTIVE_PLAN + SEARCH_CONDITION +
+            "and u.id > :cursorId " +
+            "order by u.id")
+    List<UserWithActivePlan> searchOrderById(@Param("role") User.Role role,
+            @Param("provider") User.Provider provider,
+            @Param("isActive") Boolean isActive,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 관리자 목록: (createdAt, id) 내림차순 keyset 조회
+     */
+    @Query(SELECT_WITH_ACTIVE_PLAN + SEARCH_CONDITION +
+            "and (u.createdAt < :cursorAt or (u.createdAt = :cursorAt and u.id < :cursorId)) " +
+            "order by u.createdAt desc, u.id desc")
+    List<UserWithActivePlan> searchOrderByCreatedAtDesc(@Param("role") User.Role role,
+            @Param("provider") User.Provider provider,
+            @Param("isActive") Boolean isActive,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo,
+            @Param("cursorAt") LocalDateTime cursorAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 관리자 내보내기: 조건에 맞는 사용자를 DB 커서로 순차 조회
+     * - EXPORT_FETCH_SIZE 건씩 가져옴 (MySQL은 URL에 useCursorFetch=true가 있어야 서버 커서로 나눠 읽고,
+     *   없으면 결과 전체를 메모리에 올림)
+     * - 반환된 Stream은 트랜잭션 안에서 사용 후 반드시 닫아야 함
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE))
+    @Query(SELECT_WITH_ACTIVE_PLAN + SEARCH_CONDITION + "order by u.id")
+    Stream<UserWithActivePlan> streamForExport(@Param("role") User.Role role,
+            @Param("provider") User.Provider provider,
+            @Param("isActive") Boolean isActive,
+            @Param("createdFrom") LocalDateTime createdFrom,
+            @Param("createdTo") LocalDateTime createdTo);
+
+    @Query("select min(u.id) from User u")
+    Long findMinId();
+
+    @Query("select max(u.id) from User u")
+    Long findMaxId();
+
+    /**
+     * 역할 마이그레이션 청크: (afterId, toId] 구간의 사용자 인증 정보를 id 순으로 조회
+     */
+    @Query("select new com.evawova.preview.security.PrincipalSnapshot(u.uid, u.id, u.role, u.isActive) " +
+            "from User u where u.id > :afterId and u.id <= :toId order by u.id")
+    List<PrincipalSnapshot> findPrincipalChunk(@Param("afterId") Long afterId, @Param("toId") Long toId,
+            Pageable pageable);
+
+    /**
+     * 구독 테이블 기준으로 [fromId, toId] 구간 사용자의 활성 구독 포인터를 다시 채웁니다. (이미 맞는 행은 제외)
+     * JPQL은 연관 필드에 서브쿼리 결과를 대입할 수 없어 native SQL을 사용합니다.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = "update users u set " +
+            "active_subscription_id = " + ACTIVE_SUBSCRIPTION_ID_SQL + ", " +
+            "current_plan_type = " + ACTIVE_PLAN_TYPE_SQL + " " +
+            "where u.id between :fromId and :toId and " + ACTIVE_PLAN_MISMATCH_SQL)
+    int backfillActivePlan(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 활성 구독 포인터가 구독 테이블과 다른 사용자 수
+     */
+    @Query(nativeQuery = true, value = "select count(*) from users u where " + ACTIVE_PLAN_MISMATCH_SQL)
+    long countActivePlanMismatches();
+
+    /**
+     * 활성 구독 포인터가 구독 테이블과 다른 사용자 ID (id 순 최대 limit건)
+     */
+    @Query(nativeQuery = true, value = "select u.id from users u where " + ACTIVE_PLAN_MISMATCH_SQL +
+            "order by u.id limit :limit")
+    List<Long> findActivePlanMismatchIds(@Param("limit") int limit);
+
+    /**
+     * 현재 플랜 타입이 planType인 사용자의 역할을 일괄 변경 (관리자 제외, 이미 같은 역할이면 제외)
+     */
+    @Modifying
+    @Query("update User u set u.role = :role, u.updatedAt = :now " +
+            "where u.id between :fromId and :toId " +
+            "and u.role <> :role " +
+            "and u.role <> com.evawova.preview.domain.user.entity.User$Role.ADMIN " +
+            "and u.currentPlanType = :planType")
+    int updateRoleByActivePlanType(@Param("fromId") Long fromId, @Param("toId") Long toId,
+            @Param("planType") PlanType planType, @Param("role") User.Role role,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * 활성 구독이 없는 사용자의 역할을 일괄 변경 (관리자 제외, 이미 같은 역할이면 제외)
+     */
+    @Modifying
+    @Query("update User u set u.role = :role, u.updatedAt = :now " +
+            "where u.id between :fromId and :toId " +
+            "and u.role <> :role " +
+            "and u.role <> com.evawova.preview.domain.user.entity.User$Role.ADMIN " +
+            "and u.currentPlanType is null")
+    int updateRoleWithoutActiveSubscription(@Param("fromId") Long fromId, @Param("toId") Long toId,
+            @Param("role") User.Role role, @Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 구독을 가리키는 활성 구독 포인터를 비웁니다. (그 사이 다른 구독으로 바뀐 사용자는 제외)
+     */
+    @Modifying
+    @Query("update User u set u.activeSubscription = null, u.currentPlanType = null, u.updatedAt = :now " +
+            "where u.id in :userIds and u.activeSubscription.id in :subscriptionIds")
+    int clearActiveSubscriptions(@Param("userIds") Collection<Long> userIds,
+            @Param("subscriptionIds") Collection<Long> subscriptionIds, @Param("now") LocalDateTime now);
+
+    /**
+     * 활성 구독이 없어 역할을 role로 바꿔야 하는 사용자의 uid (관리자 제외, 이미 같은 역할이면 제외)
+     */
+    @Query("select u.uid from User u " +
+            "where u.id in :userIds " +
+            "and u.role <> :role " +
+            "and u.role <> com.evawova.preview.domain.user.entity.User$Role.ADMIN " +
+            "and u.currentPlanType is null")
+    List<String> findUidsWithoutActiveSubscription(@Param("userIds") Collection<Long> userIds,
+            @Param("role") User.Role role);
+
+    /**
+     * 활성 구독이 없는 사용자의 역할을 일괄 변경 (관리자 제외, 이미 같은 역할이면 제외)
+     */
+    @Modifying
+    @Query("update User u set u.role = :role, u.updatedAt = :now " +
+            "where u.id in :userIds " +
+            "and u.role <> :role " +
+            "and u.role <> com.evawova.preview.domain.user.entity.User$Role.ADMIN " +
+            "and u.currentPlanType is null")
+    int updateRoleWithoutActiveSubscription(@Param("userIds") Collection<Long> userIds,
+            @Param("role") User.Role role, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,22 @@
+package com.evawova.preview.domain.user.repository;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.User;
+import lombok.Getter;
+
+/**
+ * 사용자와 활성 구독의 플랜을 한 번의 쿼리로 조회한 결과
+ * - user는 영속 상태이므로 조회 후 수정도 가능
+ * - 활성 구독이 없으면 plan은 null
+ */
+@Getter
+public class UserWithActivePlan {
+
+    private final User user;
+    private final Plan plan;
+
+    public UserWithActivePlan(User user, Plan plan) {
+        this.user = user;
+        this.plan = plan;
+    }
+}
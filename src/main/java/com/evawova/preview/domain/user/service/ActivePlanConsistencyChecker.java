@@ -0,0 +1,34 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.dto.ActivePlanConsistencyReport;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * users.active_subscription_id / current_plan_type가 구독 테이블의 활성 구독과 일치하는지 확인
+ * - 불일치는 포인터를 거치지 않은 변경(직접 SQL, 컬럼 도입 전 데이터 등)에서 생기며, 역할 마이그레이션을 다시 실행하면 백필됨
+ * - 전체 사용자를 한 번 훑으므로 운영 중에는 관리자 요청으로만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActivePlanConsistencyChecker {
+
+    private final UserRepository userRepository;
+
+    @Transactional(readOnly = true)
+    public ActivePlanConsistencyReport check(int sampleSize) {
+        long mismatches = userRepository.countActivePlanMismatches();
+        List<Long> sample = mismatches == 0 ? List.of() : userRepository.findActivePlanMismatchIds(sampleSize);
+        if (mismatches > 0) {
+            log.warn("활성 구독 포인터 불일치 사용자 {}명 (예: {})", mismatches, sample);
+        }
+        return new ActivePlanConsistencyReport(LocalDateTime.now(), mismatches, sample);
+    }
+}
@@ -0,0 +1,163 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.common.response.ContentVersion;
+import com.evawova.preview.domain.user.dto.PlanDto;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 플랜 카탈로그 (메모리 스냅샷)
+ * - plans 테이블은 몇 건뿐이고 거의 바뀌지 않으므로, 시작 시 전체를 읽어 불변 스냅샷으로 보관
+ * - 조회는 스냅샷만 읽으며 DB에 접근하지 않음
+ * - Plan 애그리거트가 발행된 트랜잭션이 커밋되면 (생성 시 PlanCreatedEvent 포함, 관리자 수정) 새 스냅샷을 만들어 통째로 교체
+ * - 교체될 때마다 version이 1씩 증가하며, 플랜 내용으로 만든 contentVersion은 조건부 GET(ETag)에 사용
+ */
+@Slf4j
+@Component
+public class PlanCatalog {
+
+    private final PlanRepository planRepository;
+    private final TransactionTemplate refreshTemplate;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public PlanCatalog(PlanRepository planRepository, PlatformTransactionManager transactionManager) {
+        this.planRepository = planRepository;
+        // 커밋 직후 콜백에서도 새 커넥션/영속성 컨텍스트로 읽도록 별도 트랜잭션 사용
+        this.refreshTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTemplate.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPlanChanged(Plan plan) {
+        log.debug("플랜 변경 감지 (플랜 ID: {}), 카탈로그를 다시 로딩합니다.", plan.getId());
+        refresh();
+    }
+
+    /**
+     * DB에서 플랜 전체를 다시 읽어 스냅샷을 교체합니다.
+     */
+    public Snapshot refresh() {
+        List<Plan> plans = refreshTemplate.execute(status -> planRepository.findAll(Sort.by("id")));
+        return swap(plans);
+    }
+
+    public Snapshot snapshot() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // 기동 완료 이벤트 전 호출(테스트 슬라이스 등)은 호출자의 트랜잭션에서 최초 로딩
+            current = swap(planRepository.findAll(Sort.by("id")));
+        }
+        return current;
+    }
+
+    /**
+     * 스냅샷을 비워 다음 조회 시 다시 로딩하도록 합니다. (테스트용)
+     */
+    void reset() {
+        snapshot.set(null);
+    }
+
+    private synchronized Snapshot swap(List<Plan> plans) {
+        Snapshot previous = snapshot.get();
+        Snapshot next = new Snapshot(previous == null ? 1 : previous.getVersion() + 1, plans);
+        snapshot.set(next);
+        log.info("플랜 카탈로그 로딩 완료: 버전 {}, 플랜 {}개", next.getVersion(), next.getPlans().size());
+        return next;
+    }
+
+    public List<PlanDto> getPlans() {
+        return snapshot().getPlans();
+    }
+
+    public Optional<PlanDto> findById(Long id) {
+        return Optional.ofNullable(snapshot().getPlansById().get(id));
+    }
+
+    public Optional<PlanDto> findByType(PlanType planType) {
+        return Optional.ofNullable(snapshot().getPlansByType().get(planType));
+    }
+
+    /**
+     * 플랜 엔티티 (준영속)
+     * 구독의 외래 키나 응답 DTO 생성에만 사용하고 수정하지 않습니다.
+     */
+    public Optional<Plan> findEntityByType(PlanType planType) {
+        return Optional.ofNullable(snapshot().getEntitiesByType().get(planType));
+    }
+
+    /**
+     * 특정 시점의 플랜 목록. 생성 후 변경되지 않으며, PlanDto는 읽기 전용으로 공유됩니다.
+     */
+    @Getter
+    public static final class Snapshot {
+
+        private final long version;
+        private final LocalDateTime lastModified;
+        private final ContentVersion contentVersion;
+        private final List<PlanDto> plans;
+        private final Map<Long, PlanDto> plansById;
+        private final Map<PlanType, PlanDto> plansByType;
+        private final Map<PlanType, Plan> entitiesByType;
+
+        Snapshot(long version, List<Plan> entities) {
+            Map<Long, PlanDto> byId = new HashMap<>();
+            Map<PlanType, PlanDto> byType = new EnumMap<>(PlanType.class);
+            Map<PlanType, Plan> entityByType = new EnumMap<>(PlanType.class);
+            LocalDateTime latest = null;
+            StringBuilder content = new StringBuilder();
+
+            List<PlanDto> dtos = entities.stream().map(PlanDto::fromEntity).toList();
+            for (int i = 0; i < entities.size(); i++) {
+                Plan plan = entities.get(i);
+                PlanDto dto = dtos.get(i);
+                byId.put(dto.getId(), dto);
+                byType.put(dto.getPlanType(), dto);
+                entityByType.put(plan.getPlanType(), plan);
+                content.append(dto).append('\n');
+                if (latest == null || (plan.getUpdatedAt() != null && plan.getUpdatedAt().isAfter(latest))) {
+                    latest = plan.getUpdatedAt();
+                }
+            }
+
+            this.version = version;
+            this.lastModified = Objects.requireNonNullElseGet(latest, LocalDateTime::now);
+            this.contentVersion = ContentVersion.of(content.toString().getBytes(StandardCharsets.UTF_8),
+                    lastModified.atZone(ZoneId.systemDefault()).toInstant().truncatedTo(ChronoUnit.SECONDS));
+            this.plans = dtos;
+            this.plansById = Collections.unmodifiableMap(byId);
+            this.plansByType = Collections.unmodifiableMap(byType);
+            this.entitiesByType = Collections.unmodifiableMap(entityByType);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 플랜이 바뀐 트랜잭션에 무효화 기록을 남기고, 다른 노드의 기록을 받으면 플랜 카탈로그를 다시 로딩합니다.
+ * 이 노드의 카탈로그는 PlanCatalog가 커밋 직후 직접 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlanCatalogInvalidator implements CacheInvalidationHandler {
+
+    static final String CACHE_NAME = "plans";
+
+    private final PlanCatalog planCatalog;
+    private final CacheInvalidationBus invalidationBus;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordPlanChanged(Plan plan) {
+        invalidationBus.publish(CACHE_NAME, String.valueOf(plan.getId()));
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String planId) {
+        log.debug("다른 노드의 플랜 변경 (플랜 ID: {}), 카탈로그를 다시 로딩합니다.", planId);
+        planCatalog.refresh();
+    }
+}
@@ -1,41 +1,74 @@
 package com.evawova.preview.domain.user.service;
 
+import com.evawova.preview.common.response.ContentVersion;
 import com.evawova.preview.domain.user.dto.PlanDto;
+import com.evawova.preview.domain.user.dto.PlanUpdateRequest;
+import com.evawova.preview.domain.user.entity.Plan;
 import com.evawova.preview.domain.user.entity.PlanType;
 import com.evawova.preview.domain.user.repository.PlanRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+/**
+ * 플랜 조회는 PlanCatalog 스냅샷에서 처리하므로 트랜잭션(커넥션)을 열지 않습니다.
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class PlanService {
 
+    private final PlanCatalog planCatalog;
     private final PlanRepository planRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<PlanDto> getAllPlans() {
-        return planRepository.findAll().stream()
-                .map(PlanDto::fromEntity)
-                .toList();
+        return planCatalog.getPlans();
     }
 
     public PlanDto getPlanById(Long id) {
-        return planRepository.findById(id)
-                .map(PlanDto::fromEntity)
+        return planCatalog.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("플랜을 찾을 수 없습니다: " + id));
     }
 
     public PlanDto getPlanByType(PlanType type) {
-        return planRepository.findByPlanType(type)
-                .map(PlanDto::fromEntity)
+        return planCatalog.findByType(type)
                 .orElseThrow(() -> new IllegalArgumentException("플랜을 찾을 수 없습니다: " + type));
     }
 
+    /**
+     * 플랜 목록의 현재 버전 (조건부 GET용)
+     */
+    public ContentVersion getCatalogVersion() {
+        return planCatalog.snapshot().getContentVersion();
+    }
+
     public PlanDto getFreePlan() {
         return getPlanByType(PlanType.FREE);
     }
-} 
\ No newline at end of file
+
+    /**
+     * 플랜 가격/한도/활성 여부를 수정합니다. (플랜 타입은 변경하지 않음)
+     * 커밋 후 PlanCatalog가 새 스냅샷으로 교체됩니다.
+     */
+    @Transactional
+    public PlanDto updatePlan(Long id, PlanUpdateRequest request) {
+        Plan plan = planRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("플랜을 찾을 수 없습니다: " + id));
+
+        plan.updatePlan(
+                plan.getPlanType(),
+                request.getMonthlyPrice(),
+                request.getAnnualPrice(),
+                request.getMonthlyTokenLimit(),
+                request.getIsActive());
+        log.info("플랜 수정 완료: 플랜 ID: {}, 타입: {}", id, plan.getPlanType());
+
+        eventPublisher.publishEvent(plan);
+        return PlanDto.fromEntity(plan);
+    }
+}
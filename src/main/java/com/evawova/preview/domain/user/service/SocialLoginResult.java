@@ -0,0 +1,22 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.dto.UserDto;
+import com.evawova.preview.domain.user.entity.User;
+import lombok.Getter;
+
+/**
+ * 소셜 로그인 처리 결과
+ * - user: 로그인 처리 중 조회/생성한 사용자 엔티티 (로그인 기록 저장 등에 재사용)
+ * - userDto: 응답용 사용자 정보
+ */
+@Getter
+public class SocialLoginResult {
+
+    private final User user;
+    private final UserDto userDto;
+
+    public SocialLoginResult(User user, UserDto userDto) {
+        this.user = user;
+        this.userDto = userDto;
+    }
+}
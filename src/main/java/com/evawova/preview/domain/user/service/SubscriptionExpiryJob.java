@@ -0,0 +1,251 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.event.SubscriptionCancelledEvent;
+import com.evawova.preview.domain.user.repository.SubscriptionExpiryCandidate;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import com.evawova.preview.security.PrincipalSnapshotCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 구독 만료 배치
+ * - interval마다 종료일이 지난 활성 구독을 (status, end_date) 인덱스로 찾아 chunk-size 단위 keyset 청크로 처리
+ * - 청크마다 한 트랜잭션에서 구독 만료, 사용자 활성 구독 포인터 해제, 역할 변경을 엔티티 로딩 없이 UPDATE ... WHERE 로 일괄 처리
+ *   (역할은 UserService.updateUserRoleBasedOnPlan과 같은 기준: 활성 구독이 없으면 FREE, 관리자 제외)
+ * - 여러 노드가 동시에 실행해도 되도록 만료 UPDATE는 아직 ACTIVE인 행만 바꾸고 실행마다 다른 claim 토큰을 기록,
+ *   이 실행이 실제로 바꾼 행만 claim 토큰으로 다시 골라 후속 처리하므로 한 구독은 한 번만 처리됨
+ * - 청크의 SubscriptionCancelledEvent는 같은 트랜잭션에서 아웃박스에 기록하여 만료와 함께 커밋되고 OutboxRelay가 발행
+ * - 커밋 후 역할이 바뀐 uid는 인증 캐시에서 제거
+ *   다른 노드에는 역할이 바뀐 uid마다 인증 캐시 무효화를 같은 트랜잭션에서 기록하고,
+ *   한 청크에서 바뀐 uid가 full-invalidation-threshold를 넘으면 키 대신 캐시 전체 무효화 한 건만 기록
+ */
+@Slf4j
+@Component
+public class SubscriptionExpiryJob {
+
+    // keyset 커서 시작값 (DB DATETIME 범위 안의 값이어야 하므로 LocalDateTime.MIN은 쓰지 않음)
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final UserRepository userRepository;
+    private final PrincipalSnapshotCache principalSnapshotCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration interval;
+    private final int chunkSize;
+    private final int fullInvalidationThreshold;
+    private final boolean enabled;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Counter expiredCounter;
+    private final Counter downgradedCounter;
+    private final Timer chunkTimer;
+
+    @Autowired
+    public SubscriptionExpiryJob(SubscriptionRepository subscriptionRepository, UserRepository userRepository,
+            PrincipalSnapshotCache principalSnapshotCache, CacheInvalidationBus invalidationBus,
+            OutboxWriter outboxWriter, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${subscription.expiry.interval:PT1M}") Duration interval,
+            @Value("${subscription.expiry.chunk-size:1000}") int chunkSize,
+            @Value("${subscription.expiry.full-invalidation-threshold:200}") int fullInvalidationThreshold,
+            @Value("${subscription.expiry.enabled:true}") boolean enabled) {
+        this(subscriptionRepository, userRepository, principalSnapshotCache, invalidationBus, outboxWriter,
+                transactionManager, meterRegistry, interval, chunkSize, fullInvalidationThreshold, enabled,
+                Clock.systemDefaultZone());
+    }
+
+    SubscriptionExpiryJob(SubscriptionRepository subscriptionRepository, UserRepository userRepository,
+            PrincipalSnapshotCache principalSnapshotCache, CacheInvalidationBus invalidationBus,
+            OutboxWriter outboxWriter, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, Duration interval, int chunkSize, int fullInvalidationThreshold,
+            boolean enabled, Clock clock) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.userRepository = userRepository;
+        this.principalSnapshotCache = principalSnapshotCache;
+        this.invalidationBus = invalidationBus;
+        this.outboxWriter = outboxWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.interval = interval;
+        this.chunkSize = chunkSize;
+        this.fullInvalidationThreshold = fullInvalidationThreshold;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "subscription-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.expiredCounter = Counter.builder("subscription.expiry.expired")
+                .register(meterRegistry);
+        this.downgradedCounter = Counter.builder("subscription.expiry.downgraded")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("subscription.expiry.chunk")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("구독 만료 배치가 비활성화되어 있습니다.");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::runSafely, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    private void runSafely() {
+        try {
+            run();
+        } catch (RuntimeException e) {
+            log.warn("구독 만료 배치 실패, 다음 주기에 남은 구독부터 다시 처리합니다.", e);
+        }
+    }
+
+    /**
+     * 지금 시각 기준으로 만료 대상 구독을 모두 처리하고 이 실행이 만료 처리한 건수를 반환합니다.
+     * 실행 중 종료일이 지나는 구독은 다음 실행에서 처리합니다. 이 인스턴스에서 이미 실행 중이면 0을 반환합니다.
+     */
+    public int run() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            return execute(LocalDateTime.now(clock));
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private int execute(LocalDateTime now) {
+        String claim = UUID.randomUUID().toString();
+        LocalDateTime cursorEndDate = CURSOR_START;
+        long cursorId = 0;
+        int expired = 0;
+        while (true) {
+            long start = System.nanoTime();
+            LocalDateTime chunkEndDate = cursorEndDate;
+            long chunkId = cursorId;
+            ChunkResult result = transactionTemplate.execute(status ->
+                    processChunk(now, claim, chunkEndDate, chunkId));
+            chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (result == null) {
+                break;
+            }
+
+            afterCommit(result);
+            expired += result.events.size();
+            if (result.lastCandidate == null) {
+                break;
+            }
+            cursorEndDate = result.lastCandidate.getEndDate();
+            cursorId = result.lastCandidate.getSubscriptionId();
+        }
+        if (expired > 0) {
+            log.info("구독 만료 처리 완료: {}건 (기준 시각 {})", expired, now);
+        }
+        return expired;
+    }
+
+    /**
+     * 커서 다음 만료 대상 한 청크를 처리합니다. 더 처리할 구독이 없으면 null을 반환합니다.
+     */
+    private ChunkResult processChunk(LocalDateTime now, String claim, LocalDateTime cursorEndDate, long cursorId) {
+        List<SubscriptionExpiryCandidate> candidates = subscriptionRepository.findExpiryCandidates(now,
+                cursorEndDate, cursorId, PageRequest.ofSize(chunkSize));
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        SubscriptionExpiryCandidate last = candidates.get(candidates.size() - 1);
+        SubscriptionExpiryCandidate cursor = candidates.size() < chunkSize ? null : last;
+
+        List<Long> ids = candidates.stream().map(SubscriptionExpiryCandidate::getSubscriptionId).toList();
+        if (subscriptionRepository.expireAndClaim(ids, claim, now) == 0) {
+            // 모두 다른 노드가 먼저 처리
+            return new ChunkResult(List.of(), List.of(), cursor);
+        }
+
+        Set<Long> claimedIds = new HashSet<>(subscriptionRepository.findClaimedIds(ids, claim));
+        List<SubscriptionExpiryCandidate> claimed = candidates.stream()
+                .filter(candidate -> claimedIds.contains(candidate.getSubscriptionId()))
+                .toList();
+        List<Long> userIds = claimed.stream().map(SubscriptionExpiryCandidate::getUserId).distinct().toList();
+
+        userRepository.clearActiveSubscriptions(userIds, claimedIds, now);
+        List<String> downgradedUids = userRepository.findUidsWithoutActiveSubscription(userIds, User.Role.USER_FREE);
+        if (!downgradedUids.isEmpty()) {
+            userRepository.updateRoleWithoutActiveSubscription(userIds, User.Role.USER_FREE, now);
+            if (downgradedUids.size() > fullInvalidationThreshold) {
+                invalidationBus.publish(PrincipalSnapshotCache.CACHE_NAME, null);
+            } else {
+                invalidationBus.publishAll(PrincipalSnapshotCache.CACHE_NAME, downgradedUids);
+            }
+        }
+
+        List<SubscriptionCancelledEvent> events = claimed.stream()
+                .map(candidate -> new SubscriptionCancelledEvent(candidate.getSubscriptionId(),
+                        candidate.getUserId(), candidate.getPlanId(), Subscription.EXPIRED_REASON))
+                .toList();
+        events.forEach(event -> outboxWriter.append(Subscription.class.getSimpleName(), event.getSubscriptionId(),
+                event));
+        return new ChunkResult(events, downgradedUids, cursor);
+    }
+
+    private void afterCommit(ChunkResult result) {
+        expiredCounter.increment(result.events.size());
+        downgradedCounter.increment(result.downgradedUids.size());
+        result.downgradedUids.forEach(principalSnapshotCache::invalidate);
+    }
+
+    private static class ChunkResult {
+        private final List<SubscriptionCancelledEvent> events;
+        private final List<String> downgradedUids;
+        // 다음 청크 커서 (마지막 청크면 null)
+        private final SubscriptionExpiryCandidate lastCandidate;
+
+        ChunkResult(List<SubscriptionCancelledEvent> events, List<String> downgradedUids,
+                SubscriptionExpiryCandidate lastCandidate) {
+            this.events = events;
+            this.downgradedUids = downgradedUids;
+            this.lastCandidate = lastCandidate;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.evawova.preview.domain.user.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 구독 변경 직렬화 (스트라이프 락)
+ * - 사용자 ID를 고정 개수의 락 중 하나에 대응시켜, 같은 사용자의 구독 변경만 서로 기다리게 함
+ *   (다른 사용자끼리는 같은 스트라이프에 걸릴 때만 잠깐 기다림)
+ * - 락은 현재 트랜잭션이 끝날 때 (커밋/롤백 후) 풀리므로, 다음 요청은 항상 커밋된 구독 상태를 읽음
+ * - 인스턴스 안에서만 유효하며, 노드 간 중복은 subscriptions.active_guard 유니크 제약이 막음
+ * - 같은 스레드에서 다시 잡을 수 있으며, timeout 안에 잡지 못하면 IllegalStateException
+ */
+@Component
+public class SubscriptionLocks {
+
+    private final ReentrantLock[] stripes;
+    private final Duration timeout;
+
+    public SubscriptionLocks(@Value("${subscription.lock.stripes:1024}") int stripes,
+            @Value("${subscription.lock.timeout:PT5S}") Duration timeout) {
+        if (stripes <= 0 || Integer.bitCount(stripes) != 1) {
+            throw new IllegalArgumentException("stripes는 2의 거듭제곱이어야 합니다: " + stripes);
+        }
+        this.stripes = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.timeout = timeout;
+    }
+
+    /**
+     * 사용자의 스트라이프 락을 잡고, 현재 트랜잭션이 끝나면 풉니다.
+     */
+    public void lockUntilCompletion(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("구독 변경 락은 트랜잭션 안에서만 사용할 수 있습니다.");
+        }
+
+        ReentrantLock lock = stripeFor(userId);
+        try {
+            if (!lock.tryLock(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new IllegalStateException("같은 사용자의 구독 변경이 진행 중입니다. 잠시 후 다시 시도해주세요: " + userId);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("구독 변경 락 대기 중 인터럽트되었습니다: " + userId, e);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    ReentrantLock stripeFor(Long userId) {
+        // 연속된 ID가 인접 스트라이프에 몰리지 않도록 섞음
+        long mixed = userId * 0x9E3779B97F4A7C15L;
+        return stripes[(int) (mixed >>> 32) & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,290 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.repository.SubscriptionRenewalCandidate;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.infrastructure.scheduling.HierarchicalTimingWheel;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 구독 갱신 스케줄러
+ * - 앞으로 horizon 안에 갱신일(renewalDate)이 돌아오는 활성 구독만 메모리의 계층형 타이밍 휠에 올려 두고,
+ *   갱신일이 되면 크기가 제한된 워커 풀에서 SubscriptionService.renewScheduled로 갱신
+ * - 휠은 refill-interval마다 (이미 읽은 시각, now + horizon] 구간만 (status, renewal_date) 인덱스로 이어서 채움
+ *   다른 경로로 갱신일이 당겨진 구독도 놓치지 않도록 resync-interval마다 창 전체를 다시 읽음 (이미 올린 항목은 건너뜀)
+ * - 진행 상태는 구독 행 자체: 갱신은 조회 시점의 갱신일/종료일과 같을 때만 반영하는 compare-and-set UPDATE이고
+ *   성공하면 갱신일이 다음 주기로 넘어가므로, 재시작하거나 여러 노드가 같은 구독을 올려도 한 번만 갱신됨
+ *   재시작 후 첫 채우기는 지난 갱신일부터 읽으므로 중단된 동안 지난 갱신도 바로 처리됨
+ * - 종료일이 지난 구독은 읽지도, 갱신하지도 않음 (만료 배치가 처리)
+ * - 워커 큐가 가득 차면 휠 스레드가 직접 갱신해 올리는 속도를 늦춤
+ */
+@Slf4j
+@Component
+public class SubscriptionRenewalScheduler {
+
+    // keyset 커서 시작값 (DB DATETIME 범위 안의 값이어야 하므로 LocalDateTime.MIN은 쓰지 않음)
+    private static final LocalDateTime CURSOR_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionService subscriptionService;
+    private final TransactionTemplate readTemplate;
+    private final Executor workers;
+    private final ScheduledExecutorService timer;
+    private final Clock clock;
+    private final Duration tick;
+    private final Duration horizon;
+    private final Duration refillInterval;
+    private final Duration resyncInterval;
+    private final Duration retryDelay;
+    private final int pageSize;
+    private final boolean enabled;
+
+    // 아래 필드는 this로 동기화
+    private final HierarchicalTimingWheel<SubscriptionRenewalCandidate> wheel;
+    // 휠에 올린 구독 ID -> 갱신일 (같은 구독이 다른 갱신일로 다시 올라오면 이전 항목은 실행 시 버림)
+    private final Map<Long, LocalDateTime> scheduled = new HashMap<>();
+    // 이 시각까지의 갱신 예정은 휠에 올림 (null이면 다음 채우기에서 창 전체를 다시 읽음)
+    private LocalDateTime loadedUntil;
+    private LocalDateTime lastResyncAt;
+
+    private final Counter renewedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    @Autowired
+    public SubscriptionRenewalScheduler(SubscriptionRepository subscriptionRepository,
+            SubscriptionService subscriptionService, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${subscription.renewal.enabled:true}") boolean enabled,
+            @Value("${subscription.renewal.tick:PT1S}") Duration tick,
+            @Value("${subscription.renewal.wheel-size:64}") int wheelSize,
+            @Value("${subscription.renewal.horizon:PT6H}") Duration horizon,
+            @Value("${subscription.renewal.refill-interval:PT5M}") Duration refillInterval,
+            @Value("${subscription.renewal.resync-interval:PT1H}") Duration resyncInterval,
+            @Value("${subscription.renewal.retry-delay:PT1M}") Duration retryDelay,
+            @Value("${subscription.renewal.page-size:1000}") int pageSize,
+            @Value("${subscription.renewal.workers:4}") int workerCount,
+            @Value("${subscription.renewal.queue-capacity:1000}") int queueCapacity) {
+        this(subscriptionRepository, subscriptionService, transactionManager, meterRegistry,
+                boundedWorkers(workerCount, queueCapacity), Clock.systemDefaultZone(), enabled, tick, wheelSize,
+                horizon, refillInterval, resyncInterval, retryDelay, pageSize);
+    }
+
+    SubscriptionRenewalScheduler(SubscriptionRepository subscriptionRepository,
+            SubscriptionService subscriptionService, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, Executor workers, Clock clock, boolean enabled, Duration tick, int wheelSize,
+            Duration horizon, Duration refillInterval, Duration resyncInterval, Duration retryDelay, int pageSize) {
+        this.subscriptionRepository = subscriptionRepository;
+        this.subscriptionService = subscriptionService;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.workers = workers;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.tick = tick;
+        this.horizon = horizon;
+        this.refillInterval = refillInterval;
+        this.resyncInterval = resyncInterval;
+        this.retryDelay = retryDelay;
+        this.pageSize = pageSize;
+        this.wheel = new HierarchicalTimingWheel<>(tick.toMillis(), wheelSize, clock.millis());
+        this.timer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "subscription-renewal-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.renewedCounter = Counter.builder("subscription.renewal.renewed")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("subscription.renewal.skipped")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("subscription.renewal.failed")
+                .register(meterRegistry);
+        Gauge.builder("subscription.renewal.scheduled", this, SubscriptionRenewalScheduler::getScheduledCount)
+                .register(meterRegistry);
+    }
+
+    private static ExecutorService boundedWorkers(int workerCount, int queueCapacity) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "subscription-renewal-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("구독 갱신 스케줄러가 비활성화되어 있습니다.");
+            return;
+        }
+        timer.scheduleWithFixedDelay(this::refillSafely, 0, refillInterval.toMillis(), TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(this::advance, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        timer.shutdownNow();
+        if (workers instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    public synchronized int getScheduledCount() {
+        return scheduled.size();
+    }
+
+    private void refillSafely() {
+        try {
+            refill();
+        } catch (RuntimeException e) {
+            log.warn("구독 갱신 예정 조회 실패, 다음 주기에 이어서 읽습니다.", e);
+        }
+    }
+
+    /**
+     * (이미 읽은 시각, now + horizon] 구간의 갱신 예정 구독을 휠에 올리고 새로 올린 건수를 반환합니다.
+     * 갱신일이 이미 지난 구독은 휠을 거치지 않고 바로 워커에 넘깁니다.
+     */
+    int refill() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime until = now.plus(horizon);
+        LocalDateTime from;
+        synchronized (this) {
+            if (lastResyncAt == null || !now.isBefore(lastResyncAt.plus(resyncInterval))) {
+                loadedUntil = null;
+                lastResyncAt = now;
+            }
+            from = loadedUntil;
+        }
+
+        // from 이후만 읽도록 (from, 가장 큰 ID)에서 시작
+        LocalDateTime cursorRenewalDate = from == null ? CURSOR_START : from;
+        long cursorId = from == null ? 0 : Long.MAX_VALUE;
+        int added = 0;
+        while (true) {
+            LocalDateTime pageRenewalDate = cursorRenewalDate;
+            long pageId = cursorId;
+            List<SubscriptionRenewalCandidate> page = readTemplate.execute(status ->
+                    subscriptionRepository.findRenewalCandidates(now, until, pageRenewalDate, pageId,
+                            PageRequest.ofSize(pageSize)));
+            added += schedule(page);
+            if (page.size() < pageSize) {
+                break;
+            }
+            SubscriptionRenewalCandidate last = page.get(page.size() - 1);
+            cursorRenewalDate = last.getRenewalDate();
+            cursorId = last.getSubscriptionId();
+        }
+
+        synchronized (this) {
+            // 읽는 동안 전체 다시 읽기로 바뀌지 않았을 때만 진행
+            if (Objects.equals(loadedUntil, from)) {
+                loadedUntil = until;
+            }
+        }
+        if (added > 0) {
+            log.debug("구독 갱신 예정 {}건을 휠에 올렸습니다. ({} 까지)", added, until);
+        }
+        return added;
+    }
+
+    private int schedule(List<SubscriptionRenewalCandidate> candidates) {
+        List<SubscriptionRenewalCandidate> due = new ArrayList<>();
+        int added = 0;
+        synchronized (this) {
+            for (SubscriptionRenewalCandidate candidate : candidates) {
+                LocalDateTime previous = scheduled.put(candidate.getSubscriptionId(), candidate.getRenewalDate());
+                if (candidate.getRenewalDate().equals(previous)) {
+                    continue;
+                }
+                added++;
+                if (!wheel.add(toMillis(candidate.getRenewalDate()), candidate)) {
+                    due.add(candidate);
+                }
+            }
+        }
+        due.forEach(this::dispatch);
+        return added;
+    }
+
+    /**
+     * 휠을 현재 시각까지 돌려 갱신일이 된 구독을 워커에 넘깁니다.
+     */
+    void advance() {
+        List<SubscriptionRenewalCandidate> due;
+        synchronized (this) {
+            due = wheel.advance(clock.millis());
+        }
+        due.forEach(this::dispatch);
+    }
+
+    private void dispatch(SubscriptionRenewalCandidate candidate) {
+        workers.execute(() -> renew(candidate));
+    }
+
+    private void renew(SubscriptionRenewalCandidate candidate) {
+        if (!isCurrent(candidate)) {
+            return;
+        }
+        try {
+            boolean renewed = subscriptionService.renewScheduled(candidate, LocalDateTime.now(clock));
+            (renewed ? renewedCounter : skippedCounter).increment();
+            synchronized (this) {
+                scheduled.remove(candidate.getSubscriptionId(), candidate.getRenewalDate());
+            }
+        } catch (RuntimeException e) {
+            failedCounter.increment();
+            log.warn("구독 갱신 실패, {}초 후 재시도합니다. (구독 ID: {})",
+                    retryDelay.toSeconds(), candidate.getSubscriptionId(), e);
+            synchronized (this) {
+                if (isCurrent(candidate)) {
+                    wheel.add(clock.millis() + Math.max(retryDelay.toMillis(), tick.toMillis()), candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * 그 사이 같은 구독이 다른 갱신일로 다시 올라왔다면 이 항목은 오래된 것
+     */
+    private synchronized boolean isCurrent(SubscriptionRenewalCandidate candidate) {
+        return candidate.getRenewalDate().equals(scheduled.get(candidate.getSubscriptionId()));
+    }
+
+    private long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(clock.getZone()).toInstant().toEpochMilli();
+    }
+}
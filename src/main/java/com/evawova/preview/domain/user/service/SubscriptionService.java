@@ -2,10 +2,15 @@ package com.evawova.preview.domain.user.service;
 
 import com.evawova.preview.domain.user.dto.SubscriptionDto;
 import com.evawova.preview.domain.user.entity.*;
+import com.evawova.preview.domain.user.event.SubscriptionRenewedEvent;
+import com.evawova.preview.domain.user.repository.SubscriptionRenewalCandidate;
 import com.evawova.preview.domain.user.repository.SubscriptionRepository;
 import com.evawova.preview.domain.user.repository.UserRepository;
 import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.LockModeType;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +24,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 구독 변경은 사용자별로 직렬화합니다. (SubscriptionLocks)
+ * 동시에 들어온 같은 사용자의 플랜 변경(중복 탭, 재시도, 웹훅)이 활성 구독을 둘 만들지 않도록
+ * 활성 구독을 읽기 전에 락을 잡고 트랜잭션이 끝날 때 풉니다.
+ * MySQL(REPEATABLE READ)에서 일반 조회는 트랜잭션의 첫 조회 시점 스냅샷을 읽으므로, 락을 잡은 뒤의 사용자/구독은
+ * 잠금 조회(SELECT ... FOR UPDATE)로 읽어 락을 기다리는 동안 커밋된 변경을 봅니다.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -29,7 +41,10 @@ public class SubscriptionService {
     private final SubscriptionRepository subscriptionRepository;
     private final UserRepository userRepository;
     private final PlanRepository planRepository;
+    private final SubscriptionLocks subscriptionLocks;
+    private final EntityManager entityManager;
     private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
 
     /**
      * 특정 사용자의 모든 구독 기록을 조회합니다.
@@ -52,14 +67,17 @@ public class SubscriptionService {
      */
     public SubscriptionDto getActiveSubscription(@NotNull Long userId) {
         log.info("활성 구독 조회 시작: 사용자 ID: {}", userId);
-        if (!userRepository.existsById(userId)) {
-            log.error("활성 구독 조회 실패: 사용자를 찾을 수 없음 - 사용자 ID: {}", userId);
-            throw new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
-        }
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> {
+                    log.error("활성 구독 조회 실패: 사용자를 찾을 수 없음 - 사용자 ID: {}", userId);
+                    return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+                });
 
-        SubscriptionDto activeSubscriptionDto = subscriptionRepository.findActiveByUserId(userId)
-                .map(SubscriptionDto::fromEntity)
-                .orElse(null);
+        // 사용자의 활성 구독 포인터로 구독 한 건만 PK 조회
+        Subscription activeSubscription = user.getActiveSubscription();
+        SubscriptionDto activeSubscriptionDto = activeSubscription != null
+                ? SubscriptionDto.fromEntity(activeSubscription)
+                : null;
 
         if (activeSubscriptionDto != null) {
             log.info("활성 구독 조회 성공: 사용자 ID: {}, 구독 ID: {}", userId, activeSubscriptionDto.getId());
@@ -78,12 +96,7 @@ public class SubscriptionService {
             @NotNull Long planId,
             @NotNull Subscription.SubscriptionCycle cycle) {
         log.info("신규 구독 생성 시작: 사용자 ID: {}, 플랜 ID: {}, 주기: {}", userId, planId, cycle);
-
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> {
-                    log.error("구독 생성 실패: 사용자를 찾을 수 없음 - 사용자 ID: {}", userId);
-                    return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
-                });
+        User user = lockOwner(userId);
 
         Plan plan = planRepository.findById(planId)
                 .orElseThrow(() -> {
@@ -96,12 +109,15 @@ public class SubscriptionService {
             throw new IllegalArgumentException("비활성화된 플랜으로는 구독을 생성할 수 없습니다: " + planId);
         }
 
-        subscriptionRepository.findActiveByUserId(userId)
-                .ifPresent(existingSubscription -> {
-                    log.info("기존 활성 구독 발견 (구독 ID: {}). 새 구독 생성을 위해 취소 처리합니다.", existingSubscription.getId());
-                    existingSubscription.cancel();
-                    log.info("기존 구독 취소 완료: 구독 ID: {}", existingSubscription.getId());
-                });
+        // 락을 잡은 뒤 잠금 조회한 사용자이므로 활성 구독 포인터는 커밋된 최신 상태
+        Subscription existingSubscription = user.getActiveSubscription();
+        if (existingSubscription != null) {
+            log.info("기존 활성 구독 발견 (구독 ID: {}). 새 구독 생성을 위해 취소 처리합니다.", existingSubscription.getId());
+            existingSubscription.cancel();
+            // 새 구독 INSERT가 active_guard 유니크 제약에 걸리지 않도록 취소를 먼저 반영
+            subscriptionRepository.flush();
+            log.info("기존 구독 취소 완료: 구독 ID: {}", existingSubscription.getId());
+        }
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime endDate = cycle == Subscription.SubscriptionCycle.MONTHLY
@@ -128,6 +144,31 @@ public class SubscriptionService {
         return SubscriptionDto.fromEntity(savedSubscription);
     }
 
+    /**
+     * 신규 가입 사용자의 첫 구독을 생성합니다.
+     * 호출자가 이미 가진 사용자/플랜을 그대로 사용하며, 신규 사용자에게는 기존 활성 구독이 없으므로 조회하지 않습니다.
+     * 플랜은 준영속 상태여도 되며 구독의 외래 키로만 사용됩니다.
+     * 아직 커밋되지 않은 사용자라 다른 요청이 같은 사용자의 구독을 바꿀 수 없으므로 락을 잡지 않습니다.
+     */
+    @Transactional
+    public Subscription createInitialSubscription(@NotNull User user, @NotNull Plan plan) {
+        LocalDateTime now = LocalDateTime.now();
+        Subscription subscription = Subscription.createSubscription(
+                user,
+                plan,
+                now,
+                now.plusMonths(1),
+                plan.getPriceForCycle(Subscription.SubscriptionCycle.MONTHLY),
+                Subscription.SubscriptionCycle.MONTHLY);
+
+        Subscription savedSubscription = subscriptionRepository.save(subscription);
+        log.info("첫 구독 생성 완료: 구독 ID: {}, 사용자 ID: {}, 플랜: {}",
+                savedSubscription.getId(), user.getId(), plan.getPlanType());
+
+        eventPublisher.publishEvent(savedSubscription);
+        return savedSubscription;
+    }
+
     /**
      * 특정 구독을 취소합니다.
      */
@@ -135,11 +176,7 @@ public class SubscriptionService {
     public SubscriptionDto cancelSubscription(@NotNull Long subscriptionId) {
         log.info("구독 취소 시작: 구독 ID: {}", subscriptionId);
 
-        Subscription subscription = subscriptionRepository.findById(subscriptionId)
-                .orElseThrow(() -> {
-                    log.error("구독 취소 실패: 구독을 찾을 수 없음 - 구독 ID: {}", subscriptionId);
-                    return new EntityNotFoundException("구독을 찾을 수 없습니다: " + subscriptionId);
-                });
+        Subscription subscription = lockSubscription(subscriptionId);
 
         if (!subscription.isActive()) {
             log.warn("이미 비활성 상태인 구독 취소 요청: 구독 ID: {}. 현재 상태: {}",
@@ -166,8 +203,10 @@ public class SubscriptionService {
     @Transactional
     public void cancelActiveSubscriptionByUserId(@NotNull Long userId, String reason) {
         log.info("사용자 ID 기반 활성 구독 취소 시작: 사용자 ID: {}, 사유: {}", userId, reason);
+        lockOwner(userId);
 
-        subscriptionRepository.findActiveByUserId(userId).ifPresent(subscription -> {
+        // 호출자(탈퇴 처리 등)가 락 전에 조회했으면 일반 조회는 그 시점 스냅샷을 읽으므로 잠금 조회
+        subscriptionRepository.findActiveByUserIdForUpdate(userId).ifPresentOrElse(subscription -> {
             log.info("취소 대상 활성 구독 확인: 구독 ID: {}, 사용자 ID: {}. 취소 처리 진행.",
                     subscription.getId(), userId);
             subscription.cancel();
@@ -176,11 +215,7 @@ public class SubscriptionService {
 
             eventPublisher.publishEvent(subscription);
             log.info("구독 취소 이벤트 발행 완료: 구독 ID: {}", subscription.getId());
-        });
-
-        if (subscriptionRepository.findActiveByUserId(userId).isEmpty()) {
-            log.info("취소 요청 시 활성 구독 없음: 사용자 ID: {} (사유: {}). 처리 없음.", userId, reason);
-        }
+        }, () -> log.info("취소 요청 시 활성 구독 없음: 사용자 ID: {} (사유: {}). 처리 없음.", userId, reason));
     }
 
     /**
@@ -190,21 +225,14 @@ public class SubscriptionService {
     public SubscriptionDto renewSubscription(@NotNull Long subscriptionId) {
         log.info("구독 갱신 시작: 구독 ID: {}", subscriptionId);
 
-        Subscription subscription = subscriptionRepository.findById(subscriptionId)
-                .orElseThrow(() -> {
-                    log.error("구독 갱신 실패: 구독을 찾을 수 없음 - 구독 ID: {}", subscriptionId);
-                    return new EntityNotFoundException("구독을 찾을 수 없습니다: " + subscriptionId);
-                });
+        Subscription subscription = lockSubscription(subscriptionId);
 
         if (subscription.isActive()) {
             log.error("구독 갱신 실패: 이미 활성 상태인 구독 - 구독 ID: {}", subscriptionId);
             throw new IllegalStateException("이미 활성화된 구독은 갱신할 수 없습니다: " + subscriptionId);
         }
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime newEndDate = subscription.getSubscriptionCycle() == Subscription.SubscriptionCycle.MONTHLY
-                ? now.plusMonths(1)
-                : now.plusYears(1);
+        LocalDateTime newEndDate = subscription.getSubscriptionCycle().next(LocalDateTime.now());
         log.debug("구독 갱신 처리 중: 구독 ID: {}. 새 만료일: {}", subscriptionId, newEndDate);
 
         subscription.renew(newEndDate);
@@ -215,4 +243,62 @@ public class SubscriptionService {
 
         return SubscriptionDto.fromEntity(subscription);
     }
-}
\ No newline at end of file
+
+    /**
+     * 갱신일이 된 구독을 다음 주기로 갱신합니다. (구독 갱신 스케줄러)
+     * 종료일과 갱신일을 각각 한 주기씩 미루며, 조회 시점 이후 구독이 바뀌었거나 이미 갱신됐거나
+     * now 기준으로 종료일이 지났다면 아무것도 하지 않습니다.
+     *
+     * @return 이번 호출로 갱신했으면 true
+     */
+    @Transactional
+    public boolean renewScheduled(@NotNull SubscriptionRenewalCandidate candidate, @NotNull LocalDateTime now) {
+        subscriptionLocks.lockUntilCompletion(candidate.getUserId());
+
+        Subscription.SubscriptionCycle cycle = candidate.getSubscriptionCycle();
+        LocalDateTime newEndDate = cycle.next(candidate.getEndDate());
+        int renewed = subscriptionRepository.renewIfUnchanged(candidate.getSubscriptionId(),
+                candidate.getRenewalDate(), candidate.getEndDate(),
+                cycle.next(candidate.getRenewalDate()), newEndDate, now);
+        if (renewed == 0) {
+            log.debug("예약 갱신 건너뜀 (이미 갱신되었거나 변경 또는 만료됨): 구독 ID: {}, 갱신일: {}",
+                    candidate.getSubscriptionId(), candidate.getRenewalDate());
+            return false;
+        }
+
+        log.info("예약 갱신 성공: 구독 ID: {}, 새 만료일: {}", candidate.getSubscriptionId(), newEndDate);
+        // 엔티티 없이 갱신했으므로 이벤트는 같은 트랜잭션에서 아웃박스에 직접 기록
+        outboxWriter.append(Subscription.class.getSimpleName(), candidate.getSubscriptionId(),
+                new SubscriptionRenewedEvent(candidate.getSubscriptionId(), candidate.getUserId(),
+                        candidate.getPlanId(), newEndDate, candidate.getPaymentAmount()));
+        return true;
+    }
+
+    /**
+     * 사용자의 구독 변경 락을 잡고, 락을 기다리는 동안 커밋된 변경이 보이도록 사용자를 잠금 조회로 다시 읽습니다.
+     */
+    private User lockOwner(Long userId) {
+        subscriptionLocks.lockUntilCompletion(userId);
+        User user = entityManager.find(User.class, userId);
+        if (user == null) {
+            log.error("구독 변경 실패: 사용자를 찾을 수 없음 - 사용자 ID: {}", userId);
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        entityManager.refresh(user, LockModeType.PESSIMISTIC_WRITE);
+        return user;
+    }
+
+    /**
+     * 구독 엔티티를 읽기 전에 소유자 ID만 조회해 락을 잡고, 구독은 락 이후 잠금 조회로 읽습니다.
+     */
+    private Subscription lockSubscription(Long subscriptionId) {
+        Long userId = subscriptionRepository.findUserIdById(subscriptionId)
+                .orElseThrow(() -> {
+                    log.error("구독 변경 실패: 구독을 찾을 수 없음 - 구독 ID: {}", subscriptionId);
+                    return new EntityNotFoundException("구독을 찾을 수 없습니다: " + subscriptionId);
+                });
+        lockOwner(userId);
+        return subscriptionRepository.findByIdForUpdate(subscriptionId)
+                .orElseThrow(() -> new EntityNotFoundException("구독을 찾을 수 없습니다: " + subscriptionId));
+    }
+}
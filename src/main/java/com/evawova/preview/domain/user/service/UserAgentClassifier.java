@@ -0,0 +1,204 @@
+package com.evawova.preview.domain.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * User-Agent 분류기
+ * - 문자열을 소문자로 바꾸거나 여러 번 contains로 훑지 않고, 한 번 순회하며 토큰 단위로 키워드를 판별
+ * - 자사 앱(app-product/버전 형식)은 앱 버전까지 추출
+ * - 같은 UA가 반복되므로 원문을 키로 하는 LRU 캐시에 결과를 보관
+ */
+@Component
+public class UserAgentClassifier {
+
+    static final String UNKNOWN = "Unknown";
+
+    private final String appProduct;
+    private final Cache<String, UserAgentInfo> cache;
+
+    public UserAgentClassifier(
+            @Value("${login-log.user-agent.app-product:PreviewApp}") String appProduct,
+            @Value("${login-log.user-agent.cache-size:1000}") long cacheSize) {
+        this.appProduct = appProduct;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+    }
+
+    public UserAgentInfo classify(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return UserAgentInfo.UNKNOWN;
+        }
+        return cache.get(userAgent, this::classifyUncached);
+    }
+
+    UserAgentInfo classifyUncached(String ua) {
+        Flags flags = new Flags();
+        int length = ua.length();
+        int i = 0;
+
+        while (i < length) {
+            // 구분자 건너뛰기
+            while (i < length && !isTokenChar(ua.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && isTokenChar(ua.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                flags.match(ua, start, i - start);
+                if (flags.appVersion == null && i < length && ua.charAt(i) == '/'
+                        && i - start == appProduct.length()
+                        && ua.regionMatches(false, start, appProduct, 0, appProduct.length())) {
+                    int versionStart = ++i;
+                    while (i < length && isTokenChar(ua.charAt(i))) {
+                        i++;
+                    }
+                    flags.appVersion = ua.substring(versionStart, i);
+                }
+            }
+        }
+
+        return new UserAgentInfo(flags.deviceType(), flags.browser(), flags.os(), flags.appVersion);
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '.' || c == '-';
+    }
+
+    private class Flags {
+        boolean mobile;
+        boolean tablet;
+        boolean android;
+        boolean iphone;
+        boolean ipad;
+        boolean ipod;
+        boolean ios;
+        boolean firefox;
+        boolean edge;
+        boolean chrome;
+        boolean safari;
+        boolean opera;
+        boolean windows;
+        boolean macintosh;
+        boolean linux;
+        boolean mozilla;
+        boolean webkit;
+        String appVersion;
+
+        /**
+         * 토큰 길이와 첫 글자로 후보를 좁힌 뒤 대소문자 무시 비교 (추가 문자열 할당 없음)
+         */
+        void match(String ua, int start, int len) {
+            switch (Character.toLowerCase(ua.charAt(start))) {
+                case 'a' -> {
+                    android |= is(ua, start, len, "android");
+                    webkit |= is(ua, start, len, "applewebkit");
+                }
+                case 'c' -> chrome |= is(ua, start, len, "chrome") || is(ua, start, len, "crios");
+                case 'e' -> edge |= is(ua, start, len, "edg") || is(ua, start, len, "edge")
+                        || is(ua, start, len, "edga") || is(ua, start, len, "edgios");
+                case 'f' -> firefox |= is(ua, start, len, "firefox") || is(ua, start, len, "fxios");
+                case 'i' -> {
+                    iphone |= is(ua, start, len, "iphone");
+                    ipad |= is(ua, start, len, "ipad");
+                    ipod |= is(ua, start, len, "ipod");
+                    ios |= is(ua, start, len, "ios");
+                }
+                case 'l' -> linux |= is(ua, start, len, "linux");
+                case 'm' -> {
+                    mobile |= is(ua, start, len, "mobile");
+                    macintosh |= is(ua, start, len, "macintosh");
+                    mozilla |= is(ua, start, len, "mozilla");
+                }
+                case 'o' -> opera |= is(ua, start, len, "opr") || is(ua, start, len, "opera");
+                case 's' -> safari |= is(ua, start, len, "safari");
+                case 't' -> tablet |= is(ua, start, len, "tablet");
+                case 'w' -> windows |= is(ua, start, len, "windows");
+                default -> {
+                }
+            }
+        }
+
+        private boolean is(String ua, int start, int len, String keyword) {
+            return len == keyword.length() && ua.regionMatches(true, start, keyword, 0, len);
+        }
+
+        String deviceType() {
+            // 안드로이드 태블릿 브라우저는 Mobile 토큰 없이 Android만 포함
+            // 자사 앱, okhttp 등 브라우저가 아닌 UA는 Mobile 토큰을 붙이지 않으므로 플랫폼 토큰으로만 판단 (Mobile)
+            boolean browserEngine = mozilla || webkit;
+            if (ipad || tablet || (browserEngine && android && !mobile)) {
+                return "Tablet";
+            }
+            if (mobile || android || iphone || ipod || ios) {
+                return "Mobile";
+            }
+            return "Desktop";
+        }
+
+        String browser() {
+            if (appVersion != null) {
+                return appProduct;
+            }
+            if (edge) {
+                return "Edge";
+            }
+            if (opera) {
+                return "Opera";
+            }
+            if (firefox) {
+                return "Firefox";
+            }
+            if (chrome) {
+                return "Chrome";
+            }
+            if (safari) {
+                return "Safari";
+            }
+            return "Other";
+        }
+
+        String os() {
+            if (windows) {
+                return "Windows";
+            }
+            if (android) {
+                return "Android";
+            }
+            if (iphone || ipad || ipod || ios) {
+                return "iOS";
+            }
+            if (macintosh) {
+                return "macOS";
+            }
+            if (linux) {
+                return "Linux";
+            }
+            return "Other";
+        }
+    }
+
+    @Getter
+    public static class UserAgentInfo {
+        static final UserAgentInfo UNKNOWN = new UserAgentInfo(
+                UserAgentClassifier.UNKNOWN, UserAgentClassifier.UNKNOWN, UserAgentClassifier.UNKNOWN, null);
+
+        private final String deviceType;
+        private final String browserInfo;
+        private final String osInfo;
+        private final String appVersion;
+
+        public UserAgentInfo(String deviceType, String browserInfo, String osInfo, String appVersion) {
+            this.deviceType = deviceType;
+            this.browserInfo = browserInfo;
+            this.osInfo = osInfo;
+            this.appVersion = appVersion;
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.evawova.preview.domain.user.service;
 
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
 import com.evawova.preview.domain.user.entity.User;
 import com.evawova.preview.domain.user.entity.UserLoginLog;
 import com.evawova.preview.domain.user.repository.UserLoginLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 @Slf4j
 @Service
@@ -20,45 +25,91 @@ import java.util.List;
 public class UserLoginLogService {
 
     private final UserLoginLogRepository loginLogRepository;
+    private final UserLoginLogWriter loginLogWriter;
+    private final UserAgentClassifier userAgentClassifier;
 
-    @Transactional
+    /**
+     * 로그인 성공 기록을 저장 대기열에 추가합니다.
+     * 저장은 UserLoginLogWriter가 비동기로 일괄 처리하므로 반환되는 기록에는 ID가 없습니다.
+     */
     public UserLoginLog logSuccessfulLogin(User user, HttpServletRequest request) {
         UserLoginLog loginLog = buildLoginLog(user, request, true, null);
-        return loginLogRepository.save(loginLog);
+        loginLogWriter.enqueue(loginLog);
+        return loginLog;
     }
 
-    @Transactional
+    /**
+     * 로그인 실패 기록을 저장 대기열에 추가합니다.
+     */
     public UserLoginLog logFailedLogin(User user, HttpServletRequest request, String failReason) {
         UserLoginLog loginLog = buildLoginLog(user, request, false, failReason);
-        return loginLogRepository.save(loginLog);
+        loginLogWriter.enqueue(loginLog);
+        return loginLog;
     }
 
     private UserLoginLog buildLoginLog(User user, HttpServletRequest request, boolean successful, String failReason) {
         String ipAddress = getClientIpAddress(request);
         String userAgent = request.getHeader("User-Agent");
 
-        // 디바이스, 브라우저, OS 정보 추출
-        DeviceInfo deviceInfo = parseUserAgent(userAgent);
+        // 디바이스, 브라우저, OS, 앱 버전 정보 추출 (결과는 UA별로 캐시됨)
+        UserAgentClassifier.UserAgentInfo deviceInfo = userAgentClassifier.classify(userAgent);
 
         return UserLoginLog.builder()
                 .user(user)
                 .ipAddress(ipAddress)
                 .userAgent(userAgent)
-                .deviceType(deviceInfo.deviceType)
-                .browserInfo(deviceInfo.browserInfo)
-                .osInfo(deviceInfo.osInfo)
+                .deviceType(deviceInfo.getDeviceType())
+                .browserInfo(deviceInfo.getBrowserInfo())
+                .osInfo(deviceInfo.getOsInfo())
+                .appVersion(deviceInfo.getAppVersion())
                 .successful(successful)
                 .failReason(failReason)
                 .build();
     }
 
-    public List<UserLoginLog> getLoginHistory(User user) {
-        return loginLogRepository.findByUserOrderByLoginAtDesc(user);
+    /**
+     * 로그인 내역을 커서 위치부터 size건 조회합니다.
+     * 상태/기간 조건은 쿼리에서 처리하며, 다음 페이지 여부 확인을 위해 size + 1건을 가져옵니다.
+     */
+    public CursorPage<UserLoginLog> getLoginHistory(Long userId, LocalDateTime from, LocalDateTime to,
+            Boolean successful, KeysetCursor cursor, int size) {
+        List<UserLoginLog> fetched = findChunk(userId, from, to, successful, cursor, size + 1);
+        return CursorPage.of(fetched, size, loginLog -> cursorOf(loginLog).encode());
     }
 
-    public List<UserLoginLog> getLoginHistoryByDateRange(User user, LocalDateTime startDateTime,
-            LocalDateTime endDateTime) {
-        return loginLogRepository.findByUserAndLoginAtBetweenOrderByLoginAtDesc(user, startDateTime, endDateTime);
+    /**
+     * 로그인 내역 전체를 chunkSize 단위로 잘라 순서대로 전달합니다. (관리자 내보내기용)
+     * 전체 목록을 메모리에 올리지 않도록 청크마다 별도 조회(트랜잭션)로 처리하며,
+     * 이전 청크의 엔티티는 영속성 컨텍스트에 남지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void exportLoginHistory(Long userId, LocalDateTime from, LocalDateTime to, Boolean successful,
+            int chunkSize, Consumer<List<UserLoginLog>> chunkConsumer) {
+        KeysetCursor cursor = KeysetCursor.FIRST_DESC;
+        List<UserLoginLog> chunk;
+        do {
+            chunk = findChunk(userId, from, to, successful, cursor, chunkSize);
+            if (chunk.isEmpty()) {
+                return;
+            }
+            chunkConsumer.accept(chunk);
+            cursor = cursorOf(chunk.get(chunk.size() - 1));
+        } while (chunk.size() == chunkSize);
+    }
+
+    private static KeysetCursor cursorOf(UserLoginLog loginLog) {
+        return new KeysetCursor(loginLog.getLoginAt(), loginLog.getId());
+    }
+
+    private List<UserLoginLog> findChunk(Long userId, LocalDateTime from, LocalDateTime to, Boolean successful,
+            KeysetCursor cursor, int limit) {
+        return loginLogRepository.findLoginHistory(userId,
+                from != null ? from : KeysetCursor.MIN_TIME,
+                to != null ? to : KeysetCursor.MAX_TIME,
+                successful == null ? null
+                        : successful ? UserLoginLog.LoginStatus.SUCCESS : UserLoginLog.LoginStatus.FAILURE,
+                cursor.getAt(), cursor.getId(),
+                PageRequest.ofSize(limit));
     }
 
     // 클라이언트 IP 주소 추출
@@ -81,62 +132,4 @@ public class UserLoginLogService {
         }
         return ipAddress;
     }
-
-    // User-Agent 파싱을 위한 간단한 구현 (실제로는 더 정교한 라이브러리 사용 권장)
-    private DeviceInfo parseUserAgent(String userAgent) {
-        DeviceInfo info = new DeviceInfo();
-
-        if (userAgent == null) {
-            return info;
-        }
-
-        userAgent = userAgent.toLowerCase();
-
-        // 디바이스 타입 판별
-        if (userAgent.contains("mobile") || userAgent.contains("android") || userAgent.contains("iphone")) {
-            info.deviceType = "Mobile";
-        } else if (userAgent.contains("tablet") || userAgent.contains("ipad")) {
-            info.deviceType = "Tablet";
-        } else {
-            info.deviceType = "Desktop";
-        }
-
-        // 브라우저 정보
-        if (userAgent.contains("firefox")) {
-            info.browserInfo = "Firefox";
-        } else if (userAgent.contains("edge") || userAgent.contains("edg")) {
-            info.browserInfo = "Edge";
-        } else if (userAgent.contains("chrome") && !userAgent.contains("edg")) {
-            info.browserInfo = "Chrome";
-        } else if (userAgent.contains("safari") && !userAgent.contains("chrome")) {
-            info.browserInfo = "Safari";
-        } else if (userAgent.contains("opera") || userAgent.contains("opr")) {
-            info.browserInfo = "Opera";
-        } else {
-            info.browserInfo = "Other";
-        }
-
-        // OS 정보
-        if (userAgent.contains("windows")) {
-            info.osInfo = "Windows";
-        } else if (userAgent.contains("mac os")) {
-            info.osInfo = "macOS";
-        } else if (userAgent.contains("linux")) {
-            info.osInfo = "Linux";
-        } else if (userAgent.contains("android")) {
-            info.osInfo = "Android";
-        } else if (userAgent.contains("iphone") || userAgent.contains("ipad") || userAgent.contains("ipod")) {
-            info.osInfo = "iOS";
-        } else {
-            info.osInfo = "Other";
-        }
-
-        return info;
-    }
-
-    private static class DeviceInfo {
-        String deviceType = "Unknown";
-        String browserInfo = "Unknown";
-        String osInfo = "Unknown";
-    }
 }
\ No newline at end of file
@@ -0,0 +1,227 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.UserLoginLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 기록 비동기 일괄 저장 (write-behind)
+ * - 로그인 요청은 큐에 넣기만 하고 바로 반환
+ * - 전용 writer 스레드가 batch-size 또는 flush-interval 중 먼저 도달한 시점에 JDBC batch insert 수행
+ *   (UserLoginLog는 IDENTITY 전략이라 JPA로는 insert를 묶을 수 없어 JdbcTemplate을 사용)
+ * - 큐가 가득 찬 경우의 동작은 overflow-policy로 결정
+ * - 애플리케이션 종료 시 큐에 남은 기록을 모두 저장한 뒤 종료
+ */
+@Slf4j
+@Component
+public class UserLoginLogWriter implements SmartLifecycle {
+
+    static final String INSERT_SQL = "INSERT INTO user_login_logs "
+            + "(user_id, ip_address, user_agent, device_type, browser_info, os_info, app_version, "
+            + "login_at, login_status, failure_reason, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    /**
+     * 큐가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+        /** 새 기록을 버리고 dropped 카운터만 증가 */
+        DROP,
+        /** offer-timeout 동안 대기 후에도 공간이 없으면 버림 */
+        BLOCK,
+        /** 요청 스레드에서 바로 단건 저장 */
+        CALLER_RUNS
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<UserLoginLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    private final Duration shutdownTimeout;
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    @Autowired
+    public UserLoginLogWriter(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+            @Value("${login-log.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${login-log.write-behind.batch-size:200}") int batchSize,
+            @Value("${login-log.write-behind.flush-interval:PT1S}") Duration flushInterval,
+            @Value("${login-log.write-behind.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${login-log.write-behind.offer-timeout:PT0.05S}") Duration offerTimeout,
+            @Value("${login-log.write-behind.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeout = offerTimeout;
+        this.shutdownTimeout = shutdownTimeout;
+
+        Gauge.builder("login-log.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("login-log.flush")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.writtenCounter = recordCounter(meterRegistry, "written");
+        this.droppedCounter = recordCounter(meterRegistry, "dropped");
+        this.failedCounter = recordCounter(meterRegistry, "failed");
+    }
+
+    private static Counter recordCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("login-log.records")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 기록을 저장 대기열에 추가합니다.
+     */
+    public void enqueue(UserLoginLog loginLog) {
+        if (!running) {
+            // 기동 전/종료 후에는 대기열을 거치지 않고 바로 저장
+            writeBatch(List.of(loginLog));
+            return;
+        }
+        if (queue.offer(loginLog)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case CALLER_RUNS -> writeBatch(List.of(loginLog));
+            case BLOCK -> {
+                try {
+                    if (!queue.offer(loginLog, offerTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                        drop();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    drop();
+                }
+            }
+            default -> drop();
+        }
+    }
+
+    private void drop() {
+        droppedCounter.increment();
+        log.warn("로그인 기록 대기열이 가득 차 기록을 버렸습니다. (용량 초과, 정책: {})", overflowPolicy);
+    }
+
+    int queueSize() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<UserLoginLog> batch = new ArrayList<>(batchSize);
+        long deadline = System.nanoTime() + flushIntervalNanos;
+
+        while (running || !queue.isEmpty()) {
+            try {
+                UserLoginLog first = queue.poll(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+
+            if (batch.size() >= batchSize || System.nanoTime() - deadline >= 0) {
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                    batch.clear();
+                }
+                deadline = System.nanoTime() + flushIntervalNanos;
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우에도 남은 기록은 저장
+        writeRemaining(batch);
+    }
+
+    private void writeRemaining(List<UserLoginLog> batch) {
+        queue.drainTo(batch);
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            writeBatch(batch.subList(from, Math.min(from + batchSize, batch.size())));
+        }
+    }
+
+    private void writeBatch(List<UserLoginLog> batch) {
+        long start = System.nanoTime();
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, loginLog) -> {
+                ps.setLong(1, loginLog.getUser().getId());
+                ps.setString(2, loginLog.getIpAddress());
+                ps.setString(3, loginLog.getUserAgent());
+                ps.setString(4, loginLog.getDeviceType());
+                ps.setString(5, loginLog.getBrowserInfo());
+                ps.setString(6, loginLog.getOsInfo());
+                ps.setString(7, loginLog.getAppVersion());
+                ps.setTimestamp(8, Timestamp.valueOf(loginLog.getLoginAt()));
+                ps.setString(9, loginLog.getLoginStatus().name());
+                ps.setString(10, loginLog.getFailureReason());
+                ps.setTimestamp(11, Timestamp.valueOf(loginLog.getCreatedAt()));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            failedCounter.increment(batch.size());
+            log.error("로그인 기록 {}건 저장 실패: {}", batch.size(), e.getMessage());
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "login-log-writer");
+        writerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            writerThread.join(shutdownTimeout.toMillis());
+            if (writerThread.isAlive()) {
+                log.warn("로그인 기록 writer가 {} 내에 종료되지 않았습니다. 남은 기록: {}건", shutdownTimeout, queue.size());
+                writerThread.interrupt();
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        // 종료 직전에 대기열에 들어온 기록 처리
+        writeRemaining(new ArrayList<>());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
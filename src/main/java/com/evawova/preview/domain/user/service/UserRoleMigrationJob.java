@@ -0,0 +1,272 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.dto.RoleMigrationStatus;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.batch.JobCheckpoint;
+import com.evawova.preview.infrastructure.batch.JobCheckpointRepository;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.security.PrincipalSnapshot;
+import com.evawova.preview.security.PrincipalSnapshotCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 역할 마이그레이션 배치
+ * - 전체 ID 구간을 parallelism개의 겹치지 않는 구간으로 나눠 워커별로 처리
+ * - 각 워커는 chunk-size 단위 keyset 청크를 청크마다 별도 트랜잭션으로 처리
+ * - 청크 안에서는 사용자를 엔티티로 로딩하지 않고, 먼저 구독 테이블 기준으로 활성 구독 포인터
+ *   (users.active_subscription_id / current_plan_type)를 백필한 뒤 플랜 타입별 UPDATE ... WHERE 로 역할을 일괄 변경
+ *   (포인터 컬럼 도입 전 데이터의 백필 작업을 겸함)
+ * - 청크 처리 결과와 체크포인트를 같은 트랜잭션에서 커밋하므로, 중단 후 재실행하면 남은 구간부터 이어서 처리
+ * - bulk update는 도메인 이벤트를 발행하지 않으므로, 변경이 있었던 청크의 uid는 커밋 후 인증 캐시에서 직접 제거
+ *   다른 노드에는 변경이 있었다면 완료 시 인증 캐시 전체 무효화를 한 번 기록
+ * - 동시 실행은 인스턴스 내에서만 막음 (여러 인스턴스에서 동시에 실행하지 않도록 운영에서 보장)
+ */
+@Slf4j
+@Component
+public class UserRoleMigrationJob {
+
+    static final String JOB_NAME = "user-role-migration";
+
+    private final UserRepository userRepository;
+    private final JobCheckpointRepository checkpointRepository;
+    private final PrincipalSnapshotCache principalSnapshotCache;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong processedTotal = new AtomicLong();
+    private final AtomicLong targetTotal = new AtomicLong();
+    private final Counter processedCounter;
+    private final Counter updatedCounter;
+    private final Timer chunkTimer;
+
+    public UserRoleMigrationJob(UserRepository userRepository, JobCheckpointRepository checkpointRepository,
+            PrincipalSnapshotCache principalSnapshotCache, CacheInvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${user.role-migration.chunk-size:500}") int chunkSize,
+            @Value("${user.role-migration.parallelism:4}") int parallelism) {
+        this.userRepository = userRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.principalSnapshotCache = principalSnapshotCache;
+        this.invalidationBus = invalidationBus;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+
+        this.processedCounter = Counter.builder("user.role-migration.processed")
+                .register(meterRegistry);
+        this.updatedCounter = Counter.builder("user.role-migration.updated")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("user.role-migration.chunk")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("user.role-migration.progress", this, UserRoleMigrationJob::progress)
+                .register(meterRegistry);
+    }
+
+    private double progress() {
+        long target = targetTotal.get();
+        return target == 0 ? (running.get() ? 0.0 : 1.0) : Math.min(1.0, (double) processedTotal.get() / target);
+    }
+
+    /**
+     * 마이그레이션을 끝까지 실행하고 최종 상태를 반환합니다.
+     * 완료되지 않은 체크포인트가 있으면 새로 시작하지 않고 이어서 처리합니다.
+     */
+    public RoleMigrationStatus run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("역할 마이그레이션이 이미 실행 중입니다.");
+        }
+        try {
+            execute();
+        } finally {
+            running.set(false);
+        }
+        return getStatus();
+    }
+
+    /**
+     * 백그라운드에서 마이그레이션을 시작합니다. 이미 실행 중이면 false를 반환합니다.
+     */
+    public boolean start() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        Thread coordinator = new Thread(() -> {
+            try {
+                execute();
+            } catch (RuntimeException e) {
+                log.error("역할 마이그레이션 실패. 재실행 시 체크포인트부터 이어서 처리합니다.", e);
+            } finally {
+                running.set(false);
+            }
+        }, "role-migration");
+        coordinator.setDaemon(true);
+        coordinator.start();
+        return true;
+    }
+
+    public RoleMigrationStatus getStatus() {
+        return RoleMigrationStatus.of(running.get(), checkpointRepository.findByJobNameOrderByPartitionIndex(JOB_NAME));
+    }
+
+    private void execute() {
+        List<JobCheckpoint> checkpoints = checkpointRepository.findByJobNameOrderByPartitionIndex(JOB_NAME);
+        List<JobCheckpoint> pending = checkpoints.stream().filter(checkpoint -> !checkpoint.isCompleted()).toList();
+        if (pending.isEmpty()) {
+            pending = transactionTemplate.execute(status -> createPartitions());
+            log.info("역할 마이그레이션 시작: 파티션 {}개, 청크 크기 {}", pending.size(), chunkSize);
+        } else {
+            log.info("역할 마이그레이션 재개: 미완료 파티션 {}개", pending.size());
+        }
+
+        processedTotal.set(0);
+        targetTotal.set(userRepository.count());
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        AtomicBoolean changed = new AtomicBoolean();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, pending.size()),
+                workerThreadFactory());
+        try {
+            CompletableFuture.allOf(pending.stream()
+                            .map(checkpoint -> CompletableFuture.runAsync(
+                                    () -> processPartition(checkpoint.getId(), changed), workers))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            workers.shutdown();
+            if (changed.get()) {
+                // 중단되더라도 이미 커밋된 청크의 변경은 다른 노드에 알림
+                transactionTemplate.executeWithoutResult(status ->
+                        invalidationBus.publish(PrincipalSnapshotCache.CACHE_NAME, null));
+            }
+        }
+        log.info("역할 마이그레이션 완료: 변경 {}건", getStatus().getUpdatedCount());
+    }
+
+    private static ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "role-migration-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * 이전 실행 기록을 지우고 min(id)~max(id)를 parallelism개 구간으로 나눕니다.
+     */
+    private List<JobCheckpoint> createPartitions() {
+        checkpointRepository.deleteByJobName(JOB_NAME);
+        checkpointRepository.flush();
+
+        Long minId = userRepository.findMinId();
+        Long maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return List.of();
+        }
+
+        long span = Math.max(1, (maxId - minId + parallelism) / parallelism);
+        List<JobCheckpoint> partitions = new ArrayList<>();
+        for (long start = minId; start <= maxId; start += span) {
+            long end = Math.min(maxId, start + span - 1);
+            partitions.add(JobCheckpoint.start(JOB_NAME, partitions.size(), start, end));
+        }
+        return checkpointRepository.saveAll(partitions);
+    }
+
+    private void processPartition(Long checkpointId, AtomicBoolean changed) {
+        while (true) {
+            long start = System.nanoTime();
+            ChunkResult result = transactionTemplate.execute(status -> processChunk(checkpointId));
+            chunkTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (result == null) {
+                return;
+            }
+
+            processedTotal.addAndGet(result.uids.size());
+            processedCounter.increment(result.uids.size());
+            if (result.updated > 0) {
+                updatedCounter.increment(result.updated);
+                changed.set(true);
+                result.uids.forEach(principalSnapshotCache::invalidate);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 다음 위치부터 한 청크를 처리합니다. 더 처리할 사용자가 없으면 파티션을 완료 처리하고 null을 반환합니다.
+     */
+    private ChunkResult processChunk(Long checkpointId) {
+        JobCheckpoint checkpoint = checkpointRepository.findById(checkpointId).orElseThrow();
+        if (checkpoint.isCompleted()) {
+            return null;
+        }
+
+        List<PrincipalSnapshot> chunk = userRepository.findPrincipalChunk(checkpoint.getLastProcessedId(),
+                checkpoint.getRangeEnd(), PageRequest.ofSize(chunkSize));
+        if (chunk.isEmpty()) {
+            checkpoint.complete();
+            return null;
+        }
+
+        long fromId = chunk.get(0).getUserId();
+        long toId = chunk.get(chunk.size() - 1).getUserId();
+        LocalDateTime now = LocalDateTime.now();
+
+        int backfilled = userRepository.backfillActivePlan(fromId, toId);
+        if (backfilled > 0) {
+            log.debug("활성 구독 포인터 백필: {}건 (ID {}~{})", backfilled, fromId, toId);
+        }
+
+        int updated = 0;
+        for (PlanType planType : PlanType.values()) {
+            updated += userRepository.updateRoleByActivePlanType(fromId, toId, planType, User.Role.of(planType), now);
+        }
+        // 활성 구독이 없는 사용자는 FREE 플랜 기준
+        updated += userRepository.updateRoleWithoutActiveSubscription(fromId, toId, User.Role.USER_FREE, now);
+
+        checkpoint.advance(toId, chunk.size(), updated);
+        if (chunk.size() < chunkSize) {
+            checkpoint.complete();
+        }
+        return new ChunkResult(chunk.stream().map(PrincipalSnapshot::getUid).toList(), updated);
+    }
+
+    private static class ChunkResult {
+        private final List<String> uids;
+        private final int updated;
+
+        ChunkResult(List<String> uids, int updated) {
+            this.uids = uids;
+            this.updated = updated;
+        }
+    }
+}
@@ -1,25 +1,35 @@
 package com.evawova.preview.domain.user.service;
 
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
+import com.evawova.preview.domain.user.dto.RoleMigrationStatus;
+import com.evawova.preview.domain.user.dto.PlanDto;
 import com.evawova.preview.domain.user.dto.SocialLoginRequest;
 import com.evawova.preview.domain.user.dto.UserDto;
+import com.evawova.preview.domain.user.dto.UserSearchCondition;
 import com.evawova.preview.domain.user.dto.UserUpdateRequest;
 import com.evawova.preview.domain.user.entity.Plan;
 import com.evawova.preview.domain.user.entity.PlanType;
-import com.evawova.preview.domain.user.entity.Subscription;
 import com.evawova.preview.domain.user.entity.User;
-import com.evawova.preview.domain.user.repository.PlanRepository;
 import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.domain.user.repository.UserWithActivePlan;
 import com.evawova.preview.security.FirebaseUserDetails;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,69 +37,91 @@ import java.util.List;
 @Slf4j
 public class UserService {
 
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final UserRepository userRepository;
-    private final PlanRepository planRepository;
+    private final PlanCatalog planCatalog;
     private final SubscriptionService subscriptionService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final UserRoleMigrationJob roleMigrationJob;
+
+    /**
+     * 관리자 사용자 목록을 커서 위치부터 size건 조회합니다.
+     * 다음 페이지 여부 확인을 위해 size + 1건을 가져옵니다.
+     */
+    public CursorPage<UserDto> searchUsers(UserSearchCondition condition, KeysetCursor cursor, int size) {
+        log.info("사용자 목록 조회 시작: 조건: {}, 크기: {}", condition, size);
+        PageRequest limit = PageRequest.ofSize(size + 1);
+        List<UserWithActivePlan> users = condition.getSort() == UserSearchCondition.Sort.CREATED_AT
+                ? userRepository.searchOrderByCreatedAtDesc(condition.getRole(), condition.getProvider(),
+                        condition.getIsActive(), condition.createdFromDateTime(), condition.createdToDateTime(),
+                        cursor.getAt(), cursor.getId(), limit)
+                : userRepository.searchOrderById(condition.getRole(), condition.getProvider(),
+                        condition.getIsActive(), condition.createdFromDateTime(), condition.createdToDateTime(),
+                        cursor.getId(), limit);
+        log.info("사용자 목록 {}건 조회 완료", users.size());
+        return CursorPage.of(users, size,
+                        user -> new KeysetCursor(user.getUser().getCreatedAt(), user.getUser().getId()).encode())
+                .map(UserDto::of);
+    }
 
-    public List<UserDto> getAllUsers() {
-        log.info("모든 사용자 조회 시작");
-        List<User> users = userRepository.findAll();
-        log.info("총 {}명의 사용자 조회 완료", users.size());
-        return users.stream()
-                .map(UserDto::fromEntity)
-                .toList();
+    /**
+     * 조건에 맞는 사용자 전체를 id 순으로 하나씩 전달합니다. (관리자 내보내기용)
+     * DB 커서로 순차 조회하고 일정 건수마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+     */
+    public long exportUsers(UserSearchCondition condition, Consumer<UserDto> consumer) {
+        long count = 0;
+        try (Stream<UserWithActivePlan> users = userRepository.streamForExport(condition.getRole(),
+                condition.getProvider(), condition.getIsActive(), condition.createdFromDateTime(),
+                condition.createdToDateTime())) {
+            Iterator<UserWithActivePlan> iterator = users.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(UserDto.of(iterator.next()));
+                if (++count % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+        log.info("사용자 내보내기 완료: {}건", count);
+        return count;
     }
 
     public UserDto getUserById(Long id) {
         log.info("ID로 사용자 조회 시작: {}", id);
-        User user = userRepository.findById(id)
+        UserWithActivePlan user = userRepository.findWithActivePlanById(id)
                 .orElseThrow(() -> {
                     log.error("ID로 사용자 조회 실패: 사용자를 찾을 수 없음 - ID: {}", id);
                     return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + id);
                 });
         log.info("ID로 사용자 조회 성공: ID: {}", id);
-        return UserDto.fromEntity(user);
+        return UserDto.of(user);
     }
 
     public UserDto getUserByEmail(String email) {
         log.info("이메일로 사용자 조회 시작: {}", email);
-        User user = userRepository.findByEmail(email)
+        UserWithActivePlan user = userRepository.findWithActivePlanByEmail(email)
                 .orElseThrow(() -> {
                     log.error("이메일로 사용자 조회 실패: 사용자를 찾을 수 없음 - 이메일: {}", email);
                     return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + email);
                 });
         log.info("이메일로 사용자 조회 성공: 이메일: {}", email);
-        return UserDto.fromEntity(user);
+        return UserDto.of(user);
     }
 
     public UserDto getUserByUid(String uid) {
         log.info("UID로 사용자 조회 시작: {}", uid);
-        User user = userRepository.findByUid(uid)
+        UserWithActivePlan user = userRepository.findWithActivePlanByUid(uid)
                 .orElseThrow(() -> {
                     log.error("UID로 사용자 조회 실패: 사용자를 찾을 수 없음 - UID: {}", uid);
                     return new EntityNotFoundException("User not found with uid: " + uid);
                 });
         log.info("UID로 사용자 조회 성공: UID: {}", uid);
-        return UserDto.fromEntity(user);
+        return UserDto.of(user);
     }
 
     private void updateUserRoleBasedOnPlan(User user, PlanType planType) {
-        User.Role targetRole;
-        switch (planType) {
-            case FREE:
-                targetRole = User.Role.USER_FREE;
-                break;
-            case STANDARD:
-                targetRole = User.Role.USER_STANDARD;
-                break;
-            case PRO:
-                targetRole = User.Role.USER_PRO;
-                break;
-            default:
-                log.warn("Unknown PlanType: {}. Defaulting role to USER_FREE for user ID: {}", planType, user.getId());
-                targetRole = User.Role.USER_FREE;
-                break;
-        }
+        User.Role targetRole = User.Role.of(planType);
         if (user.getRole() != targetRole) {
             log.info("사용자 역할 업데이트: 사용자 ID: {}, 이전 역할: {}, 새 역할: {}, 플랜 타입 기준: {}",
                     user.getId(), user.getRole(), targetRole, planType);
@@ -99,12 +131,18 @@ public class UserService {
         }
     }
 
+    /**
+     * 소셜 로그인 (가입 또는 정보 갱신)
+     * - 사용자와 활성 플랜을 한 번에 조회하고, 신규 사용자의 첫 구독은 캐시된 FREE 플랜으로 바로 생성
+     * - 로그인 기록 등 후속 처리를 위해 조회한 사용자 엔티티를 함께 반환
+     */
     @Transactional
-    public UserDto socialLogin(SocialLoginRequest request) {
+    public SocialLoginResult socialLogin(SocialLoginRequest request) {
         log.info("소셜 로그인 처리 시작: UID: {}, 제공자: {}", request.getUid(), request.getProvider());
 
-        User user = userRepository.findByUid(request.getUid())
-                .map(existingUser -> {
+        UserWithActivePlan user = userRepository.findWithActivePlanByUid(request.getUid())
+                .map(existing -> {
+                    User existingUser = existing.getUser();
                     log.info("기존 사용자 확인됨 (UID: {}). 정보 업데이트 진행.", request.getUid());
                     if (!existingUser.getProvider().equals(request.getProvider())) {
                         log.info("사용자 제공자 정보 업데이트: 사용자 ID: {}, 이전 제공자: {}, 새 제공자: {}",
@@ -116,55 +154,59 @@ public class UserService {
                             request.getPhotoUrl(),
                             request.isEmailVerified(),
                             request.getLastLoginAt());
-                    return existingUser;
+                    return existing;
                 })
-                .orElseGet(() -> {
-                    log.info("신규 소셜 사용자 생성 시작 (UID: {}).", request.getUid());
-                    Plan freePlan = planRepository.findByPlanType(PlanType.FREE)
-                            .orElseThrow(() -> {
-                                log.error("치명적 오류: 소셜 로그인 중 데이터베이스에 Free 플랜이 설정되지 않았습니다.");
-                                return new IllegalStateException("시스템 설정 오류: Free 플랜을 찾을 수 없습니다.");
-                            });
-
-                    User newUser = User.createSocialUser(
-                            request.getUid(),
-                            request.getEmail(),
-                            request.getDisplayName(),
-                            request.getProvider());
-                    updateUserRoleBasedOnPlan(newUser, freePlan.getPlanType());
-
-                    User savedNewUser = userRepository.save(newUser);
-                    log.info("New social user created with ID: {}", savedNewUser.getId());
-
-                    try {
-                        log.info("Creating initial FREE subscription for new social user ID: {}", savedNewUser.getId());
-                        subscriptionService.createSubscription(savedNewUser.getId(), freePlan.getId(),
-                                Subscription.SubscriptionCycle.MONTHLY);
-                        log.info("Initial FREE subscription created successfully for new social user ID: {}",
-                                savedNewUser.getId());
-                    } catch (Exception e) {
-                        log.error("Failed to create initial FREE subscription for new social user ID: {}. Error: {}",
-                                savedNewUser.getId(), e.getMessage(), e);
-                        throw new RuntimeException("초기 구독 생성 중 오류 발생", e);
-                    }
+                .orElseGet(() -> registerSocialUser(request));
 
-                    return savedNewUser;
-                });
+        log.info("Social login successful for user ID: {}", user.getUser().getId());
+        return new SocialLoginResult(user.getUser(), UserDto.of(user));
+    }
+
+    private UserWithActivePlan registerSocialUser(SocialLoginRequest request) {
+        log.info("신규 소셜 사용자 생성 시작 (UID: {}).", request.getUid());
+        Plan freePlan = getFreePlan();
+
+        User newUser = User.createSocialUser(
+                request.getUid(),
+                request.getEmail(),
+                request.getDisplayName(),
+                request.getProvider());
+        updateUserRoleBasedOnPlan(newUser, freePlan.getPlanType());
+
+        User savedNewUser = userRepository.save(newUser);
+        log.info("New social user created with ID: {}", savedNewUser.getId());
+
+        subscriptionService.createInitialSubscription(savedNewUser, freePlan);
+
+        // 미가입 uid로 캐시된 인증 정보 무효화
+        eventPublisher.publishEvent(savedNewUser);
+
+        return new UserWithActivePlan(savedNewUser, freePlan);
+    }
 
-        log.info("Social login successful for user ID: {}", user.getId());
-        return UserDto.fromEntity(user);
+    /**
+     * FREE 플랜 (플랜 카탈로그 스냅샷의 준영속 엔티티)
+     * 구독의 외래 키와 응답 DTO에만 사용합니다.
+     */
+    private Plan getFreePlan() {
+        return planCatalog.findEntityByType(PlanType.FREE)
+                .orElseThrow(() -> {
+                    log.error("치명적 오류: 소셜 로그인 중 데이터베이스에 Free 플랜이 설정되지 않았습니다.");
+                    return new IllegalStateException("시스템 설정 오류: Free 플랜을 찾을 수 없습니다.");
+                });
     }
 
     @Transactional
     public UserDto changePlan(Long userId, PlanType planType) {
         log.info("Attempting to change role for user ID: {} based on requested PlanType: {}", userId, planType);
-        User user = userRepository.findById(userId)
+        UserWithActivePlan userWithActivePlan = userRepository.findWithActivePlanById(userId)
                 .orElseThrow(() -> {
                     log.error("Failed to change role: User not found with ID: {}", userId);
                     return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + userId);
                 });
+        User user = userWithActivePlan.getUser();
 
-        Plan targetPlan = planRepository.findByPlanType(planType)
+        PlanDto targetPlan = planCatalog.findByType(planType)
                 .orElseThrow(() -> {
                     log.error("Failed to change role for user ID: {}: PlanType {} not found.", userId, planType);
                     return new IllegalArgumentException("존재하지 않는 플랜 타입입니다: " + planType);
@@ -175,19 +217,22 @@ public class UserService {
         log.warn("User role updated for user ID: {}. Actual plan change needs to be handled via SubscriptionService.",
                 userId);
 
-        return UserDto.fromEntity(user);
+        eventPublisher.publishEvent(user);
+
+        return UserDto.of(user, userWithActivePlan.getPlan());
     }
 
     @Transactional
     public UserDto changeUserPlanByUid(String uid, PlanType planType) {
         log.info("Attempting to change role for user UID: {} based on requested PlanType: {}", uid, planType);
-        User user = userRepository.findByUid(uid)
+        UserWithActivePlan userWithActivePlan = userRepository.findWithActivePlanByUid(uid)
                 .orElseThrow(() -> {
                     log.error("Failed to change role: User not found with UID: {}", uid);
                     return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + uid);
                 });
+        User user = userWithActivePlan.getUser();
 
-        Plan targetPlan = planRepository.findByPlanType(planType)
+        PlanDto targetPlan = planCatalog.findByType(planType)
                 .orElseThrow(() -> {
                     log.error("Failed to change role for user UID: {}: PlanType {} not found.", uid, planType);
                     return new IllegalArgumentException("존재하지 않는 플랜 타입입니다: " + planType);
@@ -199,8 +244,9 @@ public class UserService {
                 uid);
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(savedUser);
 
-        return UserDto.fromEntity(savedUser);
+        return UserDto.of(savedUser, userWithActivePlan.getPlan());
     }
 
     @Transactional
@@ -223,64 +269,28 @@ public class UserService {
         }
 
         user.withdraw();
+        eventPublisher.publishEvent(user);
         log.info("User withdrawal process completed for user ID: {}", userId);
     }
 
-    @Transactional
-    public void migrateUserRoles() {
-        log.info("Starting user role migration process...");
-        List<User> users = userRepository.findAll();
-        log.info("Found {} users to check for role migration.", users.size());
-        int updatedCount = 0;
-        List<User> usersToSave = new ArrayList<>();
-
-        for (User user : users) {
-            if (user.getRole() == User.Role.ADMIN) {
-                log.debug("Skipping role migration for ADMIN user ID: {}", user.getId());
-                continue;
-            }
-
-            Subscription activeSubscription = user.getActiveSubscription();
-            PlanType currentPlanType;
-
-            if (activeSubscription != null && activeSubscription.getPlan() != null) {
-                currentPlanType = activeSubscription.getPlan().getPlanType();
-                log.debug("User ID: {} has active subscription with PlanType: {}", user.getId(), currentPlanType);
-            } else {
-                log.warn("User ID: {} has no active subscription. Assuming FREE plan for role migration.",
-                        user.getId());
-                currentPlanType = PlanType.FREE;
-            }
-
-            User.Role originalRole = user.getRole();
-            updateUserRoleBasedOnPlan(user, currentPlanType);
-
-            if (user.getRole() != originalRole) {
-                updatedCount++;
-                usersToSave.add(user);
-                log.info("Role changed for user ID: {} from {} to {}. Added to save list.", user.getId(), originalRole,
-                        user.getRole());
-            }
-        }
-
-        if (!usersToSave.isEmpty()) {
-            log.info("Saving {} users with updated roles...", usersToSave.size());
-            userRepository.saveAll(usersToSave);
-            log.info("Successfully saved updated roles.");
-        } else {
-            log.info("No user roles needed updating during migration.");
-        }
-        log.info("User role migration process completed. {} users had their roles updated.", updatedCount);
+    /**
+     * 활성 구독의 플랜에 맞게 전체 사용자의 역할을 재계산합니다.
+     * 청크 단위 트랜잭션으로 처리하며, 중단된 경우 체크포인트부터 이어서 처리합니다. (UserRoleMigrationJob 참고)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RoleMigrationStatus migrateUserRoles() {
+        return roleMigrationJob.run();
     }
 
     @Transactional
     public UserDto updateUser(String uid, UserUpdateRequest updateRequest) {
         log.info("Updating user information for UID: {}", uid);
-        User user = userRepository.findByUid(uid)
+        UserWithActivePlan userWithActivePlan = userRepository.findWithActivePlanByUid(uid)
                 .orElseThrow(() -> {
                     log.error("Update failed: User not found with UID: {}", uid);
                     return new EntityNotFoundException("사용자를 찾을 수 없습니다: " + uid);
                 });
+        User user = userWithActivePlan.getUser();
 
         log.debug("Current displayName: {}, Requested displayName: {}", user.getDisplayName(),
                 updateRequest.getDisplayName());
@@ -291,7 +301,7 @@ public class UserService {
                 user.getLastLoginAt());
         log.info("User information updated successfully for UID: {}", uid);
 
-        return UserDto.fromEntity(user);
+        return UserDto.of(user, userWithActivePlan.getPlan());
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,94 @@
+package com.evawova.preview.infrastructure.batch;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 배치 작업 파티션별 진행 위치
+ * - 청크 처리와 같은 트랜잭션에서 갱신되므로, 중단 후 재실행 시 마지막으로 커밋된 청크 다음부터 이어서 처리
+ * - 파티션은 ID 구간 (lastProcessedId, rangeEnd] 단위
+ */
+@Entity
+@Table(name = "job_checkpoints", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_job_checkpoints_job_partition", columnNames = {"job_name", "partition_index"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("체크포인트 고유 식별자")
+    private Long id;
+
+    @Column(nullable = false, name = "job_name", length = 100)
+    @Comment("배치 작업 이름")
+    private String jobName;
+
+    @Column(nullable = false, name = "partition_index")
+    @Comment("파티션 번호")
+    private Integer partitionIndex;
+
+    @Column(nullable = false, name = "last_processed_id")
+    @Comment("마지막으로 처리 완료된 ID")
+    private Long lastProcessedId;
+
+    @Column(nullable = false, name = "range_end")
+    @Comment("파티션 ID 구간 끝 (포함)")
+    private Long rangeEnd;
+
+    @Column(nullable = false, name = "processed_count")
+    @Comment("처리한 건수")
+    private Long processedCount;
+
+    @Column(nullable = false, name = "updated_count")
+    @Comment("변경한 건수")
+    private Long updatedCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "status")
+    @Comment("상태 (RUNNING, COMPLETED)")
+    private Status status;
+
+    @Column(nullable = false, name = "updated_at")
+    @Comment("마지막 갱신 시간")
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED
+    }
+
+    public static JobCheckpoint start(String jobName, int partitionIndex, long rangeStart, long rangeEnd) {
+        JobCheckpoint checkpoint = new JobCheckpoint();
+        checkpoint.jobName = jobName;
+        checkpoint.partitionIndex = partitionIndex;
+        checkpoint.lastProcessedId = rangeStart - 1;
+        checkpoint.rangeEnd = rangeEnd;
+        checkpoint.processedCount = 0L;
+        checkpoint.updatedCount = 0L;
+        checkpoint.status = Status.RUNNING;
+        checkpoint.updatedAt = LocalDateTime.now();
+        return checkpoint;
+    }
+
+    public void advance(long lastProcessedId, int processed, int updated) {
+        this.lastProcessedId = lastProcessedId;
+        this.processedCount += processed;
+        this.updatedCount += updated;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+}
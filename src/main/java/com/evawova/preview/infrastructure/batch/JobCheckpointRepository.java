@@ -0,0 +1,12 @@
+package com.evawova.preview.infrastructure.batch;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, Long> {
+
+    List<JobCheckpoint> findByJobNameOrderByPartitionIndex(String jobName);
+
+    void deleteByJobName(String jobName);
+}
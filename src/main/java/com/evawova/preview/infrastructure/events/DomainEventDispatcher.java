@@ -1,24 +1,36 @@
 package com.evawova.preview.infrastructure.events;
 
 import com.evawova.preview.domain.common.model.AggregateRoot;
+import com.evawova.preview.domain.common.model.DomainEvent;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.scheduling.annotation.Async;
-import org.springframework.scheduling.annotation.EnableAsync;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-@Configuration
-@EnableAsync
+import java.util.List;
+
+/**
+ * 애그리거트에 등록된 도메인 이벤트를 커밋 직전에 같은 트랜잭션으로 아웃박스(outbox_events)에 기록합니다.
+ * 실제 발행은 OutboxRelay가 커밋된 기록을 읽어 수행하므로, 롤백된 변경의 이벤트는 발행되지 않고
+ * 커밋된 변경의 이벤트는 서버가 중단되어도 잃지 않습니다.
+ */
+@Component
 @RequiredArgsConstructor
 public class DomainEventDispatcher {
 
-    private final DomainEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
 
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public <T> void dispatch(AggregateRoot<T> aggregateRoot) {
-        aggregateRoot.getDomainEvents().forEach(eventPublisher::publish);
+        List<DomainEvent> events = aggregateRoot.getDomainEvents();
+        if (events.isEmpty()) {
+            return;
+        }
+
+        // 커밋 직전이므로 새 애그리거트도 ID가 정해져 있음
+        outboxWriter.append(Hibernate.getClass(aggregateRoot).getSimpleName(), aggregateRoot.getId(), events);
         aggregateRoot.clearEvents();
     }
-} 
\ No newline at end of file
+}
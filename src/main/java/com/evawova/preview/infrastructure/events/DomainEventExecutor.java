@@ -0,0 +1,85 @@
+package com.evawova.preview.infrastructure.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 도메인 이벤트 전달 전용 실행기
+ * - 작업마다 가상 스레드에서 실행하되 동시에 실행하는 작업은 concurrency개로 제한하고, 나머지는 차례를 기다리는 대기열
+ * - 실행 중인 작업과 대기 작업을 합쳐 concurrency + queue-capacity개가 차면 호출 스레드(아웃박스 릴레이)가 직접 실행해
+ *   대기열이 끝없이 늘지 않도록 발행 속도를 늦춤
+ */
+@Component
+public class DomainEventExecutor implements Executor {
+
+    private final ExecutorService virtualThreads =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("domain-event-", 0).factory());
+    private final Semaphore runPermits;
+    private final Semaphore admitPermits;
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Counter callerRunsCounter;
+
+    public DomainEventExecutor(MeterRegistry meterRegistry,
+            @Value("${outbox.dispatch.concurrency:16}") int concurrency,
+            @Value("${outbox.dispatch.queue-capacity:1000}") int queueCapacity) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency는 1 이상이어야 합니다: " + concurrency);
+        }
+        if (queueCapacity < 0) {
+            throw new IllegalArgumentException("queue-capacity는 0 이상이어야 합니다: " + queueCapacity);
+        }
+        this.runPermits = new Semaphore(concurrency);
+        this.admitPermits = new Semaphore(concurrency + queueCapacity);
+
+        this.callerRunsCounter = Counter.builder("domain.event.executor.caller-runs")
+                .register(meterRegistry);
+        Gauge.builder("domain.event.executor.active", runPermits, permits -> concurrency - permits.availablePermits())
+                .register(meterRegistry);
+        Gauge.builder("domain.event.executor.queued", queued, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admitPermits.tryAcquire()) {
+            callerRunsCounter.increment();
+            task.run();
+            return;
+        }
+
+        queued.incrementAndGet();
+        try {
+            virtualThreads.execute(() -> {
+                // 작업을 버리면 기다리는 릴레이가 멈추므로 인터럽트와 관계없이 차례를 기다림
+                runPermits.acquireUninterruptibly();
+                queued.decrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    runPermits.release();
+                    admitPermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            admitPermits.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        virtualThreads.shutdown();
+    }
+}
@@ -1,17 +1,44 @@
 package com.evawova.preview.infrastructure.events;
 
 import com.evawova.preview.domain.common.model.DomainEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Component
 @RequiredArgsConstructor
 public class DomainEventPublisher {
     
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Class<?>, Timer> handleTimers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Counter> failureCounters = new ConcurrentHashMap<>();
     
+    /**
+     * 이벤트를 리스너에 동기로 전달하고, 이벤트 타입별로 리스너 처리 시간과 실패 수를 기록합니다.
+     */
     public void publish(DomainEvent event) {
-        applicationEventPublisher.publishEvent(event);
+        long start = System.nanoTime();
+        try {
+            applicationEventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            failureCounters.computeIfAbsent(event.getClass(), type -> Counter.builder("domain.event.handle.failed")
+                    .tag("event", type.getSimpleName())
+                    .register(meterRegistry)).increment();
+            throw e;
+        } finally {
+            handleTimers.computeIfAbsent(event.getClass(), type -> Timer.builder("domain.event.handle")
+                    .tag("event", type.getSimpleName())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry)).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
     }
-} 
\ No newline at end of file
+}
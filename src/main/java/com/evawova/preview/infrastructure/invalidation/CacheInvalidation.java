@@ -0,0 +1,59 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시 무효화 기록 (노드 간 무효화 변경 로그)
+ * - 데이터를 바꾸는 트랜잭션 안에서 함께 추가되므로, 커밋된 변경에 대해서만 다른 노드가 무효화를 받음
+ * - 각 노드는 id 순서대로 이어서 읽고, 보관 기간이 지난 기록은 주기적으로 삭제
+ */
+@Entity
+@Table(name = "cache_invalidations", indexes = {
+        @Index(name = "idx_cache_invalidations_created_at", columnList = "created_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CacheInvalidation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("무효화 기록 고유 식별자 (노드가 이어서 읽는 위치)")
+    private Long id;
+
+    @Column(nullable = false, name = "cache_name", length = 100)
+    @Comment("캐시 이름")
+    private String cacheName;
+
+    @Column(name = "cache_key")
+    @Comment("무효화할 키 (null이면 캐시 전체)")
+    private String cacheKey;
+
+    @Column(nullable = false, name = "version")
+    @Comment("변경 시각 (epoch millis)")
+    private Long version;
+
+    @Column(nullable = false, name = "origin_node", length = 36)
+    @Comment("기록한 노드 ID")
+    private String originNode;
+
+    @Column(nullable = false, name = "created_at")
+    @Comment("기록 시간")
+    private LocalDateTime createdAt;
+
+    public static CacheInvalidation of(String cacheName, String cacheKey, long version, String originNode,
+            LocalDateTime createdAt) {
+        CacheInvalidation invalidation = new CacheInvalidation();
+        invalidation.cacheName = cacheName;
+        invalidation.cacheKey = cacheKey;
+        invalidation.version = version;
+        invalidation.originNode = originNode;
+        invalidation.createdAt = createdAt;
+        return invalidation;
+    }
+}
@@ -0,0 +1,269 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * DB 변경 로그 기반 노드 간 캐시 무효화
+ * - 쓰기 트랜잭션이 커밋 직전에 (캐시 이름, 키, 버전) 기록을 cache_invalidations에 추가하고,
+ *   기록한 노드는 커밋 직후 자신의 캐시를 직접 무효화
+ * - 각 노드는 poll-interval마다 마지막으로 읽은 id 이후의 기록만 id 순서대로 읽어 다른 노드의 기록을 적용
+ * - IDENTITY id는 커밋 순서와 다를 수 있으므로, 건너뛴 id는 공백으로 기억해 두었다가 다음 폴링에서 다시 확인하고
+ *   gap-timeout이 지나면 롤백된 것으로 보고 잊음 (기록을 커밋 직전에 추가하므로 공백은 보통 금방 채워짐)
+ * - 추적할 공백이 batch-size를 넘으면 (오래 멈췄다가 재개 등) 놓친 기록이 있을 수 있으므로 모든 캐시를 비움
+ * - retention이 지난 기록은 prune-interval마다 삭제 (retention은 gap-timeout보다 충분히 길어야 함)
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final CacheInvalidationRepository repository;
+    private final Supplier<List<CacheInvalidationHandler>> handlers;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate pruneTemplate;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration gapTimeout;
+    private final Duration pruneInterval;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 폴링 위치 (synchronized로 보호). lastSeenId까지는 적용했거나 공백으로 기억함
+    private Long lastSeenId;
+    private final Map<Long, Instant> gaps = new TreeMap<>();
+
+    @Autowired
+    public CacheInvalidationBus(CacheInvalidationRepository repository,
+            ObjectProvider<CacheInvalidationHandler> handlers, PlatformTransactionManager transactionManager,
+            @Value("${cache.invalidation.poll-interval:PT1S}") Duration pollInterval,
+            @Value("${cache.invalidation.batch-size:500}") int batchSize,
+            @Value("${cache.invalidation.retention:PT1H}") Duration retention,
+            @Value("${cache.invalidation.gap-timeout:PT1M}") Duration gapTimeout,
+            @Value("${cache.invalidation.prune-interval:PT10M}") Duration pruneInterval) {
+        // 핸들러가 이 빈을 주입받아 기록하므로 순환 참조를 피하도록 사용 시점에 조회
+        this(repository, () -> handlers.orderedStream().toList(), transactionManager, pollInterval, batchSize,
+                retention, gapTimeout, pruneInterval, Clock.systemDefaultZone());
+    }
+
+    CacheInvalidationBus(CacheInvalidationRepository repository, Supplier<List<CacheInvalidationHandler>> handlers,
+            PlatformTransactionManager transactionManager, Duration pollInterval, int batchSize,
+            Duration retention, Duration gapTimeout, Duration pruneInterval, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        if (retention.compareTo(gapTimeout) <= 0) {
+            throw new IllegalArgumentException("retention은 gap-timeout보다 길어야 합니다.");
+        }
+        this.repository = repository;
+        this.handlers = handlers;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.pruneTemplate = new TransactionTemplate(transactionManager);
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.gapTimeout = gapTimeout;
+        this.pruneInterval = pruneInterval;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cache-invalidation-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 기동 시점의 마지막 id부터 이어서 읽습니다. 기동 전 기록은 비어 있는 캐시와 무관하므로 적용하지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        poll();
+        scheduler.scheduleWithFixedDelay(this::pollQuietly, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly, pruneInterval.toMillis(), pruneInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 현재 트랜잭션에 무효화 기록을 추가합니다. 트랜잭션이 롤백되면 기록도 남지 않습니다.
+     *
+     * @param key 무효화할 키 (null이면 캐시 전체)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(String cacheName, String key) {
+        repository.save(CacheInvalidation.of(cacheName, key, clock.millis(), nodeId, LocalDateTime.now(clock)));
+    }
+
+    /**
+     * 현재 트랜잭션에 키마다 무효화 기록을 추가합니다. (일괄 변경용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(String cacheName, Collection<String> keys) {
+        long version = clock.millis();
+        LocalDateTime now = LocalDateTime.now(clock);
+        repository.saveAll(keys.stream()
+                .map(key -> CacheInvalidation.of(cacheName, key, version, nodeId, now))
+                .toList());
+    }
+
+    /**
+     * 공백으로 남아 있던 기록과 마지막으로 읽은 id 이후의 기록을 적용하고, 적용한 기록 수를 반환합니다.
+     * 처음 호출되면 현재 마지막 id만 기억합니다.
+     */
+    synchronized int poll() {
+        if (lastSeenId == null) {
+            lastSeenId = readTemplate.execute(status -> repository.findMaxId());
+            log.info("캐시 무효화 폴링 시작: 노드 {}, 위치 {}", nodeId, lastSeenId);
+            return 0;
+        }
+
+        Instant now = clock.instant();
+        int applied = recheckGaps(now);
+
+        boolean overflow = false;
+        List<CacheInvalidation> rows;
+        do {
+            long from = lastSeenId;
+            rows = readTemplate.execute(status ->
+                    repository.findByIdGreaterThanOrderByIdAsc(from, PageRequest.ofSize(batchSize)));
+            for (CacheInvalidation row : rows) {
+                if (row.getId() - lastSeenId - 1 > batchSize) {
+                    overflow = true;
+                } else {
+                    for (long id = lastSeenId + 1; id < row.getId(); id++) {
+                        gaps.put(id, now);
+                    }
+                }
+                lastSeenId = row.getId();
+                applied += apply(row);
+            }
+        } while (rows.size() == batchSize);
+
+        if (overflow || gaps.size() > batchSize) {
+            log.warn("캐시 무효화 공백이 batch-size({})를 넘습니다. 놓친 기록이 있을 수 있어 모든 캐시를 비웁니다.", batchSize);
+            gaps.clear();
+            invalidateAll();
+        }
+        return applied;
+    }
+
+    /**
+     * 보관 기간이 지난 기록을 삭제하고 삭제한 건수를 반환합니다.
+     */
+    int prune() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        Integer deleted = pruneTemplate.execute(status -> repository.deleteCreatedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("캐시 무효화 기록 {}건 삭제 ({} 이전)", deleted, cutoff);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    synchronized int getPendingGapCount() {
+        return gaps.size();
+    }
+
+    private int recheckGaps(Instant now) {
+        if (gaps.isEmpty()) {
+            return 0;
+        }
+
+        int applied = 0;
+        List<CacheInvalidation> filled = readTemplate.execute(status ->
+                repository.findByIdInOrderByIdAsc(List.copyOf(gaps.keySet())));
+        for (CacheInvalidation row : filled) {
+            gaps.remove(row.getId());
+            applied += apply(row);
+        }
+
+        Iterator<Map.Entry<Long, Instant>> iterator = gaps.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Instant> gap = iterator.next();
+            if (gap.getValue().plus(gapTimeout).isBefore(now)) {
+                log.debug("캐시 무효화 id {}는 롤백된 것으로 보고 건너뜁니다.", gap.getKey());
+                iterator.remove();
+            }
+        }
+        return applied;
+    }
+
+    private int apply(CacheInvalidation row) {
+        // 기록한 노드는 커밋 직후 이미 무효화함
+        if (nodeId.equals(row.getOriginNode())) {
+            return 0;
+        }
+        for (CacheInvalidationHandler handler : handlers.get()) {
+            if (handler.cacheName().equals(row.getCacheName())) {
+                invalidate(handler, row.getCacheKey());
+            }
+        }
+        return 1;
+    }
+
+    private void invalidateAll() {
+        handlers.get().forEach(handler -> invalidate(handler, null));
+    }
+
+    private void invalidate(CacheInvalidationHandler handler, String key) {
+        try {
+            handler.invalidate(key);
+        } catch (RuntimeException e) {
+            // 한 캐시의 실패로 다른 기록 적용이 멈추지 않도록 기록만 남김
+            log.warn("캐시 무효화 적용 실패: {} (키: {})", handler.cacheName(), key, e);
+        }
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 폴링 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            log.warn("캐시 무효화 기록 삭제 실패", e);
+        }
+    }
+}
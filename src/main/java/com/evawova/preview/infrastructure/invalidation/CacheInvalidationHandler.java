@@ -0,0 +1,18 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+/**
+ * 다른 노드에서 기록된 무효화를 이 노드의 캐시에 적용하는 빈
+ * CacheInvalidationBus가 같은 캐시 이름의 기록을 읽을 때마다 폴링 스레드에서 호출합니다.
+ */
+public interface CacheInvalidationHandler {
+
+    /**
+     * CacheInvalidationBus.publish에 사용한 캐시 이름
+     */
+    String cacheName();
+
+    /**
+     * @param key 무효화할 키 (null이면 캐시 전체)
+     */
+    void invalidate(String key);
+}
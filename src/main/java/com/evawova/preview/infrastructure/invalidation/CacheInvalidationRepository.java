@@ -0,0 +1,25 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CacheInvalidationRepository extends JpaRepository<CacheInvalidation, Long> {
+
+    List<CacheInvalidation> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    List<CacheInvalidation> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select coalesce(max(c.id), 0) from CacheInvalidation c")
+    long findMaxId();
+
+    @Modifying
+    @Query("delete from CacheInvalidation c where c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,117 @@
+package com.evawova.preview.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Comment;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트 아웃박스
+ * - 애그리거트를 변경한 트랜잭션 안에서 함께 추가되므로, 커밋된 변경의 이벤트만 남고 커밋된 이벤트는 잃지 않음
+ * - 릴레이가 발행하지 않은 기록을 id 순서대로 읽어 발행하고 발행 시각을 기록하며, 보관 기간이 지난 발행 기록은 삭제
+ * - 발행에 실패하면 시도 횟수와 마지막 오류를 남기고 다음 시도 시각까지 미루며, 한도를 넘으면 격리(dead_at)하여
+ *   발행 대기에서 제외 (격리된 기록은 삭제하지 않으므로 원인을 확인한 뒤 직접 처리)
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_published_at_id", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_events_aggregate", columnList = "aggregate_type, aggregate_id, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    private static final int LAST_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Comment("아웃박스 기록 고유 식별자 (발행 순서)")
+    private Long id;
+
+    @Column(nullable = false, name = "aggregate_type", length = 100)
+    @Comment("애그리거트 타입")
+    private String aggregateType;
+
+    @Column(nullable = false, name = "aggregate_id", length = 64)
+    @Comment("애그리거트 ID")
+    private String aggregateId;
+
+    @Column(nullable = false, name = "event_type")
+    @Comment("이벤트 클래스 이름")
+    private String eventType;
+
+    @Column(nullable = false, name = "event_id", length = 36)
+    @Comment("이벤트 ID")
+    private String eventId;
+
+    @Column(nullable = false, name = "payload", columnDefinition = "TEXT")
+    @Comment("이벤트 JSON")
+    private String payload;
+
+    @Column(nullable = false, name = "occurred_at")
+    @Comment("이벤트 발생 시간")
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false, name = "created_at")
+    @Comment("기록 시간")
+    private LocalDateTime createdAt;
+
+    @Column(name = "published_at")
+    @Comment("발행 시간 (null이면 발행 대기)")
+    private LocalDateTime publishedAt;
+
+    @Column(nullable = false, name = "attempts")
+    @Comment("발행 실패 횟수")
+    private int attempts;
+
+    @Column(name = "last_error", length = LAST_ERROR_LENGTH)
+    @Comment("마지막 발행 실패 원인")
+    private String lastError;
+
+    @Column(name = "next_attempt_at")
+    @Comment("다음 발행 시도 시간 (null이면 바로 시도)")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "dead_at")
+    @Comment("격리 시간 (null이 아니면 발행 대기에서 제외)")
+    private LocalDateTime deadAt;
+
+    public static OutboxEvent of(String aggregateType, String aggregateId, String eventType, String eventId,
+            String payload, LocalDateTime occurredAt, LocalDateTime createdAt) {
+        OutboxEvent event = new OutboxEvent();
+        event.aggregateType = aggregateType;
+        event.aggregateId = aggregateId;
+        event.eventType = eventType;
+        event.eventId = eventId;
+        event.payload = payload;
+        event.occurredAt = occurredAt;
+        event.createdAt = createdAt;
+        return event;
+    }
+
+    /**
+     * 발행 실패를 기록하고 nextAttemptAt까지 다시 시도하지 않습니다.
+     */
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 발행 실패를 기록하고 격리하여 발행 대기에서 제외합니다.
+     */
+    public void park(String error, LocalDateTime deadAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = null;
+        this.deadAt = deadAt;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > LAST_ERROR_LENGTH ? error.substring(0, LAST_ERROR_LENGTH) : error;
+    }
+}
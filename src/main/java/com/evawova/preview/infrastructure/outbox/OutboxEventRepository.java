@@ -0,0 +1,46 @@
+package com.evawova.preview.infrastructure.outbox;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 지금 발행할 수 있는 대기 기록을 id 순서대로 잠그고 읽습니다. 다른 노드의 릴레이는 이 트랜잭션이 끝날 때까지
+     * 기다렸다가 그 사이 발행된 기록을 제외하고 읽습니다.
+     * 격리된 기록과 다음 시도 시각이 남은 기록, 그리고 같은 애그리거트에서 그보다 앞선 기록이 다음 시도를 기다리는
+     * 기록은 제외하여 애그리거트별 순서를 지킵니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from OutboxEvent o where o.publishedAt is null and o.deadAt is null"
+            + " and (o.nextAttemptAt is null or o.nextAttemptAt <= :now)"
+            + " and not exists (select p.id from OutboxEvent p where p.aggregateType = o.aggregateType"
+            + " and p.aggregateId = o.aggregateId and p.id < o.id and p.publishedAt is null and p.deadAt is null"
+            + " and p.nextAttemptAt > :now)"
+            + " order by o.id asc")
+    List<OutboxEvent> findPendingForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    Optional<OutboxEvent> findFirstByPublishedAtIsNullAndDeadAtIsNullOrderByIdAsc();
+
+    long countByPublishedAtIsNullAndDeadAtIsNull();
+
+    long countByDeadAtIsNotNull();
+
+    @Modifying
+    @Query("update OutboxEvent o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") LocalDateTime publishedAt);
+
+    @Modifying
+    @Query("delete from OutboxEvent o where o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
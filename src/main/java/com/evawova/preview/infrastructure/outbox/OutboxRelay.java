@@ -0,0 +1,363 @@
+package com.evawova.preview.infrastructure.outbox;
+
+import com.evawova.preview.domain.common.model.DomainEvent;
+import com.evawova.preview.infrastructure.events.DomainEventExecutor;
+import com.evawova.preview.infrastructure.events.DomainEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아웃박스 릴레이
+ * - poll-interval마다 발행 대기 기록을 id 순서대로 batch-size씩 읽어 도메인 이벤트로 복원해 발행하고,
+ *   발행한 기록의 발행 시각을 같은 트랜잭션에서 기록 (배치가 가득 차 있으면 쉬지 않고 다음 배치를 읽음)
+ * - 배치를 잠그고 읽으므로 여러 노드가 실행해도 한 배치는 한 노드만 발행하고 애그리거트별 순서가 지켜짐
+ * - 배치 안의 이벤트를 애그리거트별로 묶어, 애그리거트 안에서는 순서대로, 애그리거트끼리는 DomainEventExecutor에서
+ *   동시에 전달 (리스너는 릴레이 트랜잭션 밖의 가상 스레드에서 실행됨)
+ * - coalesce를 켜면 배치 안에서 같은 애그리거트의 같은 타입 이벤트는 마지막 것만 전달하고 앞선 것은 함께 발행 처리
+ *   (최신 상태만 의미 있는 이벤트에만 사용)
+ * - 발행(복원 포함)에 실패한 이벤트는 시도 횟수와 원인을 기록하고 retry-backoff부터 두 배씩(최대 max-backoff) 늘린
+ *   시각까지 미루며, 같은 애그리거트의 이후 이벤트도 함께 기다림 (다른 애그리거트는 계속 발행)
+ * - max-attempts번 실패한 이벤트는 격리하여 발행 대기에서 제외하고, 같은 애그리거트의 이후 이벤트는 이어서 발행
+ * - 발행 후 커밋 전에 중단되면 다음 폴링에서 다시 발행하므로 리스너는 같은 이벤트를 두 번 받을 수 있음 (eventId로 구분)
+ * - retention이 지난 발행 기록은 prune-interval마다 삭제
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxEventRepository repository;
+    private final DomainEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Executor dispatchExecutor;
+    private final TransactionTemplate relayTemplate;
+    private final TransactionTemplate readTemplate;
+    private final Duration pollInterval;
+    private final int batchSize;
+    private final Duration retention;
+    private final Duration pruneInterval;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final boolean coalesce;
+    private final boolean enabled;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong parkedCount = new AtomicLong();
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter coalescedCounter;
+    private final Timer batchTimer;
+
+    @Autowired
+    public OutboxRelay(OutboxEventRepository repository, DomainEventPublisher eventPublisher,
+            ObjectMapper objectMapper, DomainEventExecutor dispatchExecutor,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${outbox.relay.poll-interval:PT1S}") Duration pollInterval,
+            @Value("${outbox.relay.batch-size:500}") int batchSize,
+            @Value("${outbox.relay.retention:PT24H}") Duration retention,
+            @Value("${outbox.relay.prune-interval:PT10M}") Duration pruneInterval,
+            @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+            @Value("${outbox.relay.retry-backoff:PT5S}") Duration retryBackoff,
+            @Value("${outbox.relay.max-backoff:PT10M}") Duration maxBackoff,
+            @Value("${outbox.dispatch.coalesce:false}") boolean coalesce,
+            @Value("${outbox.relay.enabled:true}") boolean enabled) {
+        this(repository, eventPublisher, objectMapper, dispatchExecutor, transactionManager, meterRegistry,
+                pollInterval, batchSize, retention, pruneInterval, maxAttempts, retryBackoff, maxBackoff, coalesce,
+                enabled, Clock.systemDefaultZone());
+    }
+
+    OutboxRelay(OutboxEventRepository repository, DomainEventPublisher eventPublisher, ObjectMapper objectMapper,
+            Executor dispatchExecutor, PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            Duration pollInterval, int batchSize, Duration retention, Duration pruneInterval, int maxAttempts,
+            Duration retryBackoff, Duration maxBackoff, boolean coalesce, boolean enabled, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch-size는 1 이상이어야 합니다: " + batchSize);
+        }
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("max-attempts는 1 이상이어야 합니다: " + maxAttempts);
+        }
+        this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.dispatchExecutor = dispatchExecutor;
+        this.relayTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
+        this.pollInterval = pollInterval;
+        this.batchSize = batchSize;
+        this.retention = retention;
+        this.pruneInterval = pruneInterval;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+        this.coalesce = coalesce;
+        this.enabled = enabled;
+        this.clock = clock;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.publishedCounter = Counter.builder("outbox.relay.published")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("outbox.relay.coalesced")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        // 가장 오래된 발행 대기 기록이 기다린 시간, 발행 대기 건수와 격리된 건수 (폴링마다 갱신)
+        Gauge.builder("outbox.relay.lag", lagMillis, lag -> lag.get() / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.pending", pendingCount, AtomicLong::get)
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.parked", parkedCount, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("아웃박스 릴레이가 비활성화되어 있습니다.");
+            return;
+        }
+        scheduler.scheduleWithFixedDelay(this::relayQuietly, pollInterval.toMillis(), pollInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly, pruneInterval.toMillis(), pruneInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 발행 대기 기록을 발행하고 리스너에 전달한 이벤트 수(병합된 이벤트 제외)를 반환합니다.
+     * 이 인스턴스에서 이미 실행 중이면 0을 반환합니다.
+     */
+    public int relay() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int published = 0;
+            BatchResult result;
+            do {
+                long start = System.nanoTime();
+                result = relayTemplate.execute(status -> relayBatch());
+                batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                publishedCounter.increment(result.published);
+                failedCounter.increment(result.failed);
+                coalescedCounter.increment(result.coalesced);
+                published += result.published;
+                // 실패한 애그리거트의 남은 기록은 다음 폴링까지 기다림
+            } while (result.fetched == batchSize && result.failed == 0);
+            updateLag();
+            return published;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 발행 기록을 삭제하고 삭제한 건수를 반환합니다.
+     */
+    int prune() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(retention);
+        Integer deleted = relayTemplate.execute(status -> repository.deletePublishedBefore(cutoff));
+        if (deleted != null && deleted > 0) {
+            log.debug("아웃박스 발행 기록 {}건 삭제 ({} 이전)", deleted, cutoff);
+        }
+        return deleted == null ? 0 : deleted;
+    }
+
+    private BatchResult relayBatch() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<OutboxEvent> rows = repository.findPendingForUpdate(now, PageRequest.ofSize(batchSize));
+        Map<String, List<OutboxEvent>> byAggregate = new LinkedHashMap<>();
+        for (OutboxEvent row : rows) {
+            byAggregate.computeIfAbsent(row.getAggregateType() + ":" + row.getAggregateId(),
+                    aggregate -> new ArrayList<>()).add(row);
+        }
+        List<CompletableFuture<AggregateResult>> dispatches = byAggregate.entrySet().stream()
+                .map(entry -> CompletableFuture.supplyAsync(
+                        () -> dispatch(entry.getKey(), entry.getValue()), dispatchExecutor))
+                .toList();
+
+        BatchResult result = new BatchResult(rows.size());
+        List<Long> publishedIds = new ArrayList<>(rows.size());
+        for (CompletableFuture<AggregateResult> dispatch : dispatches) {
+            AggregateResult aggregateResult = dispatch.join();
+            publishedIds.addAll(aggregateResult.publishedIds);
+            result.published += aggregateResult.delivered;
+            result.coalesced += aggregateResult.publishedIds.size() - aggregateResult.delivered;
+            if (aggregateResult.failedRow != null) {
+                result.failed++;
+                recordFailure(aggregateResult.failedRow, aggregateResult.error, now);
+            }
+        }
+        if (!publishedIds.isEmpty()) {
+            repository.markPublished(publishedIds, now);
+        }
+        return result;
+    }
+
+    /**
+     * 실패한 기록에 시도 횟수와 원인을 남기고, 한도에 닿으면 격리합니다. (릴레이 트랜잭션에서 함께 반영)
+     */
+    private void recordFailure(OutboxEvent row, RuntimeException error, LocalDateTime now) {
+        String cause = NestedExceptionUtils.getMostSpecificCause(error).toString();
+        if (row.getAttempts() + 1 >= maxAttempts) {
+            row.park(cause, now);
+            log.error("아웃박스 이벤트가 {}번 실패하여 격리되었습니다: id {}, {} ({})",
+                    row.getAttempts(), row.getId(), row.getEventType(), cause);
+            return;
+        }
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(row.getAttempts(), 20));
+        row.recordFailure(cause, now.plus(delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay));
+    }
+
+    /**
+     * 한 애그리거트의 이벤트를 순서대로 전달합니다. 실패하면 그 이후 이벤트는 이번 배치에서 전달하지 않습니다.
+     */
+    private AggregateResult dispatch(String aggregate, List<OutboxEvent> rows) {
+        Map<Long, List<Long>> superseded = new HashMap<>();
+        List<OutboxEvent> deliveries = coalesce ? coalesce(rows, superseded) : rows;
+        AggregateResult result = new AggregateResult();
+        for (OutboxEvent row : deliveries) {
+            try {
+                eventPublisher.publish(deserialize(row));
+            } catch (RuntimeException e) {
+                result.failedRow = row;
+                result.error = e;
+                log.warn("아웃박스 이벤트 발행 실패: id {}, {} ({}, {}번째 시도)",
+                        row.getId(), row.getEventType(), aggregate, row.getAttempts() + 1, e);
+                break;
+            }
+            result.delivered++;
+            result.publishedIds.add(row.getId());
+            // 병합된 앞선 이벤트는 대신 전달한 이벤트가 발행되었을 때만 발행 처리
+            result.publishedIds.addAll(superseded.getOrDefault(row.getId(), List.of()));
+        }
+        return result;
+    }
+
+    /**
+     * 타입별로 마지막 이벤트만 남기고, 남긴 이벤트 id별로 병합된 앞선 이벤트 id를 superseded에 담습니다.
+     */
+    private List<OutboxEvent> coalesce(List<OutboxEvent> rows, Map<Long, List<Long>> superseded) {
+        Map<String, Long> latestByType = new HashMap<>();
+        List<OutboxEvent> deliveries = new ArrayList<>();
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            OutboxEvent row = rows.get(i);
+            Long latestId = latestByType.putIfAbsent(row.getEventType(), row.getId());
+            if (latestId == null) {
+                deliveries.add(row);
+            } else {
+                superseded.computeIfAbsent(latestId, id -> new ArrayList<>()).add(row.getId());
+            }
+        }
+        Collections.reverse(deliveries);
+        return deliveries;
+    }
+
+    private DomainEvent deserialize(OutboxEvent row) {
+        try {
+            Class<?> type = ClassUtils.forName(row.getEventType(), getClass().getClassLoader());
+            if (!DomainEvent.class.isAssignableFrom(type)) {
+                throw new IllegalStateException("도메인 이벤트 타입이 아닙니다: " + row.getEventType());
+            }
+            return (DomainEvent) objectMapper.readValue(row.getPayload(), type);
+        } catch (ClassNotFoundException | LinkageError | JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트를 복원할 수 없습니다: id " + row.getId(), e);
+        }
+    }
+
+    private void updateLag() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        readTemplate.executeWithoutResult(status -> {
+            lagMillis.set(repository.findFirstByPublishedAtIsNullAndDeadAtIsNullOrderByIdAsc()
+                    .map(oldest -> Math.max(0, Duration.between(oldest.getCreatedAt(), now).toMillis()))
+                    .orElse(0L));
+            pendingCount.set(repository.countByPublishedAtIsNullAndDeadAtIsNull());
+            parkedCount.set(repository.countByDeadAtIsNotNull());
+        });
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 릴레이 실패, 다음 주기에 다시 시도합니다.", e);
+        }
+    }
+
+    private void pruneQuietly() {
+        try {
+            prune();
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 발행 기록 삭제 실패", e);
+        }
+    }
+
+    private static final class BatchResult {
+
+        private final int fetched;
+        private int published;
+        private int coalesced;
+        private int failed;
+
+        private BatchResult(int fetched) {
+            this.fetched = fetched;
+        }
+    }
+
+    private static final class AggregateResult {
+
+        private final List<Long> publishedIds = new ArrayList<>();
+        private int delivered;
+        private OutboxEvent failedRow;
+        private RuntimeException error;
+    }
+}
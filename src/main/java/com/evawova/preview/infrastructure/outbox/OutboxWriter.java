@@ -0,0 +1,60 @@
+package com.evawova.preview.infrastructure.outbox;
+
+import com.evawova.preview.domain.common.model.AbstractDomainEvent;
+import com.evawova.preview.domain.common.model.DomainEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 도메인 이벤트를 현재 트랜잭션의 아웃박스 기록으로 추가합니다.
+ * 애그리거트 엔티티 없이 UPDATE 문으로 상태를 바꾸는 배치도 이 클래스로 같은 트랜잭션에서 이벤트를 남겨,
+ * 변경이 커밋되면 OutboxRelay가 발행합니다. (트랜잭션 밖에서 호출하면 예외)
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, DomainEvent event) {
+        append(aggregateType, aggregateId, List.of(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String aggregateType, Object aggregateId, List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String id = String.valueOf(aggregateId);
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = events.stream()
+                .map(event -> OutboxEvent.of(aggregateType, id, event.getClass().getName(), eventId(event),
+                        serialize(event), event.getOccurredOn(), now))
+                .toList();
+        outboxEventRepository.saveAll(rows);
+    }
+
+    private String eventId(DomainEvent event) {
+        return event instanceof AbstractDomainEvent domainEvent
+                ? domainEvent.getEventId()
+                : UUID.randomUUID().toString();
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("도메인 이벤트를 직렬화할 수 없습니다: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.evawova.preview.infrastructure.scheduling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 계층형 타이밍 휠
+ * - 가장 아래 휠은 tick 간격 슬롯 wheelSize개, 상위 휠은 바로 아래 휠 한 바퀴를 슬롯 하나로 사용
+ *   (tick 1초, 슬롯 64개면 64초 / 68분 / 73시간 ... 단위로 필요한 만큼만 상위 휠을 만듦)
+ * - 등록은 슬롯 하나에 넣는 O(1), 상위 휠 슬롯의 만료 시각이 되면 항목을 아래 휠로 다시 나눠 담음
+ * - 항목이 있는 슬롯만 만료 시각 순 큐에 넣으므로 빈 슬롯을 하나씩 돌지 않고, 오래 멈췄다 호출해도 바로 따라잡음
+ * - 스레드 안전하지 않음 (호출자가 동기화)
+ *
+ * @param <T> 항목 타입
+ */
+public class HierarchicalTimingWheel<T> {
+
+    private final PriorityQueue<Bucket<T>> dueBuckets =
+            new PriorityQueue<>(Comparator.comparingLong(bucket -> bucket.expiration));
+    private final Level root;
+    private int size;
+
+    /**
+     * @param tickMillis  가장 아래 휠의 슬롯 간격 (만료 판정 정밀도)
+     * @param wheelSize   휠 하나의 슬롯 수
+     * @param startMillis 시작 시각
+     */
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis는 0보다 커야 합니다: " + tickMillis);
+        }
+        if (wheelSize < 2) {
+            throw new IllegalArgumentException("wheelSize는 2 이상이어야 합니다: " + wheelSize);
+        }
+        this.root = new Level(tickMillis, wheelSize, startMillis);
+    }
+
+    /**
+     * 항목을 등록합니다. 만료 시각이 이미 지났거나 현재 tick 안이면 등록하지 않고 false를 반환하므로 호출자가 바로 실행합니다.
+     */
+    public boolean add(long deadlineMillis, T item) {
+        if (!root.add(new Entry<>(deadlineMillis, item))) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * nowMillis까지 만료된 항목을 꺼냅니다. 슬롯 단위로 만료 시각 순서이며, 같은 슬롯 안의 순서는 보장하지 않습니다.
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> due = new ArrayList<>();
+        Bucket<T> bucket;
+        while ((bucket = dueBuckets.peek()) != null && bucket.expiration <= nowMillis) {
+            dueBuckets.poll();
+            root.advanceClock(bucket.expiration);
+            for (Entry<T> entry : bucket.flush()) {
+                // 상위 휠 슬롯의 항목은 아래 휠로 다시 들어가고, 가장 아래 휠까지 내려온 항목만 만료
+                if (!root.add(entry)) {
+                    size--;
+                    due.add(entry.item);
+                }
+            }
+        }
+        root.advanceClock(nowMillis);
+        return due;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private final class Level {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final List<Bucket<T>> buckets;
+        private long currentTime;
+        private Level overflow;
+
+        private Level(long tickMillis, int wheelSize, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new ArrayList<>(wheelSize);
+            for (int i = 0; i < wheelSize; i++) {
+                buckets.add(new Bucket<>());
+            }
+            this.currentTime = startMillis - (startMillis % tickMillis);
+        }
+
+        private boolean add(Entry<T> entry) {
+            if (entry.deadline < currentTime + tickMillis) {
+                return false;
+            }
+            if (entry.deadline < currentTime + interval) {
+                long virtualId = entry.deadline / tickMillis;
+                Bucket<T> bucket = buckets.get((int) (virtualId % wheelSize));
+                bucket.entries.add(entry);
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    dueBuckets.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(interval, wheelSize, currentTime);
+            }
+            return overflow.add(entry);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentTime + tickMillis) {
+                currentTime = timeMillis - (timeMillis % tickMillis);
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+    }
+
+    private static final class Bucket<T> {
+
+        private final ArrayDeque<Entry<T>> entries = new ArrayDeque<>();
+        private long expiration = -1;
+
+        /**
+         * 비어 있던 슬롯이 새 만료 시각으로 다시 쓰이면 true (만료 큐에 넣어야 함)
+         */
+        private boolean setExpiration(long expiration) {
+            if (this.expiration == expiration) {
+                return false;
+            }
+            this.expiration = expiration;
+            return true;
+        }
+
+        private List<Entry<T>> flush() {
+            List<Entry<T>> flushed = new ArrayList<>(entries);
+            entries.clear();
+            expiration = -1;
+            return flushed;
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final long deadline;
+        private final T item;
+
+        private Entry(long deadline, T item) {
+            this.deadline = deadline;
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.evawova.preview.security;
+
+import com.google.auth.oauth2.GoogleCredentials;
+import com.google.firebase.FirebaseApp;
+import com.google.firebase.FirebaseOptions;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.FirebaseToken;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Firebase Admin SDK 기반 토큰 검증기
+ * security.firebase.verifier=admin 으로 설정한 경우에만 사용됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.firebase.verifier", havingValue = "admin")
+public class FirebaseAdminTokenVerifier implements IdTokenVerifier {
+
+    @Value("${FIREBASE_PROJECT_ID}")
+    private String projectId;
+
+    @Value("${FIREBASE_PRIVATE_KEY_ID}")
+    private String privateKeyId;
+
+    @Value("${FIREBASE_PRIVATE_KEY}")
+    private String privateKey;
+
+    @Value("${FIREBASE_CLIENT_EMAIL}")
+    private String clientEmail;
+
+    @Value("${FIREBASE_CLIENT_ID}")
+    private String clientId;
+
+    @Value("${FIREBASE_CLIENT_CERT_URL}")
+    private String clientCertUrl;
+
+    @PostConstruct
+    public void init() {
+        try {
+            String jsonContent = String.format("""
+                    {
+                      "type": "service_account",
+                      "project_id": "%s",
+                      "private_key_id": "%s",
+                      "private_key": "%s",
+                      "client_email": "%s",
+                      "client_id": "%s",
+                      "auth_uri": "https://accounts.google.com/o/oauth2/auth",
+                      "token_uri": "https://oauth2.googleapis.com/token",
+                      "auth_provider_x509_cert_url": "https://www.googleapis.com/oauth2/v1/certs",
+                      "client_x509_cert_url": "%s"
+                    }
+                    """, projectId, privateKeyId, privateKey, clientEmail, clientId, clientCertUrl);
+
+            FirebaseOptions options = FirebaseOptions.builder()
+                    .setCredentials(GoogleCredentials.fromStream(
+                            new ByteArrayInputStream(jsonContent.getBytes(StandardCharsets.UTF_8))))
+                    .build();
+
+            if (FirebaseApp.getApps().isEmpty()) {
+                FirebaseApp.initializeApp(options);
+            }
+        } catch (IOException e) {
+            log.error("Failed to initialize Firebase Admin SDK", e);
+            throw new RuntimeException("Failed to initialize Firebase Admin SDK", e);
+        }
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        try {
+            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(token);
+            return VerifiedToken.of(decodedToken.getUid(), decodedToken.getClaims().get("exp"));
+        } catch (FirebaseAuthException e) {
+            // 실패 로그는 InvalidTokenGuard에서 샘플링하여 남김
+            throw new IllegalArgumentException("Invalid token: " + e.getAuthErrorCode(), e);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import java.io.IOException;
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
     private final FirebaseTokenProvider firebaseTokenProvider;
+    private final InvalidTokenGuard invalidTokenGuard;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -38,13 +39,24 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        String clientIp = request.getRemoteAddr();
+        if (invalidTokenGuard.isKnownInvalid(token) || invalidTokenGuard.isThrottled(token, clientIp)) {
+            // 최근 거부된 토큰이거나 실패가 반복되는 IP는 검증을 생략하고 인증 없이 진행
+            // (공개 API는 그대로 응답하고, 인증이 필요한 API는 인가 단계에서 거부됨)
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         try {
-            if (firebaseTokenProvider.validateToken(token)) {
-                Authentication auth = firebaseTokenProvider.getAuthentication(token);
-                if (auth != null) {
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                }
+            // getAuthentication 내부에서 토큰 검증까지 한 번에 수행 (검증 결과는 캐시됨)
+            Authentication auth = firebaseTokenProvider.getAuthentication(token);
+            if (auth != null) {
+                SecurityContextHolder.getContext().setAuthentication(auth);
             }
+        } catch (IllegalArgumentException e) {
+            invalidTokenGuard.recordFailure(token, clientIp, e);
+        } catch (SigningKeysNotLoadedException e) {
+            invalidTokenGuard.recordUnavailable(clientIp, e);
         } catch (Exception e) {
             logger.error("Could not set user authentication in security context", e);
         }
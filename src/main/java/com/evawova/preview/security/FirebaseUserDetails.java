@@ -9,24 +9,38 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 인증 주체 정보
+ * 관리 중인 User 엔티티 대신 PrincipalSnapshot의 값만 보관하므로 지연 로딩 컬렉션을 끌고 다니지 않습니다.
+ */
 @Getter
 public class FirebaseUserDetails implements UserDetails {
     private final String uid;
-    private final User user;
+    private final Long userId;
+    private final User.Role role;
+    private final boolean active;
     private final Collection<? extends GrantedAuthority> authorities;
 
     public FirebaseUserDetails(String uid) {
         this.uid = uid;
-        this.user = null;
+        this.userId = null;
+        this.role = null;
+        this.active = true;
         this.authorities = Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"));
     }
 
     public FirebaseUserDetails(User user) {
-        this.uid = user.getUid();
-        this.user = user;
-        
+        this(PrincipalSnapshot.of(user));
+    }
+
+    public FirebaseUserDetails(PrincipalSnapshot snapshot) {
+        this.uid = snapshot.getUid();
+        this.userId = snapshot.getUserId();
+        this.role = snapshot.getRole();
+        this.active = snapshot.isActive();
+
         // 역할 이름이 이미 ROLE_ 접두사를 포함하고 있는지 확인
-        String roleName = user.getRole().name();
+        String roleName = snapshot.getRole().name();
         if(roleName.startsWith("ROLE_")) {
             this.authorities = Collections.singletonList(new SimpleGrantedAuthority(roleName));
         } else {
@@ -66,6 +80,6 @@ public class FirebaseUserDetails implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return user == null || user.getIsActive();
+        return active;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.evawova.preview.security;
+
+/**
+ * ID 토큰 검증기
+ * 검증 방식(Admin SDK / 로컬 서명 검증)은 security.firebase.verifier 설정으로 선택합니다.
+ */
+public interface IdTokenVerifier {
+
+    /**
+     * 토큰의 서명과 클레임을 검증합니다.
+     *
+     * @throws IllegalArgumentException 유효하지 않은 토큰인 경우
+     */
+    VerifiedToken verify(String token);
+}
@@ -0,0 +1,221 @@
+package com.evawova.preview.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 유효하지 않은 Bearer 토큰 반복 요청 차단
+ * - 최근 거부된 토큰은 해시 앞 8바이트만 보관하여 재검증을 생략 (모르는 서명 키로 거부된 토큰은 제외)
+ * - IP별 실패 횟수를 슬라이딩 윈도우(이전/현재 구간 가중 합)로 계산, CAS로만 갱신하여 락을 쓰지 않음
+ * - 한도를 넘은 IP는 이미 검증된 토큰을 제외하고 검증을 생략
+ * - 두 경우 모두 응답을 직접 거부하지 않고 인증 없이 다음 필터로 넘기므로 공개 API는 그대로 동작
+ * - 실패 로그는 초당 건수를 제한하고 생략된 건수만 함께 기록 (스택 트레이스 없음)
+ *
+ * IP는 request.getRemoteAddr() 기준이므로 프록시 뒤에서는 server.forward-headers-strategy 설정이 필요합니다.
+ */
+@Slf4j
+@Component
+public class InvalidTokenGuard {
+
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Cache<Long, Boolean> rejectedTokens;
+    private final Cache<String, FailureWindow> failuresByIp;
+    private final int maxFailuresPerIp;
+    private final long windowNanos;
+    private final LongSupplier nanoTime;
+    private final FailureLogSampler logSampler;
+    private final Counter rejectedByToken;
+    private final Counter rejectedByIp;
+
+    @Autowired
+    public InvalidTokenGuard(VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry,
+            @Value("${security.invalid-token.negative-cache-size:10000}") long negativeCacheSize,
+            @Value("${security.invalid-token.negative-cache-ttl:PT5M}") Duration negativeCacheTtl,
+            @Value("${security.invalid-token.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${security.invalid-token.window:PT1M}") Duration window,
+            @Value("${security.invalid-token.logs-per-second:5}") int logsPerSecond) {
+        this(verifiedTokenCache, meterRegistry, negativeCacheSize, negativeCacheTtl, maxFailuresPerIp, window,
+                logsPerSecond, System::nanoTime);
+    }
+
+    InvalidTokenGuard(VerifiedTokenCache verifiedTokenCache, MeterRegistry meterRegistry,
+            long negativeCacheSize, Duration negativeCacheTtl, int maxFailuresPerIp, Duration window,
+            int logsPerSecond, LongSupplier nanoTime) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowNanos = window.toNanos();
+        this.nanoTime = nanoTime;
+        this.logSampler = new FailureLogSampler(logsPerSecond, nanoTime);
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(negativeCacheSize)
+                .expireAfterWrite(negativeCacheTtl)
+                .build();
+        this.failuresByIp = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(window.multipliedBy(2))
+                .build();
+        this.rejectedByToken = Counter.builder("security.invalid-token.rejected")
+                .tag("reason", "known-invalid")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("security.invalid-token.rejected")
+                .tag("reason", "ip-throttled")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 최근 검증에 실패한 토큰인지 확인합니다. (토큰 해시 기준)
+     */
+    public boolean isKnownInvalid(String token) {
+        if (rejectedTokens.getIfPresent(TokenDigest.fingerprint(token)) != null) {
+            rejectedByToken.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 실패가 한도를 넘은 IP에서 온, 아직 검증되지 않은 토큰인지 확인합니다.
+     */
+    public boolean isThrottled(String token, String clientIp) {
+        FailureWindow window = failuresByIp.getIfPresent(clientIp);
+        if (window != null && window.estimate(nanoTime.getAsLong()) >= maxFailuresPerIp
+                && !verifiedTokenCache.isVerified(token)) {
+            rejectedByIp.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 검증에 실패한 토큰과 요청 IP를 기록합니다.
+     * 모르는 서명 키(kid)로 인한 실패는 키 갱신 후 유효해질 수 있으므로 토큰은 기록하지 않고 IP 실패로만 집계합니다.
+     */
+    public void recordFailure(String token, String clientIp, RuntimeException cause) {
+        if (!(cause instanceof UnknownSigningKeyException)) {
+            rejectedTokens.put(TokenDigest.fingerprint(token), Boolean.TRUE);
+        }
+        long now = nanoTime.getAsLong();
+        double failures = failuresByIp.get(clientIp, ip -> new FailureWindow(now)).increment(now);
+
+        long suppressed = logSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("토큰 검증 실패: {} (IP: {}, 윈도우 내 실패: {}건, 생략된 로그: {}건)",
+                    cause.getMessage(), clientIp, (long) failures, suppressed);
+        }
+    }
+
+    /**
+     * 토큰과 무관한 이유(서명 키 미로딩 등)로 검증하지 못한 요청을 기록합니다.
+     * 토큰과 IP는 실패로 집계하지 않고, 로그만 같은 샘플러로 제한합니다.
+     */
+    public void recordUnavailable(String clientIp, RuntimeException cause) {
+        long suppressed = logSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.warn("토큰 검증 불가: {} (IP: {}, 생략된 로그: {}건)", cause.getMessage(), clientIp, suppressed);
+        }
+    }
+
+    /**
+     * IP별 실패 횟수 슬라이딩 윈도우
+     * 이전 구간 횟수에 남은 비율을 곱해 현재 구간 횟수와 더한 값으로 최근 window 동안의 실패 수를 근사합니다.
+     */
+    private class FailureWindow {
+        private final AtomicReference<WindowState> state;
+
+        FailureWindow(long now) {
+            this.state = new AtomicReference<>(new WindowState(now, 0, 0));
+        }
+
+        double increment(long now) {
+            while (true) {
+                WindowState current = state.get();
+                WindowState advanced = current.advance(now, windowNanos);
+                WindowState next = new WindowState(advanced.start, advanced.previous, advanced.current + 1);
+                if (state.compareAndSet(current, next)) {
+                    return next.estimate(now, windowNanos);
+                }
+            }
+        }
+
+        double estimate(long now) {
+            return state.get().advance(now, windowNanos).estimate(now, windowNanos);
+        }
+    }
+
+    private static class WindowState {
+        private final long start;
+        private final int previous;
+        private final int current;
+
+        WindowState(long start, int previous, int current) {
+            this.start = start;
+            this.previous = previous;
+            this.current = current;
+        }
+
+        WindowState advance(long now, long windowNanos) {
+            long elapsed = now - start;
+            if (elapsed < windowNanos) {
+                return this;
+            }
+            if (elapsed < windowNanos * 2) {
+                return new WindowState(start + windowNanos, current, 0);
+            }
+            return new WindowState(now, 0, 0);
+        }
+
+        double estimate(long now, long windowNanos) {
+            double remaining = 1.0 - (double) (now - start) / windowNanos;
+            return previous * Math.max(remaining, 0.0) + current;
+        }
+    }
+
+    /**
+     * 초당 로그 건수 제한
+     */
+    private static class FailureLogSampler {
+        private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+        private final int permitsPerSecond;
+        private final LongSupplier nanoTime;
+        private final AtomicReference<long[]> slot;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        FailureLogSampler(int permitsPerSecond, LongSupplier nanoTime) {
+            this.permitsPerSecond = permitsPerSecond;
+            this.nanoTime = nanoTime;
+            this.slot = new AtomicReference<>(new long[]{nanoTime.getAsLong(), 0});
+        }
+
+        /**
+         * 로그를 남겨도 되면 그동안 생략된 건수(0 이상)를, 아니면 -1을 반환합니다.
+         */
+        long tryAcquire() {
+            long now = nanoTime.getAsLong();
+            while (true) {
+                long[] current = slot.get();
+                long[] next = now - current[0] >= SECOND
+                        ? new long[]{now, 1}
+                        : new long[]{current[0], current[1] + 1};
+                if (slot.compareAndSet(current, next)) {
+                    if (next[1] > permitsPerSecond) {
+                        suppressed.incrementAndGet();
+                        return -1;
+                    }
+                    return suppressed.getAndSet(0);
+                }
+            }
+        }
+    }
+}
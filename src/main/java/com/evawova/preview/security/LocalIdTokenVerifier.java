@@ -0,0 +1,164 @@
+package com.evawova.preview.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 로컬 ID 토큰 검증기 (기본값)
+ * - SigningKeyStore가 메모리에 보관 중인 공개키로 RS256 서명을 직접 검증
+ * - aud / iss / exp / iat / auth_time / sub 클레임을 Firebase 규칙에 맞춰 검증
+ * - 반환하는 VerifiedToken의 만료 시각은 exp에 허용 시계 오차(clock-skew)를 더한 값
+ * - 검증 지연시간은 firebase.token.verification 타이머(p50/p95/p99)로 노출
+ */
+@Component
+@ConditionalOnProperty(name = "security.firebase.verifier", havingValue = "local", matchIfMissing = true)
+public class LocalIdTokenVerifier implements IdTokenVerifier {
+
+    private static final String ISSUER_PREFIX = "https://securetoken.google.com/";
+    private static final int MAX_UID_LENGTH = 128;
+
+    private final SigningKeyStore keyStore;
+    private final ObjectMapper objectMapper;
+    private final String projectId;
+    private final String issuer;
+    private final Duration clockSkew;
+    private final Clock clock;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    @Autowired
+    public LocalIdTokenVerifier(SigningKeyStore keyStore, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${FIREBASE_PROJECT_ID}") String projectId,
+            @Value("${security.firebase.clock-skew:PT1M}") Duration clockSkew) {
+        this(keyStore, objectMapper, meterRegistry, projectId, clockSkew, Clock.systemUTC());
+    }
+
+    LocalIdTokenVerifier(SigningKeyStore keyStore, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            String projectId, Duration clockSkew, Clock clock) {
+        this.keyStore = keyStore;
+        this.objectMapper = objectMapper;
+        this.projectId = projectId;
+        this.issuer = ISSUER_PREFIX + projectId;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+        this.successTimer = verificationTimer(meterRegistry, "success");
+        this.failureTimer = verificationTimer(meterRegistry, "failure");
+    }
+
+    private static Timer verificationTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("firebase.token.verification")
+                .tag("result", result)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        Timer timer = failureTimer;
+        try {
+            VerifiedToken verified = doVerify(token);
+            timer = successTimer;
+            return verified;
+        } finally {
+            timer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private VerifiedToken doVerify(String token) {
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed token");
+        }
+
+        JsonNode header = decodeJson(parts[0]);
+        if (!"RS256".equals(header.path("alg").asText())) {
+            throw new IllegalArgumentException("Unsupported token algorithm");
+        }
+        String kid = header.path("kid").asText();
+        PublicKey key = keyStore.getKey(kid);
+        if (key == null) {
+            if (!keyStore.isLoaded()) {
+                // 토큰 문제가 아니므로 IllegalArgumentException과 구분 (거부 토큰으로 기록되지 않음)
+                throw new SigningKeysNotLoadedException();
+            }
+            // 키가 교체된 직후일 수 있으므로 백그라운드 갱신을 요청 (키 저장소가 호출 빈도를 제한)
+            keyStore.requestRefresh();
+            throw new UnknownSigningKeyException(kid);
+        }
+        verifySignature(key, parts);
+
+        JsonNode claims = decodeJson(parts[1]);
+        Instant now = clock.instant();
+
+        if (!projectId.equals(claims.path("aud").asText())) {
+            throw new IllegalArgumentException("Invalid audience");
+        }
+        if (!issuer.equals(claims.path("iss").asText())) {
+            throw new IllegalArgumentException("Invalid issuer");
+        }
+        // 허용 시계 오차를 만료 시각에 반영해 두어 VerifiedTokenCache도 같은 시각까지 토큰을 받아들이도록 함
+        VerifiedToken verified = new VerifiedToken(claims.path("sub").asText(),
+                requireEpochSeconds(claims, "exp").plus(clockSkew));
+        if (verified.isExpired(now)) {
+            throw new IllegalArgumentException("Expired token");
+        }
+        if (requireEpochSeconds(claims, "iat").isAfter(now.plus(clockSkew))) {
+            throw new IllegalArgumentException("Token issued in the future");
+        }
+        if (claims.has("auth_time") && requireEpochSeconds(claims, "auth_time").isAfter(now.plus(clockSkew))) {
+            throw new IllegalArgumentException("Invalid auth_time");
+        }
+        String uid = verified.getUid();
+        if (uid.isEmpty() || uid.length() > MAX_UID_LENGTH) {
+            throw new IllegalArgumentException("Invalid subject");
+        }
+
+        return verified;
+    }
+
+    private void verifySignature(PublicKey key, String[] parts) {
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initVerify(key);
+            signature.update((parts[0] + "." + parts[1]).getBytes(StandardCharsets.US_ASCII));
+            if (!signature.verify(Base64.getUrlDecoder().decode(parts[2]))) {
+                throw new IllegalArgumentException("Invalid token signature");
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid token signature", e);
+        }
+    }
+
+    private JsonNode decodeJson(String segment) {
+        try {
+            return objectMapper.readTree(Base64.getUrlDecoder().decode(segment));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Malformed token", e);
+        }
+    }
+
+    private static Instant requireEpochSeconds(JsonNode claims, String name) {
+        JsonNode value = claims.get(name);
+        if (value == null || !value.isNumber()) {
+            throw new IllegalArgumentException("Token has no " + name + " claim");
+        }
+        return Instant.ofEpochSecond(value.asLong());
+    }
+}
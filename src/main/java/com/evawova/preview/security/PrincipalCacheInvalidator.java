@@ -0,0 +1,49 @@
+package com.evawova.preview.security;
+
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationHandler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * User 애그리거트가 발행되면 커밋 직후 같은 스레드에서 인증 주체 캐시를 무효화합니다.
+ * DomainEventDispatcher는 비동기로 동작하므로, 다음 요청이 이전 역할로 인증되지 않도록 동기 리스너로 분리했습니다.
+ * 다른 노드의 캐시는 같은 트랜잭션에 남긴 무효화 기록을 CacheInvalidationBus가 읽어 무효화합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrincipalCacheInvalidator implements CacheInvalidationHandler {
+
+    private final PrincipalSnapshotCache principalSnapshotCache;
+    private final CacheInvalidationBus invalidationBus;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void recordUserChanged(User user) {
+        invalidationBus.publish(PrincipalSnapshotCache.CACHE_NAME, user.getUid());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserChanged(User user) {
+        log.debug("인증 주체 캐시 무효화: UID: {}", user.getUid());
+        principalSnapshotCache.invalidate(user.getUid());
+    }
+
+    @Override
+    public String cacheName() {
+        return PrincipalSnapshotCache.CACHE_NAME;
+    }
+
+    @Override
+    public void invalidate(String uid) {
+        if (uid == null) {
+            principalSnapshotCache.invalidateAll();
+        } else {
+            principalSnapshotCache.invalidate(uid);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.evawova.preview.security;
+
+import com.evawova.preview.domain.user.entity.User;
+import lombok.Getter;
+
+/**
+ * 인증에 필요한 사용자 정보의 불변 스냅샷
+ * 영속성 컨텍스트와 분리되어 있어 요청 간에 안전하게 캐시할 수 있습니다.
+ */
+@Getter
+public class PrincipalSnapshot {
+    private final String uid;
+    private final Long userId;
+    private final User.Role role;
+    private final boolean active;
+
+    public PrincipalSnapshot(String uid, Long userId, User.Role role, Boolean active) {
+        this.uid = uid;
+        this.userId = userId;
+        this.role = role;
+        this.active = Boolean.TRUE.equals(active);
+    }
+
+    public static PrincipalSnapshot of(User user) {
+        return new PrincipalSnapshot(user.getUid(), user.getId(), user.getRole(), user.getIsActive());
+    }
+}
@@ -0,0 +1,62 @@
+package com.evawova.preview.security;
+
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * uid별 인증 주체 스냅샷 캐시
+ * - 가입되지 않은 uid도 Optional.empty()로 캐시하여 반복 조회를 막음
+ * - 역할/활성 상태 변경 시 PrincipalCacheInvalidator가 커밋 직후 해당 uid를 제거
+ * - 로딩 중인 엔트리를 invalidate하면 로딩이 끝난 뒤 제거되므로, 커밋 이전 값이 남지 않음
+ * - ttl은 이벤트 누락에 대비한 안전장치
+ */
+@Component
+public class PrincipalSnapshotCache {
+
+    public static final String CACHE_NAME = "security.principals";
+
+    private final Cache<String, Optional<PrincipalSnapshot>> cache;
+    private final Function<String, Optional<PrincipalSnapshot>> loader;
+
+    @Autowired
+    public PrincipalSnapshotCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${security.principal-cache.max-size:50000}") long maxSize,
+            @Value("${security.principal-cache.ttl:PT10M}") Duration ttl) {
+        this(userRepository::findPrincipalByUid, meterRegistry, maxSize, ttl);
+    }
+
+    PrincipalSnapshotCache(Function<String, Optional<PrincipalSnapshot>> loader, MeterRegistry meterRegistry,
+            long maxSize, Duration ttl) {
+        this.loader = loader;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<PrincipalSnapshot> get(String uid) {
+        return cache.get(uid, loader);
+    }
+
+    public void invalidate(String uid) {
+        if (uid != null) {
+            cache.invalidate(uid);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,226 @@
+package com.evawova.preview.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ID 토큰 서명 공개키 저장소
+ * - 발급자의 JWK 키 목록을 메모리에 보관하고, Cache-Control max-age 만료 전에 백그라운드에서 갱신
+ * - 요청 스레드는 키 조회 시 네트워크 I/O를 하지 않음 (getKey는 메모리 조회만 수행)
+ * - 갱신 실패 시 기존 키를 유지한 채 retry-delay 후 재시도
+ * - 모르는 kid의 토큰이 오면 (키 교체 직후) 마지막 갱신 시도로부터 min-refresh-interval이 지난 경우에만 즉시 갱신
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "security.firebase.verifier", havingValue = "local", matchIfMissing = true)
+public class SigningKeyStore {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final URI keysUri;
+    private final Duration refreshMargin;
+    private final Duration retryDelay;
+    private final Duration minRefreshInterval;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<KeySet> current = new AtomicReference<>(KeySet.EMPTY);
+    private final AtomicReference<Instant> lastRefreshAttempt = new AtomicReference<>(Instant.EPOCH);
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    @Autowired
+    public SigningKeyStore(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${security.firebase.keys.url:https://www.googleapis.com/service_accounts/v1/jwk/securetoken@system.gserviceaccount.com}") URI keysUri,
+            @Value("${security.firebase.keys.refresh-margin:PT5M}") Duration refreshMargin,
+            @Value("${security.firebase.keys.retry-delay:PT30S}") Duration retryDelay,
+            @Value("${security.firebase.keys.min-refresh-interval:PT1M}") Duration minRefreshInterval) {
+        this(objectMapper, meterRegistry, keysUri, refreshMargin, retryDelay, minRefreshInterval, Clock.systemUTC());
+    }
+
+    SigningKeyStore(ObjectMapper objectMapper, MeterRegistry meterRegistry, URI keysUri,
+            Duration refreshMargin, Duration retryDelay, Duration minRefreshInterval, Clock clock) {
+        this.keysUri = keysUri;
+        this.refreshMargin = refreshMargin;
+        this.retryDelay = retryDelay;
+        this.minRefreshInterval = minRefreshInterval;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "firebase-key-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshSuccess = Counter.builder("firebase.signing-keys.refresh")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("firebase.signing-keys.refresh")
+                .tag("result", "failure")
+                .register(meterRegistry);
+        Gauge.builder("firebase.signing-keys.count", current, ref -> ref.get().getKeys().size())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동을 막지 않도록 첫 로딩도 백그라운드에서 수행합니다.
+     */
+    @PostConstruct
+    public void start() {
+        scheduler.execute(this::refreshAndReschedule);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * kid에 해당하는 공개키를 반환합니다. 메모리 조회만 수행하며 없으면 null을 반환합니다.
+     */
+    public PublicKey getKey(String kid) {
+        return current.get().getKeys().get(kid);
+    }
+
+    public boolean isLoaded() {
+        return !current.get().getKeys().isEmpty();
+    }
+
+    /**
+     * 키 목록을 백그라운드에서 다시 내려받도록 요청합니다. 요청 스레드는 기다리지 않습니다.
+     * 마지막 갱신 시도 후 min-refresh-interval이 지나지 않았으면 무시하므로, 모르는 kid가 반복되어도 키 서버 호출은 제한됩니다.
+     */
+    public void requestRefresh() {
+        Instant now = clock.instant();
+        Instant last = lastRefreshAttempt.get();
+        if (now.isBefore(last.plus(minRefreshInterval)) || scheduler.isShutdown()
+                || !lastRefreshAttempt.compareAndSet(last, now)) {
+            return;
+        }
+        scheduler.execute(() -> {
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("서명 공개키 수시 갱신 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void refreshAndReschedule() {
+        Duration nextDelay;
+        try {
+            KeySet keySet = refresh();
+            Duration untilExpiry = Duration.between(clock.instant(), keySet.getExpiresAt()).minus(refreshMargin);
+            nextDelay = untilExpiry.compareTo(retryDelay) > 0 ? untilExpiry : retryDelay;
+        } catch (Exception e) {
+            log.warn("서명 공개키 갱신 실패, {} 후 재시도: {}", retryDelay, e.getMessage());
+            nextDelay = retryDelay;
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::refreshAndReschedule, nextDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 키 목록을 즉시 다시 내려받습니다. 실패하면 기존 키를 그대로 유지합니다.
+     */
+    KeySet refresh() throws IOException, InterruptedException, GeneralSecurityException {
+        lastRefreshAttempt.set(clock.instant());
+        try {
+            HttpRequest request = HttpRequest.newBuilder(keysUri)
+                    .timeout(Duration.ofSeconds(10))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("Unexpected status " + response.statusCode() + " from " + keysUri);
+            }
+
+            Map<String, PublicKey> keys = parseJwks(response.body());
+            if (keys.isEmpty()) {
+                throw new IOException("Empty key set from " + keysUri);
+            }
+            Duration maxAge = response.headers().firstValue("Cache-Control")
+                    .map(SigningKeyStore::parseMaxAge)
+                    .orElse(DEFAULT_MAX_AGE);
+
+            KeySet keySet = new KeySet(Map.copyOf(keys), clock.instant().plus(maxAge));
+            current.set(keySet);
+            refreshSuccess.increment();
+            log.info("서명 공개키 {}개 갱신 완료 (만료: {})", keys.size(), keySet.getExpiresAt());
+            return keySet;
+        } catch (IOException | InterruptedException | GeneralSecurityException | RuntimeException e) {
+            refreshFailure.increment();
+            throw e;
+        }
+    }
+
+    private Map<String, PublicKey> parseJwks(String body) throws IOException, GeneralSecurityException {
+        JsonNode root = objectMapper.readTree(body);
+        KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (JsonNode jwk : root.path("keys")) {
+            if (!"RSA".equals(jwk.path("kty").asText())) {
+                continue;
+            }
+            BigInteger modulus = new BigInteger(1, decoder.decode(jwk.path("n").asText()));
+            BigInteger exponent = new BigInteger(1, decoder.decode(jwk.path("e").asText()));
+            keys.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+        }
+        return keys;
+    }
+
+    private static Duration parseMaxAge(String cacheControl) {
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_MAX_AGE;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    static class KeySet {
+        static final KeySet EMPTY = new KeySet(Map.of(), Instant.EPOCH);
+
+        private final Map<String, PublicKey> keys;
+        private final Instant expiresAt;
+    }
+}
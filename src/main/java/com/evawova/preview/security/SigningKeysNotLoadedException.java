@@ -0,0 +1,12 @@
+package com.evawova.preview.security;
+
+/**
+ * 서명 키가 아직 로딩되지 않아 토큰을 검증할 수 없을 때 발생
+ * 토큰 문제가 아니므로 IllegalArgumentException과 구분하며, 거부 토큰으로 기록하지 않습니다.
+ */
+public class SigningKeysNotLoadedException extends IllegalStateException {
+
+    public SigningKeysNotLoadedException() {
+        super("Signing keys are not loaded yet");
+    }
+}
@@ -0,0 +1,37 @@
+package com.evawova.preview.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 캐시 키로 사용할 토큰 해시 생성 유틸리티
+ * 원본 토큰 문자열을 메모리에 키로 보관하지 않기 위해 SHA-256 해시를 사용합니다.
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    public static String sha256(String token) {
+        return HexFormat.of().formatHex(digest(token));
+    }
+
+    /**
+     * SHA-256 해시의 앞 8바이트. 대량으로 보관해야 하는 거부 토큰 목록처럼 키 크기를 줄여야 할 때 사용합니다.
+     */
+    public static long fingerprint(String token) {
+        return ByteBuffer.wrap(digest(token)).getLong();
+    }
+
+    private static byte[] digest(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return digest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.evawova.preview.security;
+
+/**
+ * 토큰의 kid에 해당하는 서명 키가 현재 키 목록에 없을 때 발생
+ * 키 교체 직후라면 키 갱신 뒤 같은 토큰이 유효해지므로, 거부 토큰(음성 캐시)으로 기록하지 않습니다.
+ */
+public class UnknownSigningKeyException extends IllegalArgumentException {
+
+    public UnknownSigningKeyException(String kid) {
+        super("Unknown signing key: " + kid);
+    }
+}
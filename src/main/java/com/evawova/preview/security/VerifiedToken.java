@@ -0,0 +1,34 @@
+package com.evawova.preview.security;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 ID 토큰의 불변 요약 정보
+ * expiresAt은 이 서버가 토큰을 받아들이는 마지막 시각 (검증기가 허용하는 시계 오차가 있다면 포함된 값)
+ */
+@Getter
+public class VerifiedToken {
+    private final String uid;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String uid, Instant expiresAt) {
+        this.uid = uid;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * exp 클레임(epoch seconds)으로부터 검증 결과를 생성합니다.
+     */
+    public static VerifiedToken of(String uid, Object expClaim) {
+        if (!(expClaim instanceof Number exp)) {
+            throw new IllegalArgumentException("Token has no exp claim");
+        }
+        return new VerifiedToken(uid, Instant.ofEpochSecond(exp.longValue()));
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,97 @@
+package com.evawova.preview.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 검증된 ID 토큰 캐시
+ * - 토큰 원문 대신 SHA-256 해시를 키로 사용
+ * - 엔트리는 토큰의 exp 클레임(또는 최대 TTL 중 빠른 시점)에 맞춰 제거
+ * - 적중/미스/제거 통계는 actuator 메트릭(cache.gets, cache.evictions)으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+    static final String CACHE_NAME = "firebase.verified-tokens";
+
+    private final Cache<String, VerifiedToken> cache;
+    private final Clock clock;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+            @Value("${security.firebase.token-cache.max-size:10000}") long maxSize,
+            @Value("${security.firebase.token-cache.max-ttl:PT10M}") Duration maxTtl) {
+        this(meterRegistry, maxSize, maxTtl, Clock.systemUTC());
+    }
+
+    VerifiedTokenCache(MeterRegistry meterRegistry, long maxSize, Duration maxTtl, Clock clock) {
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl, clock))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 verifier로 한 번만 검증한 뒤 저장합니다.
+     * 같은 토큰에 대한 동시 요청은 하나의 검증 결과를 공유합니다.
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        VerifiedToken verified = cache.get(TokenDigest.sha256(token), key -> verifier.apply(token));
+        if (verified.isExpired(clock.instant())) {
+            throw new IllegalArgumentException("Expired token");
+        }
+        return verified;
+    }
+
+    /**
+     * 이미 검증되어 캐시에 있는 토큰인지 확인합니다. 검증을 새로 수행하지 않습니다.
+     */
+    public boolean isVerified(String token) {
+        VerifiedToken verified = cache.getIfPresent(TokenDigest.sha256(token));
+        return verified != null && !verified.isExpired(clock.instant());
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        private final Duration maxTtl;
+        private final Clock clock;
+
+        TokenExpiry(Duration maxTtl, Clock clock) {
+            this.maxTtl = maxTtl;
+            this.clock = clock;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Duration untilExp = Duration.between(clock.instant(), value.getExpiresAt());
+            if (untilExp.isNegative()) {
+                return 0L;
+            }
+            return Math.min(untilExp.toNanos(), maxTtl.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
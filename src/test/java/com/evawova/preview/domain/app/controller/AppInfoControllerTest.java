@@ -3,13 +3,24 @@ package com.evawova.preview.domain.app.controller;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.zip.GZIPInputStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,10 +29,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.evawova.preview.common.response.ContentVersion;
+import com.evawova.preview.common.response.PrecompressedBody;
 import com.evawova.preview.config.TestSecurityConfig;
+import com.evawova.preview.domain.app.dto.AppInfoDeltaDto;
+import com.evawova.preview.domain.app.dto.DeploymentInfoDto;
 import com.evawova.preview.domain.app.entity.AppInfo;
 import com.evawova.preview.domain.app.entity.CompanyInfo;
 import com.evawova.preview.domain.app.entity.DeploymentInfo;
@@ -29,6 +47,12 @@ import com.evawova.preview.domain.app.entity.LegalInfo;
 import com.evawova.preview.domain.app.entity.ServiceStatus;
 import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
 import com.evawova.preview.domain.app.service.AppInfoService;
+import com.evawova.preview.domain.app.service.AppInfoCatalog;
+import com.evawova.preview.domain.app.service.AppInfoSnapshot;
+import com.evawova.preview.domain.app.service.ServiceStatusBroadcaster;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 @WebMvcTest(AppInfoController.class)
 @ActiveProfiles("test")
@@ -41,6 +65,14 @@ class AppInfoControllerTest {
     @MockBean
     private AppInfoService appInfoService;
 
+    @MockBean
+    private AppInfoCatalog appInfoCatalog;
+
+    @MockBean
+    private ServiceStatusBroadcaster statusBroadcaster;
+
+    private static final ObjectWriter WRITER = new ObjectMapper().findAndRegisterModules().writer();
+
     private AppInfo mockAppInfo;
     private LegalInfo mockLegalInfo;
     private CompanyInfo mockCompanyInfo;
@@ -121,7 +153,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("최신 앱 정보 조회 성공")
     void getLatestAppInfo_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/info"))
                 .andDo(print())
@@ -137,13 +169,14 @@ class AppInfoControllerTest {
                 .andExpect(jsonPath("$.data.companyInfo.companyName").value("Evawova Inc."))
                 .andExpect(jsonPath("$.data.serviceStatusInfo.serviceStatus").value("NORMAL"))
                 .andExpect(jsonPath("$.data.deploymentInfo.deploymentStatus").value("DEPLOYED"))
+                .andExpect(header().exists("X-App-Info-Version"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
     @Test
     @DisplayName("최신 앱 정보 조회 실패 - 데이터 없음")
     void getLatestAppInfo_NotFound() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(null);
+        when(appInfoCatalog.snapshot()).thenReturn(AppInfoSnapshot.empty(1));
 
         mockMvc.perform(get("/api/v1/app/info"))
                 .andExpect(status().isNotFound());
@@ -152,7 +185,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("법적 정보 조회 성공")
     void getLegalInfo_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/legal/terms"))
                 .andExpect(status().isOk())
@@ -164,7 +197,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("법적 정보 조회 실패 - 잘못된 타입")
     void getLegalInfo_InvalidType() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/legal/invalid"))
                 .andExpect(status().isNotFound());
@@ -173,7 +206,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("회사 정보 조회 성공")
     void getCompanyInfo_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/company"))
                 .andExpect(status().isOk())
@@ -187,7 +220,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("FAQ 정보 조회 성공")
     void getFaq_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/faq"))
                 .andExpect(status().isOk())
@@ -200,7 +233,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("배포 정보 조회 성공")
     void getDeploymentInfo_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
 
         mockMvc.perform(get("/api/v1/app/deployment"))
                 .andExpect(status().isOk())
@@ -214,7 +247,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("서비스 상태 업데이트 성공")
     void updateServiceStatus_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
         
         // 유지보수 모드로 변경된 ServiceStatusInfo 설정
         ServiceStatusInfo updatedStatusInfo = ServiceStatusInfo.builder()
@@ -243,7 +276,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("긴급 공지 설정 성공")
     void setEmergencyNotice_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
         
         // 긴급 공지가 추가된 ServiceStatusInfo 설정
         LocalDateTime startAt = LocalDateTime.now();
@@ -279,7 +312,7 @@ class AppInfoControllerTest {
     @Test
     @DisplayName("긴급 공지 해제 성공")
     void clearEmergencyNotice_Success() throws Exception {
-        when(appInfoService.getLatestAppInfo()).thenReturn(mockAppInfo);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
         
         // 긴급 공지가 제거된 ServiceStatusInfo 설정
         ServiceStatusInfo updatedStatusInfo = ServiceStatusInfo.builder()
@@ -303,4 +336,173 @@ class AppInfoControllerTest {
                 .andExpect(jsonPath("$.status").value(200))
                 .andExpect(jsonPath("$.data.emergencyNoticeActive").value(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("앱 정보 조회는 스냅샷만 사용하고 서비스를 호출하지 않는다")
+    void getLatestAppInfo_ServedFromSnapshot() throws Exception {
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
+
+        mockMvc.perform(get("/api/v1/app/info"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.serviceStatusInfo.notices[0]").value("서비스 오픈 안내"));
+        mockMvc.perform(get("/api/v1/app/faq"))
+                .andExpect(status().isOk());
+
+        verifyNoInteractions(appInfoService);
+    }
+
+    @Test
+    @DisplayName("쓰기 요청은 스냅샷의 앱 정보 ID로 처리한다")
+    void updateServiceStatus_NotFoundWhenSnapshotEmpty() throws Exception {
+        when(appInfoCatalog.snapshot()).thenReturn(AppInfoSnapshot.empty(1));
+
+        mockMvc.perform(put("/api/v1/app/status")
+                .param("status", "MAINTENANCE")
+                .param("message", "System maintenance in progress"))
+                .andExpect(status().isNotFound());
+
+        verifyNoInteractions(appInfoService);
+    }
+
+    @Test
+    @DisplayName("ETag가 일치하면 본문 없이 304를 반환한다")
+    void getLatestAppInfo_NotModified() throws Exception {
+        AppInfoSnapshot snapshot = snapshotOf(mockAppInfo);
+        String etag = snapshot.findVersion(AppInfoSnapshot.INFO).getEtag();
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/v1/app/info").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since 이후 변경이 없으면 304를 반환한다")
+    void getLegalInfo_NotModifiedSince() throws Exception {
+        AppInfoSnapshot snapshot = snapshotOf(mockAppInfo);
+        Instant lastModified = snapshot.findVersion(AppInfoSnapshot.legal("terms")).getLastModified();
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/v1/app/legal/terms")
+                        .header(HttpHeaders.IF_MODIFIED_SINCE,
+                                DateTimeFormatter.RFC_1123_DATE_TIME.format(lastModified.atZone(ZoneOffset.UTC))))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 본문과 함께 ETag, Last-Modified, Cache-Control을 반환한다")
+    void getCompanyInfo_ModifiedWithCacheHeaders() throws Exception {
+        AppInfoSnapshot snapshot = snapshotOf(mockAppInfo);
+        ContentVersion version = snapshot.findVersion(AppInfoSnapshot.COMPANY);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/v1/app/company").header(HttpHeaders.IF_NONE_MATCH, "\"company-v1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, version.getEtag()))
+                .andExpect(header().dateValue(HttpHeaders.LAST_MODIFIED, version.getLastModified().toEpochMilli()))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, public"))
+                .andExpect(jsonPath("$.data.companyName").value("Evawova Inc."));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding에 gzip이 있으면 미리 압축해 둔 본문을 반환한다")
+    void getFaq_Gzip() throws Exception {
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
+
+        byte[] body = mockMvc.perform(get("/api/v1/app/faq").header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(containsString(HttpHeaders.ACCEPT_ENCODING))))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            JsonNode json = new ObjectMapper().readTree(in);
+            assertThat(json.at("/data/결제/환불은 어떻게 하나요?").asText()).isEqualTo("구매 후 7일 이내에는 전액 환불 가능합니다.");
+        }
+    }
+
+    @Test
+    @DisplayName("gzip을 받지 않는 클라이언트에는 압축하지 않은 본문을 반환한다")
+    void getLegalInfo_Identity() throws Exception {
+        when(appInfoCatalog.snapshot()).thenReturn(snapshotOf(mockAppInfo));
+
+        mockMvc.perform(get("/api/v1/app/legal/privacy").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data").value("개인정보처리방침 v1.1"));
+    }
+
+    @Test
+    @DisplayName("미리 만든 본문은 원본과 gzip 표현에 서로 다른 ETag를 준다")
+    void getFaq_EtagPerEncoding() throws Exception {
+        AppInfoSnapshot snapshot = snapshotOf(mockAppInfo);
+        PrecompressedBody body = snapshot.findRenderedBody(AppInfoSnapshot.FAQ);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/v1/app/faq").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, body.getGzipEtag()));
+        mockMvc.perform(get("/api/v1/app/faq"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, body.getIdentityEtag()));
+        assertThat(body.getGzipEtag()).isNotEqualTo(body.getIdentityEtag());
+    }
+
+    @Test
+    @DisplayName("미리 만든 본문의 304에도 Vary: Accept-Encoding을 붙이고, 다른 표현의 ETag로는 304를 주지 않는다")
+    void getLegalInfo_NotModifiedVariesByEncoding() throws Exception {
+        AppInfoSnapshot snapshot = snapshotOf(mockAppInfo);
+        PrecompressedBody body = snapshot.findRenderedBody(AppInfoSnapshot.legal("terms"));
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot);
+
+        mockMvc.perform(get("/api/v1/app/legal/terms")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, body.getGzipEtag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, body.getGzipEtag()))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(containsString(HttpHeaders.ACCEPT_ENCODING))));
+        mockMvc.perform(get("/api/v1/app/legal/terms")
+                        .header(HttpHeaders.IF_NONE_MATCH, body.getGzipEtag()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, body.getIdentityEtag()));
+    }
+
+    @Test
+    @DisplayName("since가 있으면 바뀐 구역만 담은 변경분을 반환한다")
+    void getAppInfoChanges() throws Exception {
+        AppInfoDeltaDto delta = AppInfoDeltaDto.builder()
+                .version(1700000000123L)
+                .changedSections(List.of(AppInfoSnapshot.SECTION_DEPLOYMENT))
+                .deploymentInfo(DeploymentInfoDto.fromEntity(mockDeploymentInfo))
+                .build();
+        when(appInfoCatalog.changesSince(1700000000000L)).thenReturn(delta);
+
+        mockMvc.perform(get("/api/v1/app/info").param("since", "1700000000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.version").value(1700000000123L))
+                .andExpect(jsonPath("$.data.full").value(false))
+                .andExpect(jsonPath("$.data.changedSections[0]").value("deployment"))
+                .andExpect(jsonPath("$.data.deploymentInfo.deploymentStatus").value("DEPLOYED"))
+                .andExpect(jsonPath("$.data.legalInfo").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("상태 스트림은 Last-Event-ID를 넘겨 구독하고 비동기로 응답한다")
+    void streamServiceStatus() throws Exception {
+        when(statusBroadcaster.subscribe("1700000000000-3")).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/api/v1/app/status/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .header("Last-Event-ID", "1700000000000-3"))
+                .andExpect(request().asyncStarted());
+
+        verify(statusBroadcaster).subscribe("1700000000000-3");
+    }
+
+    private static AppInfoSnapshot snapshotOf(AppInfo appInfo) {
+        return AppInfoSnapshot.of(1, appInfo, WRITER);
+    }
+}
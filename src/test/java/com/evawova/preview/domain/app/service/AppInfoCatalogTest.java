@@ -0,0 +1,114 @@
+package com.evawova.preview.domain.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.evawova.preview.domain.app.dto.AppInfoDeltaDto;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.DeploymentInfo;
+import com.evawova.preview.domain.app.entity.LegalInfo;
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.evawova.preview.domain.app.repository.AppInfoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class AppInfoCatalogTest {
+
+    private AppInfoCatalog appInfoCatalog;
+    private AppInfo appInfo;
+    private DeploymentInfo deploymentInfo;
+
+    @BeforeEach
+    void setUp() {
+        appInfo = AppInfo.builder()
+                .id(1L)
+                .appName("Preview Service")
+                .appVersion("1.1.0")
+                .build();
+        appInfo.setLegalInfo(LegalInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .termsOfService("서비스 이용약관 v1.1")
+                .build());
+        appInfo.setServiceStatusInfo(ServiceStatusInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .serviceStatus(ServiceStatus.NORMAL)
+                .notices(new ArrayList<>(List.of("서비스 오픈 안내")))
+                .build());
+        deploymentInfo = DeploymentInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .deploymentStatus("DEPLOYED")
+                .build();
+        appInfo.setDeploymentInfo(deploymentInfo);
+
+        AppInfoRepository appInfoRepository = mock(AppInfoRepository.class);
+        when(appInfoRepository.findLatestWithDetails(any(Pageable.class))).thenAnswer(invocation -> List.of(appInfo));
+        appInfoCatalog = new AppInfoCatalog(appInfoRepository, new ObjectMapper().findAndRegisterModules(),
+                mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    @DisplayName("since 이후 바뀐 구역만 변경분에 담긴다")
+    void changesSinceReturnsChangedSectionsOnly() {
+        // given
+        long since = appInfoCatalog.refresh().getSyncVersion();
+        deploymentInfo.updateDeploymentInfo("무중단 배포", "DEPLOYING", "2차 배포");
+        appInfo.getServiceStatusInfo().getNotices().add("점검 예정 안내");
+
+        // when
+        appInfoCatalog.refresh();
+        AppInfoDeltaDto delta = appInfoCatalog.changesSince(since);
+
+        // then
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getVersion()).isGreaterThan(since);
+        assertThat(delta.getChangedSections())
+                .containsExactly(AppInfoSnapshot.SECTION_DEPLOYMENT, AppInfoSnapshot.SECTION_NOTICES);
+        assertThat(delta.getDeploymentInfo().getDeploymentStatus()).isEqualTo("DEPLOYING");
+        assertThat(delta.getNotices()).containsExactly("서비스 오픈 안내", "점검 예정 안내");
+        assertThat(delta.getLegalInfo()).isNull();
+        assertThat(delta.getServiceStatusInfo()).isNull();
+    }
+
+    @Test
+    @DisplayName("최신 버전으로 요청하면 바뀐 구역이 없다")
+    void changesSinceCurrentVersionIsEmpty() {
+        // given
+        long current = appInfoCatalog.refresh().getSyncVersion();
+
+        // when
+        AppInfoDeltaDto delta = appInfoCatalog.changesSince(current);
+
+        // then
+        assertThat(delta.isFull()).isFalse();
+        assertThat(delta.getChangedSections()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("변경 기록에 없는 버전이면 전체 앱 정보를 돌려준다")
+    void changesSinceUnknownVersionReturnsFullSnapshot() {
+        // given
+        appInfoCatalog.refresh();
+
+        // when
+        AppInfoDeltaDto delta = appInfoCatalog.changesSince(0);
+
+        // then
+        assertThat(delta.isFull()).isTrue();
+        assertThat(delta.getInfo().getAppVersion()).isEqualTo("1.1.0");
+        assertThat(delta.getChangedSections()).isNull();
+    }
+}
@@ -0,0 +1,82 @@
+package com.evawova.preview.domain.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.evawova.preview.common.response.PrecompressedBody;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.LegalInfo;
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+class AppInfoSnapshotTest {
+
+    private static final ObjectWriter WRITER = new ObjectMapper().findAndRegisterModules()
+            .writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    private AppInfo appInfo;
+
+    @BeforeEach
+    void setUp() {
+        appInfo = AppInfo.builder()
+                .id(1L)
+                .appName("Preview Service")
+                .appVersion("1.1.0")
+                .build();
+        appInfo.setLegalInfo(LegalInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .termsOfService("서비스 이용약관 v1.1")
+                .updatedAt(UPDATED_AT)
+                .build());
+        appInfo.setServiceStatusInfo(ServiceStatusInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .serviceStatus(ServiceStatus.NORMAL)
+                .faqContent(Map.of("q1", "환불은 어떻게 하나요?"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("같은 엔티티로 만든 스냅샷은 미리 만든 본문과 ETag가 같다")
+    void renderedBodyIsStableAcrossSnapshots() throws InterruptedException {
+        // given
+        AppInfoSnapshot first = AppInfoSnapshot.of(1, appInfo, WRITER);
+        // 다른 노드/재생성을 흉내내기 위해 초 단위 응답 시각이 바뀔 만큼 기다림
+        Thread.sleep(1100);
+
+        // when
+        AppInfoSnapshot second = AppInfoSnapshot.of(2, appInfo, WRITER);
+
+        // then
+        for (String section : new String[] {AppInfoSnapshot.legal("terms"), AppInfoSnapshot.FAQ}) {
+            PrecompressedBody before = first.findRenderedBody(section);
+            PrecompressedBody after = second.findRenderedBody(section);
+            assertThat(after.getIdentity()).isEqualTo(before.getIdentity());
+            assertThat(after.getIdentityEtag()).isEqualTo(before.getIdentityEtag());
+            assertThat(after.getGzipEtag()).isEqualTo(before.getGzipEtag());
+        }
+    }
+
+    @Test
+    @DisplayName("미리 만든 본문의 응답 시각은 내용의 마지막 수정 시각이다")
+    void renderedBodyUsesLastModifiedAsTimestamp() {
+        // when
+        AppInfoSnapshot snapshot = AppInfoSnapshot.of(1, appInfo, WRITER);
+
+        // then
+        String body = new String(snapshot.findRenderedBody(AppInfoSnapshot.FAQ).getIdentity(), StandardCharsets.UTF_8);
+        assertThat(body).contains("\"timestamp\":\"2026-01-02 03:04:05\"");
+    }
+}
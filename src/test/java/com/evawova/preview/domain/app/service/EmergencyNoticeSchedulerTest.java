@@ -0,0 +1,114 @@
+package com.evawova.preview.domain.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.evawova.preview.domain.app.dto.ServiceStatusInfoDto;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class EmergencyNoticeSchedulerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    private AppInfoCatalog appInfoCatalog;
+    private AppInfoService appInfoService;
+    private EmergencyNoticeScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        appInfoCatalog = mock(AppInfoCatalog.class);
+        appInfoService = mock(AppInfoService.class);
+        Clock clock = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+        scheduler = new EmergencyNoticeScheduler(appInfoCatalog, appInfoService, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    @Test
+    @DisplayName("다음 전환 시각은 시작 전이면 startAt, 노출 중이면 endAt, 끝났으면 없음")
+    void nextTransition() {
+        assertThat(EmergencyNoticeScheduler.nextTransition(
+                status(false, NOW.plusHours(1), NOW.plusHours(2)), NOW)).isEqualTo(NOW.plusHours(1));
+        assertThat(EmergencyNoticeScheduler.nextTransition(
+                status(true, NOW.minusHours(1), NOW.plusHours(2)), NOW)).isEqualTo(NOW.plusHours(2));
+        assertThat(EmergencyNoticeScheduler.nextTransition(
+                status(false, NOW.minusHours(2), NOW.minusHours(1)), NOW)).isNull();
+        assertThat(EmergencyNoticeScheduler.nextTransition(
+                ServiceStatusInfoDto.builder().build(), NOW)).isNull();
+    }
+
+    @Test
+    @DisplayName("저장된 상태가 현재 시각 기준과 다르면 (기동 중 만료 등) 바로 상태를 갱신한다")
+    void firesImmediatelyWhenStateIsStale() {
+        // given - 이미 끝났지만 활성 상태로 저장된 공지
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(true, NOW.minusHours(2), NOW.minusHours(1)));
+
+        // when
+        scheduler.rearm();
+
+        // then
+        verify(appInfoService, timeout(1000)).syncEmergencyNoticeStatus(1L);
+    }
+
+    @Test
+    @DisplayName("시작 전인 공지는 startAt에 타이머 하나만 걸고 아무것도 저장하지 않는다")
+    void armsAtStartAt() {
+        // given
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(false, NOW.plusHours(1), NOW.plusHours(2)));
+
+        // when
+        scheduler.rearm();
+        scheduler.rearm();
+
+        // then
+        assertThat(scheduler.getArmedAt()).isEqualTo(NOW.plusHours(1));
+        verifyNoInteractions(appInfoService);
+    }
+
+    private static ServiceStatusInfoDto status(boolean active, LocalDateTime startAt, LocalDateTime endAt) {
+        return ServiceStatusInfoDto.builder()
+                .emergencyNotice("긴급 점검")
+                .emergencyNoticeActive(active)
+                .emergencyNoticeStartAt(startAt)
+                .emergencyNoticeEndAt(endAt)
+                .build();
+    }
+
+    private static AppInfoSnapshot snapshot(boolean active, LocalDateTime startAt, LocalDateTime endAt) {
+        AppInfo appInfo = AppInfo.builder()
+                .id(1L)
+                .appName("Preview Service")
+                .appVersion("1.1.0")
+                .build();
+        ServiceStatusInfo statusInfo = ServiceStatusInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .serviceStatus(ServiceStatus.NORMAL)
+                .emergencyNotice("긴급 점검")
+                .emergencyNoticeStartAt(startAt)
+                .emergencyNoticeEndAt(endAt)
+                .emergencyNoticeActive(active)
+                .build();
+        appInfo.setServiceStatusInfo(statusInfo);
+        return AppInfoSnapshot.of(1, appInfo, new ObjectMapper().findAndRegisterModules().writer());
+    }
+}
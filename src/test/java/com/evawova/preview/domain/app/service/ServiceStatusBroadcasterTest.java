@@ -0,0 +1,132 @@
+package com.evawova.preview.domain.app.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.evawova.preview.domain.app.controller.AppInfoController;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+import com.evawova.preview.domain.app.entity.ServiceStatusInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ServiceStatusBroadcasterTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private AppInfoCatalog appInfoCatalog;
+    private ServiceStatusBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        appInfoCatalog = mock(AppInfoCatalog.class);
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(1, ServiceStatus.NORMAL));
+        broadcaster = new ServiceStatusBroadcaster(appInfoCatalog, OBJECT_MAPPER, Duration.ofMinutes(1),
+                Duration.ofMinutes(1));
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new AppInfoController(mock(AppInfoService.class), appInfoCatalog, broadcaster))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.stop();
+    }
+
+    @Test
+    @DisplayName("연결하면 현재 상태를 받고, 상태가 바뀌면 모든 연결에 새 상태가 전송된다")
+    void pushesCurrentStateAndChanges() throws Exception {
+        // given
+        MockHttpServletResponse first = connect(null);
+        MockHttpServletResponse second = connect(null);
+        awaitContent(first, "\"serviceStatus\":\"NORMAL\"");
+        awaitContent(second, "\"serviceStatus\":\"NORMAL\"");
+
+        // when
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(2, ServiceStatus.MAINTENANCE));
+        broadcaster.publishIfChanged();
+
+        // then
+        awaitContent(first, "\"serviceStatus\":\"MAINTENANCE\"");
+        awaitContent(second, "\"serviceStatus\":\"MAINTENANCE\"");
+        assertThat(first.getContentAsString()).contains("event:status", "retry:3000");
+        assertThat(broadcaster.getSubscriberCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("상태/공지 내용이 같으면 스냅샷이 바뀌어도 이벤트를 만들지 않는다")
+    void skipsUnchangedState() {
+        // given
+        String before = broadcaster.currentEvent().getId();
+
+        // when - 다른 구역만 바뀐 새 스냅샷
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(2, ServiceStatus.NORMAL));
+        broadcaster.publishIfChanged();
+
+        // then
+        assertThat(broadcaster.currentEvent().getId()).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID가 현재 이벤트면 재연결 시 다시 보내지 않고 이후 변경만 보낸다")
+    void resumesFromLastEventId() throws Exception {
+        // given
+        String lastEventId = broadcaster.currentEvent().getId();
+        MockHttpServletResponse response = connect(lastEventId);
+
+        // when
+        when(appInfoCatalog.snapshot()).thenReturn(snapshot(2, ServiceStatus.MAINTENANCE));
+        broadcaster.publishIfChanged();
+
+        // then
+        awaitContent(response, "\"serviceStatus\":\"MAINTENANCE\"");
+        assertThat(response.getContentAsString()).doesNotContain("\"serviceStatus\":\"NORMAL\"");
+    }
+
+    private MockHttpServletResponse connect(String lastEventId) throws Exception {
+        var builder = get("/api/v1/app/status/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (!response.getContentAsString().contains(expected)) {
+            assertThat(System.currentTimeMillis()).as("'%s' 수신 대기", expected).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static AppInfoSnapshot snapshot(long version, ServiceStatus status) {
+        AppInfo appInfo = AppInfo.builder()
+                .id(1L)
+                .appName("Preview Service")
+                .appVersion("1.1.0." + version)
+                .build();
+        ServiceStatusInfo statusInfo = ServiceStatusInfo.builder()
+                .id(1L)
+                .appInfo(appInfo)
+                .serviceStatus(status)
+                .build();
+        appInfo.setServiceStatusInfo(statusInfo);
+        return AppInfoSnapshot.of(version, appInfo, OBJECT_MAPPER.writer());
+    }
+}
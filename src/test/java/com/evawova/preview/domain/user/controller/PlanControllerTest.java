@@ -1,5 +1,6 @@
 package com.evawova.preview.domain.user.controller;
 
+import com.evawova.preview.common.response.ContentVersion;
 import com.evawova.preview.domain.user.dto.PlanDto;
 import com.evawova.preview.domain.user.entity.Plan;
 import com.evawova.preview.domain.user.entity.PlanType;
@@ -11,15 +12,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -161,4 +166,21 @@ class PlanControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("플랜 카탈로그 버전이 같으면 목록을 만들지 않고 304를 반환한다")
+    void getAllPlans_NotModified() throws Exception {
+        // given
+        given(planService.getCatalogVersion())
+                .willReturn(new ContentVersion("\"plans-v1\"", Instant.parse("2024-01-01T00:00:00Z")));
+
+        // when & then
+        mockMvc.perform(get("/api/v1/plans")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"plans-v1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"plans-v1\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=600, public"));
+
+        then(planService).should(never()).getAllPlans();
+    }
+}
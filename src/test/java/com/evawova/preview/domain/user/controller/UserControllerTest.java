@@ -1,5 +1,7 @@
 package com.evawova.preview.domain.user.controller;
 
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
 import com.evawova.preview.domain.user.dto.UserDto;
 import com.evawova.preview.domain.user.dto.UserUpdateRequest;
 import com.evawova.preview.domain.user.entity.Plan;
@@ -7,6 +9,7 @@ import com.evawova.preview.domain.user.entity.PlanType;
 import com.evawova.preview.domain.user.entity.User;
 import com.evawova.preview.domain.user.service.UserService;
 import com.evawova.preview.security.FirebaseTokenProvider;
+import com.evawova.preview.security.InvalidTokenGuard;
 import com.evawova.preview.security.TestSecurityConfig;
 import com.evawova.preview.security.WithMockFirebaseUser;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -27,11 +30,13 @@ import org.springframework.web.context.WebApplicationContext;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -54,6 +59,9 @@ class UserControllerTest {
     @MockBean
     private FirebaseTokenProvider firebaseTokenProvider;
 
+    @MockBean
+    private InvalidTokenGuard invalidTokenGuard;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -117,7 +125,8 @@ class UserControllerTest {
     @DisplayName("관리자 권한으로 모든 사용자 조회")
     @WithMockFirebaseUser(uid = "admin-uid", role = "ADMIN")
     void getAllUsers_AsAdmin() throws Exception {
-        given(userService.getAllUsers()).willReturn(List.of(testUserDto));
+        given(userService.searchUsers(any(), eq(KeysetCursor.FIRST_ASC), eq(20)))
+                .willReturn(CursorPage.of(List.of(testUserDto), 20, user -> null));
 
         mockMvc.perform(get("/api/v1/users")
                 .contentType(MediaType.APPLICATION_JSON))
@@ -126,8 +135,33 @@ class UserControllerTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.status").value(200))
                 .andExpect(jsonPath("$.message").value("사용자 목록을 성공적으로 조회했습니다."))
-                .andExpect(jsonPath("$.data").isArray())
-                .andExpect(jsonPath("$.data[0].uid").value(testUser.getUid()));
+                .andExpect(jsonPath("$.data.items").isArray())
+                .andExpect(jsonPath("$.data.items[0].uid").value(testUser.getUid()))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("관리자 권한으로 사용자 목록을 JSON 배열로 스트리밍 내보내기")
+    @WithMockFirebaseUser(uid = "admin-uid", role = "ADMIN")
+    void exportUsers_AsAdmin() throws Exception {
+        // given
+        given(userService.exportUsers(any(), any())).willAnswer(invocation -> {
+            Consumer<UserDto> consumer = invocation.getArgument(1);
+            consumer.accept(testUserDto);
+            consumer.accept(testUserDto);
+            return 2L;
+        });
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export").param("role", "USER_FREE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].uid").value(testUser.getUid()));
     }
 
     @Test
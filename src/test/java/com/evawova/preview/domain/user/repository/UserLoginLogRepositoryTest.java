@@ -0,0 +1,99 @@
+package com.evawova.preview.domain.user.repository;
+
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.entity.UserLoginLog;
+import com.evawova.preview.domain.user.entity.UserLoginLog.LoginStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class UserLoginLogRepositoryTest {
+
+    private static final LocalDateTime MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime MAX = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserLoginLogRepository loginLogRepository;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = entityManager.persist(User.createSocialUser("uid", "user@example.com", "사용자", User.Provider.GOOGLE));
+        User other = entityManager.persist(
+                User.createSocialUser("other", "other@example.com", "다른 사용자", User.Provider.GOOGLE));
+
+        // 10분 간격 5건(짝수 번째는 실패) + 마지막 기록과 같은 시각의 성공 1건
+        for (int i = 0; i < 5; i++) {
+            persistLog(user, BASE.plusMinutes(10L * i), i % 2 == 1);
+        }
+        persistLog(user, BASE.plusMinutes(40), true);
+        persistLog(other, BASE.plusMinutes(5), true);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void persistLog(User owner, LocalDateTime loginAt, boolean successful) {
+        UserLoginLog loginLog = UserLoginLog.builder()
+                .user(owner)
+                .ipAddress("127.0.0.1")
+                .deviceType("Desktop")
+                .browserInfo("Chrome")
+                .osInfo("macOS")
+                .successful(successful)
+                .failReason(successful ? null : "INVALID_TOKEN")
+                .build();
+        ReflectionTestUtils.setField(loginLog, "loginAt", loginAt);
+        entityManager.persist(loginLog);
+    }
+
+    @Test
+    @DisplayName("커서 위치부터 (loginAt, id) 역순으로 이어서 조회하며 같은 시각의 기록도 누락하지 않는다")
+    void pagesByKeyset() {
+        // when
+        List<UserLoginLog> first = loginLogRepository.findLoginHistory(user.getId(), MIN, MAX, null,
+                MAX, Long.MAX_VALUE, PageRequest.ofSize(2));
+        UserLoginLog last = first.get(1);
+        List<UserLoginLog> second = loginLogRepository.findLoginHistory(user.getId(), MIN, MAX, null,
+                last.getLoginAt(), last.getId(), PageRequest.ofSize(10));
+
+        // then
+        assertThat(first).extracting(UserLoginLog::getLoginAt)
+                .containsExactly(BASE.plusMinutes(40), BASE.plusMinutes(40));
+        assertThat(first.get(0).getId()).isGreaterThan(first.get(1).getId());
+        assertThat(second).extracting(UserLoginLog::getLoginAt)
+                .containsExactly(BASE.plusMinutes(30), BASE.plusMinutes(20), BASE.plusMinutes(10), BASE);
+    }
+
+    @Test
+    @DisplayName("상태와 기간 조건은 쿼리에서 적용된다")
+    void filtersByStatusAndPeriod() {
+        // when
+        List<UserLoginLog> failures = loginLogRepository.findLoginHistory(user.getId(), MIN, MAX,
+                LoginStatus.FAILURE, MAX, Long.MAX_VALUE, PageRequest.ofSize(10));
+        List<UserLoginLog> inPeriod = loginLogRepository.findLoginHistory(user.getId(),
+                BASE.plusMinutes(10), BASE.plusMinutes(30), LoginStatus.SUCCESS, MAX, Long.MAX_VALUE,
+                PageRequest.ofSize(10));
+
+        // then
+        assertThat(failures).extracting(UserLoginLog::getLoginAt)
+                .containsExactly(BASE.plusMinutes(40), BASE.plusMinutes(20), BASE);
+        assertThat(inPeriod).extracting(UserLoginLog::getLoginAt)
+                .containsExactly(BASE.plusMinutes(30), BASE.plusMinutes(10));
+    }
+}
@@ -0,0 +1,94 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카탈로그 갱신은 별도 트랜잭션에서 커밋된 데이터를 읽으므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PlanCatalogTest {
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PlanCatalog planCatalog;
+    private Plan standard;
+
+    @BeforeEach
+    void setUp() {
+        planRepository.save(Plan.createPlan(PlanType.FREE, BigDecimal.ZERO, BigDecimal.ZERO, 10000, true));
+        standard = planRepository.save(
+                Plan.createPlan(PlanType.STANDARD, BigDecimal.valueOf(9900), BigDecimal.valueOf(99000), 50000, true));
+        planRepository.save(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+
+        planCatalog = new PlanCatalog(planRepository, transactionManager);
+        planCatalog.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        planRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("로딩 후 플랜 조회는 DB에 접근하지 않는다")
+    void readsWithoutQueries() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when & then
+        assertThat(planCatalog.getPlans()).extracting(plan -> plan.getPlanType())
+                .containsExactly(PlanType.FREE, PlanType.STANDARD, PlanType.PRO);
+        assertThat(planCatalog.findById(standard.getId())).get()
+                .extracting(plan -> plan.getMonthlyPrice()).isEqualTo(9900);
+        assertThat(planCatalog.findByType(PlanType.PRO)).isPresent();
+        assertThat(planCatalog.findEntityByType(PlanType.FREE)).isPresent();
+        assertThat(planCatalog.findById(-1L)).isEmpty();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("플랜이 변경되면 새 스냅샷으로 교체되고 이전 스냅샷은 그대로 유지된다")
+    void swapsSnapshotOnChange() {
+        // given
+        PlanCatalog.Snapshot before = planCatalog.snapshot();
+        standard.updatePlan(PlanType.STANDARD, BigDecimal.valueOf(12900), BigDecimal.valueOf(129000), 60000, true);
+        planRepository.save(standard);
+
+        // when
+        planCatalog.onPlanChanged(standard);
+
+        // then
+        PlanCatalog.Snapshot after = planCatalog.snapshot();
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        assertThat(after.getPlansByType().get(PlanType.STANDARD).getMonthlyPrice()).isEqualTo(12900);
+        assertThat(before.getPlansByType().get(PlanType.STANDARD).getMonthlyPrice()).isEqualTo(9900);
+    }
+}
@@ -0,0 +1,114 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.dto.SocialLoginRequest;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 소셜 로그인이 최소한의 쿼리로 처리되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserService.class, SubscriptionService.class, SubscriptionLocks.class, PlanCatalog.class})
+class SocialLoginQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PlanCatalog planCatalog;
+
+    @MockBean
+    private UserRoleMigrationJob roleMigrationJob;
+
+    @MockBean
+    private OutboxWriter outboxWriter;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(Plan.createPlan(PlanType.FREE, BigDecimal.ZERO, BigDecimal.ZERO, 10000, true));
+        entityManager.flush();
+        entityManager.clear();
+        planCatalog.reset();
+
+        // 플랜 카탈로그는 최초 사용 시 한 번만 로딩되므로 미리 한 번 가입시켜 둔다
+        userService.socialLogin(request("warmup", "warmup@example.com"));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private SocialLoginRequest request(String uid, String email) {
+        SocialLoginRequest request = new SocialLoginRequest();
+        request.setUid(uid);
+        request.setEmail(email);
+        request.setDisplayName("사용자");
+        request.setProvider(User.Provider.GOOGLE);
+        request.setEmailVerified(true);
+        request.setLastLoginAt(LocalDateTime.now());
+        return request;
+    }
+
+    @Test
+    @DisplayName("신규 사용자 가입은 사용자 조회, 사용자 insert, 구독 insert, 활성 구독 포인터 update 4개 쿼리로 처리된다")
+    void newUser() {
+        // when
+        SocialLoginResult result = userService.socialLogin(request("new", "new@example.com"));
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(result.getUser().getId()).isNotNull();
+        assertThat(result.getUserDto().getPlan().getPlanType()).isEqualTo(PlanType.FREE);
+
+        Subscription subscription = entityManager.getEntityManager()
+                .createQuery("select s from Subscription s where s.user.id = :userId", Subscription.class)
+                .setParameter("userId", result.getUser().getId())
+                .getSingleResult();
+        assertThat(subscription.getStatus()).isEqualTo(Subscription.SubscriptionStatus.ACTIVE);
+        User saved = entityManager.find(User.class, result.getUser().getId());
+        assertThat(saved.getActiveSubscription().getId()).isEqualTo(subscription.getId());
+        assertThat(saved.getCurrentPlanType()).isEqualTo(PlanType.FREE);
+    }
+
+    @Test
+    @DisplayName("기존 사용자 로그인은 사용자+활성 플랜 조회 1회와 정보 갱신 1회로 처리된다")
+    void existingUser() {
+        // when
+        SocialLoginResult result = userService.socialLogin(request("warmup", "warmup@example.com"));
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(result.getUser().getUid()).isEqualTo("warmup");
+        assertThat(result.getUserDto().getPlan().getPlanType()).isEqualTo(PlanType.FREE);
+    }
+}
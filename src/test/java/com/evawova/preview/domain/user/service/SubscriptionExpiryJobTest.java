@@ -0,0 +1,240 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.event.SubscriptionCancelledEvent;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.infrastructure.outbox.OutboxEvent;
+import com.evawova.preview.infrastructure.outbox.OutboxEventRepository;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.evawova.preview.security.PrincipalSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 여러 인스턴스를 동시에 실행하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SubscriptionExpiryJobTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().findAndRegisterModules();
+
+    private TransactionTemplate transactionTemplate;
+    private PrincipalSnapshotCache principalSnapshotCache;
+    private CacheInvalidationBus invalidationBus;
+
+    private Plan pro;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        principalSnapshotCache = mock(PrincipalSnapshotCache.class);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        pro = planRepository.save(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+        now = LocalDateTime.now();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        userRepository.deleteAll();
+        planRepository.deleteAll();
+    }
+
+    private SubscriptionExpiryJob job(int chunkSize) {
+        return job(chunkSize, 100);
+    }
+
+    private SubscriptionExpiryJob job(int chunkSize, int fullInvalidationThreshold) {
+        return new SubscriptionExpiryJob(subscriptionRepository, userRepository, principalSnapshotCache,
+                invalidationBus, new OutboxWriter(outboxEventRepository, OBJECT_MAPPER), transactionManager,
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), chunkSize, fullInvalidationThreshold, true,
+                Clock.systemDefaultZone());
+    }
+
+    /**
+     * 사용자와 활성 구독을 한 트랜잭션에서 저장해 사용자의 활성 구독 포인터까지 기록합니다.
+     */
+    private User subscriber(String uid, User.Role role, LocalDateTime endDate) {
+        return transactionTemplate.execute(status -> {
+            User user = User.createSocialUser(uid, uid + "@example.com", uid, User.Provider.GOOGLE);
+            user.setRole(role);
+            userRepository.save(user);
+            subscriptionRepository.save(Subscription.createSubscription(user, pro, endDate.minusMonths(1), endDate,
+                    pro.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY));
+            return user;
+        });
+    }
+
+    private User reload(User user) {
+        return userRepository.findById(user.getId()).orElseThrow();
+    }
+
+    /**
+     * 아웃박스에 기록된 취소 이벤트를 기록 순서대로 복원
+     */
+    private List<SubscriptionCancelledEvent> cancelledEvents() {
+        return outboxEventRepository.findAll().stream()
+                .sorted(Comparator.comparing(OutboxEvent::getId))
+                .map(row -> {
+                    assertThat(row.getAggregateType()).isEqualTo("Subscription");
+                    assertThat(row.getEventType()).isEqualTo(SubscriptionCancelledEvent.class.getName());
+                    try {
+                        return OBJECT_MAPPER.readValue(row.getPayload(), SubscriptionCancelledEvent.class);
+                    } catch (JsonProcessingException e) {
+                        throw new IllegalStateException(e);
+                    }
+                })
+                .toList();
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 활성 구독을 만료하고 포인터 해제, FREE 역할 변경, 취소 이벤트 기록을 일괄 처리한다")
+    void expiresDueSubscriptions() {
+        // given
+        User expiredPro = subscriber("expired", User.Role.USER_PRO, now.minusDays(1));
+        User expiredAdmin = subscriber("admin", User.Role.ADMIN, now.minusHours(1));
+        User ongoing = subscriber("ongoing", User.Role.USER_PRO, now.plusDays(1));
+
+        // when
+        int expired = job(1).run();
+
+        // then
+        assertThat(expired).isEqualTo(2);
+
+        User reloadedPro = reload(expiredPro);
+        assertThat(reloadedPro.getRole()).isEqualTo(User.Role.USER_FREE);
+        assertThat(reloadedPro.getActiveSubscription()).isNull();
+        assertThat(reloadedPro.getCurrentPlanType()).isNull();
+        assertThat(subscriptionRepository.findByUserId(expiredPro.getId()))
+                .extracting(Subscription::getStatus, Subscription::getIsActive, Subscription::getActiveGuard)
+                .containsExactly(tuple(Subscription.SubscriptionStatus.EXPIRED, false, null));
+
+        User reloadedAdmin = reload(expiredAdmin);
+        assertThat(reloadedAdmin.getRole()).isEqualTo(User.Role.ADMIN);
+        assertThat(reloadedAdmin.getActiveSubscription()).isNull();
+
+        User reloadedOngoing = reload(ongoing);
+        assertThat(reloadedOngoing.getRole()).isEqualTo(User.Role.USER_PRO);
+        assertThat(reloadedOngoing.getCurrentPlanType()).isEqualTo(PlanType.PRO);
+
+        List<SubscriptionCancelledEvent> events = cancelledEvents();
+        assertThat(events).hasSize(2)
+                .allSatisfy(event -> assertThat(event.getReason()).isEqualTo(Subscription.EXPIRED_REASON));
+        assertThat(events).extracting(SubscriptionCancelledEvent::getUserId)
+                .containsExactly(expiredPro.getId(), expiredAdmin.getId());
+        verify(principalSnapshotCache).invalidate(expiredPro.getUid());
+        verify(principalSnapshotCache, never()).invalidate(expiredAdmin.getUid());
+        // 다른 노드에는 역할이 바뀐 uid만 무효화
+        verify(invalidationBus).publishAll(PrincipalSnapshotCache.CACHE_NAME, List.of(expiredPro.getUid()));
+        verify(invalidationBus, never()).publish(eq(PrincipalSnapshotCache.CACHE_NAME), isNull());
+    }
+
+    @Test
+    @DisplayName("한 청크에서 역할이 바뀐 사용자가 한도를 넘으면 다른 노드의 인증 캐시를 전체 무효화한다")
+    void fallsBackToFullInvalidationAboveThreshold() {
+        // given
+        subscriber("first", User.Role.USER_PRO, now.minusDays(2));
+        subscriber("second", User.Role.USER_PRO, now.minusDays(1));
+
+        // when
+        int expired = job(10, 1).run();
+
+        // then
+        assertThat(expired).isEqualTo(2);
+        verify(invalidationBus).publish(eq(PrincipalSnapshotCache.CACHE_NAME), isNull());
+        verify(invalidationBus, never()).publishAll(any(), any());
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 동시에 실행해도 한 구독은 한 번만 만료 처리된다")
+    void concurrentRunsDoNotDoubleProcess() throws Exception {
+        // given
+        int count = 60;
+        for (int i = 0; i < count; i++) {
+            subscriber("user-" + i, User.Role.USER_PRO, now.minusMinutes(count - i));
+        }
+        List<SubscriptionExpiryJob> jobs = List.of(job(7), job(7), job(7));
+        CountDownLatch ready = new CountDownLatch(jobs.size());
+
+        // when
+        List<CompletableFuture<Integer>> runs = jobs.stream()
+                .map(job -> CompletableFuture.supplyAsync(() -> {
+                    ready.countDown();
+                    try {
+                        ready.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return job.run();
+                }))
+                .toList();
+        for (CompletableFuture<Integer> run : runs) {
+            // 잠금 충돌로 중단된 실행이 남긴 구독은 아래 재실행이 처리
+            run.handle((expired, e) -> expired).get();
+        }
+        job(7).run();
+
+        // then: 이벤트는 청크와 같은 트랜잭션에서 기록되므로 이벤트 수가 곧 처리 건수
+        List<SubscriptionCancelledEvent> events = cancelledEvents();
+        assertThat(events).hasSize(count);
+        assertThat(events).extracting(SubscriptionCancelledEvent::getSubscriptionId)
+                .doesNotHaveDuplicates();
+        assertThat(subscriptionRepository.findAll())
+                .allMatch(subscription -> subscription.getStatus() == Subscription.SubscriptionStatus.EXPIRED);
+        assertThat(userRepository.findAll()).allMatch(user -> user.getRole() == User.Role.USER_FREE);
+    }
+}
@@ -0,0 +1,221 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.event.SubscriptionRenewedEvent;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.outbox.OutboxEvent;
+import com.evawova.preview.infrastructure.outbox.OutboxEventRepository;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import com.evawova.preview.support.MutableClock;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 갱신은 별도 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SubscriptionService.class, SubscriptionLocks.class, OutboxWriter.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class SubscriptionRenewalSchedulerTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private LocalDateTime now;
+    private Plan pro;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-03-01T00:00:00Z"));
+        now = LocalDateTime.now(clock);
+        pro = planRepository.save(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        userRepository.deleteAll();
+        planRepository.deleteAll();
+    }
+
+    /**
+     * 워커는 호출 스레드에서 바로 실행 (tick 1초, 창 6시간)
+     */
+    private SubscriptionRenewalScheduler scheduler(SimpleMeterRegistry meterRegistry) {
+        return scheduler(meterRegistry, Runnable::run);
+    }
+
+    private SubscriptionRenewalScheduler scheduler(SimpleMeterRegistry meterRegistry, Executor workers) {
+        return new SubscriptionRenewalScheduler(subscriptionRepository, subscriptionService, transactionManager,
+                meterRegistry, workers, clock, true, Duration.ofSeconds(1), 64, Duration.ofHours(6),
+                Duration.ofMinutes(5), Duration.ofHours(1), Duration.ofMinutes(1), 2);
+    }
+
+    private Subscription subscription(String uid, LocalDateTime renewalDate, LocalDateTime endDate) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            User user = userRepository.save(
+                    User.createSocialUser(uid, uid + "@example.com", uid, User.Provider.GOOGLE));
+            Subscription subscription = Subscription.createSubscription(user, pro, endDate.minusMonths(1), endDate,
+                    pro.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY);
+            subscription.updateRenewal(endDate, renewalDate);
+            return subscriptionRepository.save(subscription);
+        });
+    }
+
+    private Subscription reload(Subscription subscription) {
+        return subscriptionRepository.findById(subscription.getId()).orElseThrow();
+    }
+
+    @Test
+    @DisplayName("창 안의 갱신 예정 구독을 휠에 올렸다가 갱신일이 되면 한 주기 갱신한다")
+    void renewsWhenRenewalDateArrives() {
+        // given
+        Subscription upcoming = subscription("upcoming", now.plusMinutes(10), now.plusMinutes(10).plusDays(1));
+        Subscription later = subscription("later", now.plusHours(7), now.plusHours(7).plusDays(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SubscriptionRenewalScheduler scheduler = scheduler(meterRegistry);
+
+        // when: 창(6시간) 밖의 구독은 올리지 않음
+        int added = scheduler.refill();
+        clock.advance(Duration.ofMinutes(9));
+        scheduler.advance();
+
+        // then: 갱신일 전에는 그대로
+        assertThat(added).isEqualTo(1);
+        assertThat(reload(upcoming).getRenewalDate()).isEqualTo(upcoming.getRenewalDate());
+
+        // when
+        clock.advance(Duration.ofMinutes(1));
+        scheduler.advance();
+
+        // then
+        Subscription renewed = reload(upcoming);
+        assertThat(renewed.getRenewalDate()).isEqualTo(upcoming.getRenewalDate().plusMonths(1));
+        assertThat(renewed.getEndDate()).isEqualTo(upcoming.getEndDate().plusMonths(1));
+        assertThat(renewed.isActive()).isTrue();
+        assertThat(reload(later).getRenewalDate()).isEqualTo(later.getRenewalDate());
+        assertThat(scheduler.getScheduledCount()).isZero();
+        assertThat(meterRegistry.get("subscription.renewal.renewed").counter().count()).isEqualTo(1);
+        // 갱신 이벤트는 갱신과 같은 트랜잭션에서 아웃박스에 기록
+        assertThat(outboxEventRepository.findAll())
+                .extracting(OutboxEvent::getAggregateType, OutboxEvent::getAggregateId, OutboxEvent::getEventType)
+                .containsExactly(tuple("Subscription", String.valueOf(upcoming.getId()),
+                        SubscriptionRenewedEvent.class.getName()));
+    }
+
+    @Test
+    @DisplayName("중단된 동안 지난 갱신은 재시작 후 바로 처리하고, 같은 구독을 올린 다른 노드는 다시 갱신하지 않는다")
+    void catchesUpOverdueRenewalsOnce() {
+        // given: 갱신일이 한 시간 지난 구독
+        Subscription overdue = subscription("overdue", now.minusHours(1), now.plusDays(1));
+        SimpleMeterRegistry nodeA = new SimpleMeterRegistry();
+        SimpleMeterRegistry nodeB = new SimpleMeterRegistry();
+        List<Runnable> nodeBWorkers = new ArrayList<>();
+
+        // when: 두 노드가 모두 같은 구독을 읽고, B 노드의 갱신은 A 노드가 갱신한 뒤에 실행
+        scheduler(nodeB, nodeBWorkers::add).refill();
+        scheduler(nodeA).refill();
+        nodeBWorkers.forEach(Runnable::run);
+
+        // then: 한 번만 갱신
+        Subscription renewed = reload(overdue);
+        assertThat(renewed.getRenewalDate()).isEqualTo(overdue.getRenewalDate().plusMonths(1));
+        assertThat(renewed.getEndDate()).isEqualTo(overdue.getEndDate().plusMonths(1));
+        assertThat(nodeA.get("subscription.renewal.renewed").counter().count()).isEqualTo(1);
+        assertThat(nodeB.get("subscription.renewal.renewed").counter().count()).isZero();
+        assertThat(nodeB.get("subscription.renewal.skipped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 구독은 갱신일이 지났어도 휠에 올리지 않고, 갱신 시점에 종료일이 지났으면 갱신하지 않는다")
+    void doesNotRenewLapsedSubscriptions() {
+        // given: 이미 종료일이 지난 구독, 갱신일보다 종료일이 먼저 오는 구독
+        Subscription lapsed = subscription("lapsed", now.minusHours(1), now.minusMinutes(10));
+        Subscription lapsing = subscription("lapsing", now.plusMinutes(10), now.plusMinutes(5));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SubscriptionRenewalScheduler scheduler = scheduler(meterRegistry);
+
+        // when
+        int added = scheduler.refill();
+        clock.advance(Duration.ofMinutes(10));
+        scheduler.advance();
+
+        // then
+        assertThat(added).isEqualTo(1);
+        assertThat(reload(lapsed).getEndDate()).isEqualTo(lapsed.getEndDate());
+        assertThat(reload(lapsing).getEndDate()).isEqualTo(lapsing.getEndDate());
+        assertThat(reload(lapsing).getRenewalDate()).isEqualTo(lapsing.getRenewalDate());
+        assertThat(meterRegistry.get("subscription.renewal.renewed").counter().count()).isZero();
+        assertThat(meterRegistry.get("subscription.renewal.skipped").counter().count()).isEqualTo(1);
+        assertThat(outboxEventRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 페이지보다 많은 갱신 예정도 이어서 읽고, 다시 채울 때는 이미 읽은 시각 이후만 읽는다")
+    void refillsIncrementally() {
+        // given: 페이지 크기 2
+        for (int i = 1; i <= 5; i++) {
+            subscription("user-" + i, now.plusMinutes(i), now.plusDays(1));
+        }
+        SubscriptionRenewalScheduler scheduler = scheduler(new SimpleMeterRegistry());
+
+        // when
+        int first = scheduler.refill();
+        // 창 끝이 30초 늘어나는 사이에 들어오는 구독
+        subscription("user-6", now.plusHours(6).plusSeconds(10), now.plusDays(1));
+        clock.advance(Duration.ofSeconds(30));
+        int second = scheduler.refill();
+
+        // then
+        assertThat(first).isEqualTo(5);
+        assertThat(second).isEqualTo(1);
+        assertThat(scheduler.getScheduledCount()).isEqualTo(6);
+    }
+}
@@ -0,0 +1,252 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.outbox.OutboxWriter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.evawova.preview.support.Latches.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assumptions.assumeThat;
+
+/**
+ * 구독 변경의 사용자별 직렬화 검증
+ * 여러 스레드가 커밋된 데이터를 봐야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({SubscriptionService.class, SubscriptionLocks.class})
+class SubscriptionServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+
+    @Autowired
+    private SubscriptionLocks subscriptionLocks;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private OutboxWriter outboxWriter;
+
+    private Plan standard;
+    private Plan pro;
+
+    @BeforeEach
+    void setUp() {
+        standard = planRepository.save(
+                Plan.createPlan(PlanType.STANDARD, BigDecimal.valueOf(9900), BigDecimal.valueOf(99000), 50000, true));
+        pro = planRepository.save(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriptionRepository.deleteAll();
+        userRepository.deleteAll();
+        planRepository.deleteAll();
+    }
+
+    private User user(String uid) {
+        return userRepository.save(User.createSocialUser(uid, uid + "@example.com", uid, User.Provider.GOOGLE));
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 플랜 변경이 동시에 들어와도 모두 성공하고 활성 구독은 하나만 남는다")
+    void serializesConcurrentChangesForSameUser() throws Exception {
+        // given
+        User user = user("concurrent");
+        subscriptionService.createSubscription(user.getId(), standard.getId(), Subscription.SubscriptionCycle.MONTHLY);
+
+        // when
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            Long planId = i % 2 == 0 ? pro.getId() : standard.getId();
+            futures.add(CompletableFuture.runAsync(() -> {
+                ready.countDown();
+                await(start);
+                subscriptionService.createSubscription(user.getId(), planId, Subscription.SubscriptionCycle.MONTHLY);
+            }, executor));
+        }
+        ready.await(5, TimeUnit.SECONDS);
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        List<Subscription> subscriptions = subscriptionRepository.findByUserId(user.getId());
+        assertThat(subscriptions).hasSize(THREADS + 1);
+        assertThat(subscriptions).filteredOn(Subscription::isActive).hasSize(1);
+        assertThat(subscriptionRepository.findActiveByUserId(user.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("락을 기다리는 동안 다른 트랜잭션이 커밋한 취소를 락 이후에 읽고, 같은 구독을 다시 취소하지 않는다")
+    void readsCommittedStateAfterLock() throws Exception {
+        // given: 다른 트랜잭션이 락을 잡고 구독을 취소한 채 커밋을 미루고 있음
+        User user = user("post-lock");
+        Long subscriptionId = subscriptionService.createSubscription(user.getId(), standard.getId(),
+                Subscription.SubscriptionCycle.MONTHLY).getId();
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    subscriptionLocks.lockUntilCompletion(user.getId());
+                    subscriptionRepository.findById(subscriptionId).orElseThrow().cancel();
+                    subscriptionRepository.flush();
+                    locked.countDown();
+                    await(release);
+                }));
+        await(locked);
+
+        // when: 락을 기다리는 취소 요청
+        CompletableFuture<Void> waiting = CompletableFuture.runAsync(() ->
+                subscriptionService.cancelSubscription(subscriptionId));
+        waitUntilQueued(subscriptionLocks.stripeFor(user.getId()));
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // then: 락 이후 읽은 구독은 이미 취소된 상태
+        assertThatThrownBy(() -> waiting.get(5, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("이미 취소되었거나 만료된 구독입니다");
+        assertThat(subscriptionRepository.findById(subscriptionId).orElseThrow().getStatus())
+                .isEqualTo(Subscription.SubscriptionStatus.CANCELLED);
+        assertThat(subscriptionRepository.findActiveByUserId(user.getId())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 구독을 동시에 취소하면 한 요청만 취소하고 나머지는 락 이후 취소된 상태를 보고 거부된다")
+    void cancelsOnlyOnceConcurrently() throws Exception {
+        // given
+        User user = user("cancel-race");
+        Long subscriptionId = subscriptionService.createSubscription(user.getId(), pro.getId(),
+                Subscription.SubscriptionCycle.MONTHLY).getId();
+
+        // when
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                await(start);
+                try {
+                    subscriptionService.cancelSubscription(subscriptionId);
+                    return true;
+                } catch (IllegalStateException e) {
+                    return false;
+                }
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        assertThat(futures).filteredOn(CompletableFuture::join).hasSize(1);
+        assertThat(subscriptionRepository.findById(subscriptionId).orElseThrow().getStatus())
+                .isEqualTo(Subscription.SubscriptionStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 구독 변경은 락을 기다리지 않는다")
+    void doesNotBlockOtherUsers() throws Exception {
+        // given: 사용자 A의 구독 변경 트랜잭션이 락을 잡고 있음
+        User userA = user("user-a");
+        User userB = user("user-b");
+        assumeThat(subscriptionLocks.stripeFor(userA.getId())).isNotSameAs(subscriptionLocks.stripeFor(userB.getId()));
+
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    subscriptionLocks.lockUntilCompletion(userA.getId());
+                    locked.countDown();
+                    await(release);
+                }));
+        locked.await(5, TimeUnit.SECONDS);
+
+        // when
+        long startedAt = System.nanoTime();
+        subscriptionService.createSubscription(userB.getId(), pro.getId(), Subscription.SubscriptionCycle.MONTHLY);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        release.countDown();
+        holder.get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(2000);
+        assertThat(subscriptionRepository.findActiveByUserId(userB.getId())).isPresent();
+        assertThat(subscriptionLocks.stripeFor(userA.getId()).isLocked()).isFalse();
+    }
+
+    @Test
+    @DisplayName("락을 거치지 않은 저장도 사용자당 두 번째 활성 구독은 DB 제약으로 거부된다")
+    void rejectsSecondActiveSubscriptionInDatabase() {
+        // given
+        User user = user("guarded");
+        LocalDateTime now = LocalDateTime.now();
+        subscriptionRepository.save(Subscription.createSubscription(user, standard, now, now.plusMonths(1),
+                standard.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY));
+
+        // when & then
+        assertThatThrownBy(() -> subscriptionRepository.save(Subscription.createSubscription(user, pro, now,
+                now.plusMonths(1), pro.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY)))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private static void waitUntilQueued(ReentrantLock lock) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!lock.hasQueuedThreads()) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("락 대기 스레드가 없습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.service.UserAgentClassifier.UserAgentInfo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserAgentClassifierTest {
+
+    private final UserAgentClassifier classifier = new UserAgentClassifier("PreviewApp", 100);
+
+    @ParameterizedTest(name = "{1} / {2} / {3}")
+    @DisplayName("실제 브라우저 User-Agent를 디바이스/브라우저/OS로 분류한다")
+    @CsvSource(delimiter = '|', value = {
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36|Desktop|Chrome|Windows",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 Edg/120.0.2210.91|Desktop|Edge|Windows",
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64; rv:121.0) Gecko/20100101 Firefox/121.0|Desktop|Firefox|Windows",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Safari/605.1.15|Desktop|Safari|macOS",
+            "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36 OPR/106.0.0.0|Desktop|Opera|macOS",
+            "Mozilla/5.0 (X11; Linux x86_64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36|Desktop|Chrome|Linux",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Mobile/15E148 Safari/604.1|Mobile|Safari|iOS",
+            "Mozilla/5.0 (iPhone; CPU iPhone OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) CriOS/120.0.6099.119 Mobile/15E148 Safari/604.1|Mobile|Chrome|iOS",
+            "Mozilla/5.0 (iPad; CPU OS 17_2 like Mac OS X) AppleWebKit/605.1.15 (KHTML, like Gecko) Version/17.2 Mobile/15E148 Safari/604.1|Tablet|Safari|iOS",
+            "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.6099.144 Mobile Safari/537.36|Mobile|Chrome|Android",
+            "Mozilla/5.0 (Linux; Android 13; SM-X700) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.6099.144 Safari/537.36|Tablet|Chrome|Android",
+            "Mozilla/5.0 (Android 14; Mobile; rv:121.0) Gecko/121.0 Firefox/121.0|Mobile|Firefox|Android",
+            "Dalvik/2.1.0 (Linux; U; Android 14; SM-S918N Build/UP1A.231005.007)|Mobile|Other|Android",
+            "okhttp/4.12.0 (Linux; Android 13; SM-X700)|Mobile|Other|Android",
+            "curl/8.4.0|Desktop|Other|Other"
+    })
+    void classifiesBrowsers(String userAgent, String deviceType, String browser, String os) {
+        // when
+        UserAgentInfo info = classifier.classify(userAgent);
+
+        // then
+        assertThat(info.getDeviceType()).isEqualTo(deviceType);
+        assertThat(info.getBrowserInfo()).isEqualTo(browser);
+        assertThat(info.getOsInfo()).isEqualTo(os);
+        assertThat(info.getAppVersion()).isNull();
+    }
+
+    @Test
+    @DisplayName("자사 앱 User-Agent에서는 앱 버전을 추출한다")
+    void extractsAppVersion() {
+        // when
+        UserAgentInfo ios = classifier.classify("PreviewApp/1.4.2 (iPhone; iOS 17.1; Scale/3.00)");
+        UserAgentInfo android = classifier.classify("PreviewApp/1.5.0-beta (Linux; Android 14; SM-S918N) okhttp/4.12.0");
+
+        // then
+        assertThat(ios.getAppVersion()).isEqualTo("1.4.2");
+        assertThat(ios.getBrowserInfo()).isEqualTo("PreviewApp");
+        assertThat(ios.getOsInfo()).isEqualTo("iOS");
+        assertThat(ios.getDeviceType()).isEqualTo("Mobile");
+        assertThat(android.getAppVersion()).isEqualTo("1.5.0-beta");
+        assertThat(android.getBrowserInfo()).isEqualTo("PreviewApp");
+        assertThat(android.getOsInfo()).isEqualTo("Android");
+        // 앱 UA에는 Mobile 토큰이 없지만 태블릿으로 분류하지 않음
+        assertThat(android.getDeviceType()).isEqualTo("Mobile");
+    }
+
+    @Test
+    @DisplayName("User-Agent가 없으면 Unknown으로 분류한다")
+    void unknownWhenMissing() {
+        assertThat(classifier.classify(null).getDeviceType()).isEqualTo("Unknown");
+        assertThat(classifier.classify("").getBrowserInfo()).isEqualTo("Unknown");
+    }
+
+    @Test
+    @DisplayName("같은 User-Agent는 다시 분석하지 않고 캐시된 결과를 반환한다")
+    void cachesByRawUserAgent() {
+        // given
+        String userAgent = "PreviewApp/1.4.2 (iPhone; iOS 17.1; Scale/3.00)";
+
+        // when
+        UserAgentInfo first = classifier.classify(userAgent);
+        UserAgentInfo second = classifier.classify(new String(userAgent));
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+}
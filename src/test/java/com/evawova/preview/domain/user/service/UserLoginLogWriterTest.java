@@ -0,0 +1,172 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.entity.UserLoginLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserLoginLogWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private List<Integer> flushedBatchSizes;
+    private CountDownLatch flushGate;
+    private UserLoginLogWriter writer;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        flushedBatchSizes = new CopyOnWriteArrayList<>();
+        flushGate = new CountDownLatch(0);
+
+        when(jdbcTemplate.batchUpdate(eq(UserLoginLogWriter.INSERT_SQL), anyCollection(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    flushGate.await(5, TimeUnit.SECONDS);
+                    flushedBatchSizes.add(((Collection<?>) invocation.getArgument(1)).size());
+                    return new int[0][];
+                });
+
+        user = User.builder()
+                .id(1L)
+                .uid("uid")
+                .email("user@example.com")
+                .displayName("사용자")
+                .provider(User.Provider.GOOGLE)
+                .isActive(true)
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    private UserLoginLogWriter writer(int capacity, int batchSize, Duration flushInterval,
+            UserLoginLogWriter.OverflowPolicy policy) {
+        writer = new UserLoginLogWriter(jdbcTemplate, meterRegistry, capacity, batchSize, flushInterval, policy,
+                Duration.ofMillis(10), Duration.ofSeconds(5));
+        writer.start();
+        return writer;
+    }
+
+    private UserLoginLog loginLog() {
+        return UserLoginLog.builder()
+                .user(user)
+                .ipAddress("127.0.0.1")
+                .userAgent("test-agent")
+                .deviceType("Desktop")
+                .browserInfo("Chrome")
+                .osInfo("macOS")
+                .successful(true)
+                .build();
+    }
+
+    private void awaitFlushed(int total) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flushedBatchSizes.stream().mapToInt(Integer::intValue).sum() < total
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    @DisplayName("batch-size에 도달하면 한 번의 batch insert로 저장한다")
+    void flushesOnBatchSize() throws Exception {
+        // given
+        UserLoginLogWriter writer = writer(100, 3, Duration.ofHours(1), UserLoginLogWriter.OverflowPolicy.DROP);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(loginLog());
+        }
+        awaitFlushed(3);
+
+        // then
+        assertThat(flushedBatchSizes).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("batch-size에 못 미쳐도 flush-interval이 지나면 저장한다")
+    void flushesOnInterval() throws Exception {
+        // given
+        UserLoginLogWriter writer = writer(100, 100, Duration.ofMillis(50), UserLoginLogWriter.OverflowPolicy.DROP);
+
+        // when
+        writer.enqueue(loginLog());
+        writer.enqueue(loginLog());
+        awaitFlushed(2);
+
+        // then
+        assertThat(flushedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기열에 남은 기록을 모두 저장한다")
+    void drainsOnStop() {
+        // given
+        UserLoginLogWriter writer = writer(100, 100, Duration.ofHours(1), UserLoginLogWriter.OverflowPolicy.DROP);
+        for (int i = 0; i < 5; i++) {
+            writer.enqueue(loginLog());
+        }
+
+        // when
+        writer.stop();
+
+        // then
+        assertThat(flushedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(5);
+        assertThat(writer.queueSize()).isZero();
+        assertThat(meterRegistry.get("login-log.records").tag("result", "written").counter().count())
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("DROP 정책에서는 대기열이 가득 차면 요청을 막지 않고 기록을 버린다")
+    void dropsWhenQueueIsFull() throws Exception {
+        // given: writer가 첫 번째 flush에서 멈춰 있는 상태
+        flushGate = new CountDownLatch(1);
+        UserLoginLogWriter writer = writer(2, 1, Duration.ofHours(1), UserLoginLogWriter.OverflowPolicy.DROP);
+        writer.enqueue(loginLog());
+        while (writer.queueSize() > 0) {
+            Thread.sleep(5);
+        }
+
+        // when
+        writer.enqueue(loginLog());
+        writer.enqueue(loginLog());
+        writer.enqueue(loginLog());
+
+        // then
+        assertThat(meterRegistry.get("login-log.records").tag("result", "dropped").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("login-log.queue.depth").gauge().value()).isEqualTo(2);
+
+        flushGate.countDown();
+        awaitFlushed(3);
+        assertThat(flushedBatchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(3);
+    }
+}
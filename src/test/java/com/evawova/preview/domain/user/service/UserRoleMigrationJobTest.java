@@ -0,0 +1,206 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.domain.user.dto.ActivePlanConsistencyReport;
+import com.evawova.preview.domain.user.dto.RoleMigrationStatus;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.repository.PlanRepository;
+import com.evawova.preview.domain.user.repository.SubscriptionRepository;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.batch.JobCheckpoint;
+import com.evawova.preview.infrastructure.batch.JobCheckpointRepository;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import com.evawova.preview.security.PrincipalSnapshotCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 워커 스레드가 커밋된 데이터를 봐야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserRoleMigrationJobTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlanRepository planRepository;
+
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private JobCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PrincipalSnapshotCache principalSnapshotCache;
+    private SimpleMeterRegistry meterRegistry;
+    private UserRoleMigrationJob job;
+
+    private User admin;
+    private User proSubscriber;
+    private User cancelledPro;
+    private User standardSubscriber;
+    private User freeSubscriber;
+
+    @BeforeEach
+    void setUp() {
+        Plan free = planRepository.save(Plan.createPlan(PlanType.FREE, BigDecimal.ZERO, BigDecimal.ZERO, 10000, true));
+        Plan standard = planRepository.save(
+                Plan.createPlan(PlanType.STANDARD, BigDecimal.valueOf(9900), BigDecimal.valueOf(99000), 50000, true));
+        Plan pro = planRepository.save(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+
+        admin = user("admin", User.Role.ADMIN);
+        subscribe(admin, pro, true);
+        proSubscriber = user("pro", User.Role.USER_FREE);
+        subscribe(proSubscriber, pro, true);
+        cancelledPro = user("cancelled", User.Role.USER_PRO);
+        subscribe(cancelledPro, pro, false);
+        standardSubscriber = user("standard", User.Role.USER_FREE);
+        subscribe(standardSubscriber, standard, true);
+        freeSubscriber = user("free", User.Role.USER_FREE);
+        subscribe(freeSubscriber, free, true);
+
+        principalSnapshotCache = mock(PrincipalSnapshotCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        job = new UserRoleMigrationJob(userRepository, checkpointRepository, principalSnapshotCache,
+                mock(CacheInvalidationBus.class), transactionManager, meterRegistry, 2, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        checkpointRepository.deleteAll();
+        subscriptionRepository.deleteAll();
+        userRepository.deleteAll();
+        planRepository.deleteAll();
+    }
+
+    private User user(String uid, User.Role role) {
+        User user = User.createSocialUser(uid, uid + "@example.com", uid, User.Provider.GOOGLE);
+        user.setRole(role);
+        return userRepository.save(user);
+    }
+
+    private void subscribe(User user, Plan plan, boolean active) {
+        Subscription subscription = Subscription.createSubscription(user, plan, LocalDateTime.now(),
+                LocalDateTime.now().plusMonths(1), plan.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY);
+        if (!active) {
+            subscription.cancel();
+        }
+        subscriptionRepository.save(subscription);
+    }
+
+    private User.Role roleOf(User user) {
+        return userRepository.findById(user.getId()).orElseThrow().getRole();
+    }
+
+    @Test
+    @DisplayName("활성 구독의 플랜에 맞게 역할을 일괄 변경하고 모든 파티션을 완료 처리한다")
+    void migratesRolesInChunks() {
+        // when
+        RoleMigrationStatus status = job.run();
+
+        // then
+        assertThat(roleOf(admin)).isEqualTo(User.Role.ADMIN);
+        assertThat(roleOf(proSubscriber)).isEqualTo(User.Role.USER_PRO);
+        assertThat(roleOf(cancelledPro)).isEqualTo(User.Role.USER_FREE);
+        assertThat(roleOf(standardSubscriber)).isEqualTo(User.Role.USER_STANDARD);
+        assertThat(roleOf(freeSubscriber)).isEqualTo(User.Role.USER_FREE);
+
+        assertThat(status.isRunning()).isFalse();
+        assertThat(status.getTotalPartitions()).isEqualTo(2);
+        assertThat(status.getCompletedPartitions()).isEqualTo(2);
+        assertThat(status.getProcessedCount()).isEqualTo(5);
+        assertThat(status.getUpdatedCount()).isEqualTo(3);
+        assertThat(meterRegistry.get("user.role-migration.updated").counter().count()).isEqualTo(3);
+        verify(principalSnapshotCache).invalidate(proSubscriber.getUid());
+        verify(principalSnapshotCache).invalidate(cancelledPro.getUid());
+    }
+
+    @Test
+    @DisplayName("구독 테이블 기준으로 사용자의 활성 구독 포인터를 백필해 정합성 확인 결과가 일치하게 된다")
+    void backfillsActivePlanPointer() {
+        // given: 구독만 저장되어 사용자 포인터가 비어 있는 상태
+        ActivePlanConsistencyChecker checker = new ActivePlanConsistencyChecker(userRepository);
+        ActivePlanConsistencyReport before = checker.check(10);
+
+        // when
+        job.run();
+
+        // then
+        assertThat(before.getMismatchCount()).isEqualTo(4);
+        assertThat(before.getSampleUserIds()).containsExactly(admin.getId(), proSubscriber.getId(),
+                standardSubscriber.getId(), freeSubscriber.getId());
+        assertThat(checker.check(10).isConsistent()).isTrue();
+        assertThat(userRepository.findById(proSubscriber.getId()).orElseThrow().getCurrentPlanType())
+                .isEqualTo(PlanType.PRO);
+        assertThat(userRepository.findById(cancelledPro.getId()).orElseThrow().getCurrentPlanType()).isNull();
+    }
+
+    @Test
+    @DisplayName("미완료 체크포인트가 있으면 마지막으로 처리한 ID 다음부터 이어서 처리한다")
+    void resumesFromCheckpoint() {
+        // given: proSubscriber까지 처리된 상태로 중단된 단일 파티션
+        JobCheckpoint checkpoint = JobCheckpoint.start(UserRoleMigrationJob.JOB_NAME, 0, admin.getId(),
+                freeSubscriber.getId());
+        checkpoint.advance(proSubscriber.getId(), 2, 0);
+        checkpointRepository.save(checkpoint);
+
+        // when
+        RoleMigrationStatus status = job.run();
+
+        // then: 체크포인트 이전 사용자는 건드리지 않음
+        assertThat(roleOf(proSubscriber)).isEqualTo(User.Role.USER_FREE);
+        assertThat(roleOf(cancelledPro)).isEqualTo(User.Role.USER_FREE);
+        assertThat(roleOf(standardSubscriber)).isEqualTo(User.Role.USER_STANDARD);
+        verify(principalSnapshotCache, never()).invalidate(proSubscriber.getUid());
+
+        List<JobCheckpoint> checkpoints = checkpointRepository.findByJobNameOrderByPartitionIndex(
+                UserRoleMigrationJob.JOB_NAME);
+        assertThat(checkpoints).hasSize(1);
+        assertThat(checkpoints.get(0).isCompleted()).isTrue();
+        assertThat(checkpoints.get(0).getLastProcessedId()).isEqualTo(freeSubscriber.getId());
+        assertThat(status.getProcessedCount()).isEqualTo(5);
+        assertThat(status.getUpdatedCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변경할 사용자가 없으면 인증 캐시를 건드리지 않는다")
+    void skipsInvalidationWhenNothingChanged() {
+        // given
+        job.run();
+        clearInvocations(principalSnapshotCache);
+
+        // when
+        RoleMigrationStatus status = job.run();
+
+        // then
+        assertThat(status.getUpdatedCount()).isZero();
+        verify(principalSnapshotCache, never()).invalidate(anyString());
+    }
+}
@@ -0,0 +1,163 @@
+package com.evawova.preview.domain.user.service;
+
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
+import com.evawova.preview.domain.user.dto.UserDto;
+import com.evawova.preview.domain.user.dto.UserSearchCondition;
+import com.evawova.preview.domain.user.entity.Plan;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.Subscription;
+import com.evawova.preview.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 조회 API가 사용자 수와 무관하게 한 번의 쿼리로 처리되는지 검증
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({UserService.class, PlanCatalog.class})
+class UserServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserService userService;
+
+    @MockBean
+    private SubscriptionService subscriptionService;
+
+    @MockBean
+    private UserRoleMigrationJob roleMigrationJob;
+
+    private Statistics statistics;
+    private User freeUser;
+
+    @BeforeEach
+    void setUp() {
+        Plan freePlan = entityManager.persist(
+                Plan.createPlan(PlanType.FREE, BigDecimal.ZERO, BigDecimal.ZERO, 10000, true));
+        Plan proPlan = entityManager.persist(
+                Plan.createPlan(PlanType.PRO, BigDecimal.valueOf(19900), BigDecimal.valueOf(199000), 100000, true));
+
+        // 무료 사용자: 해지된 PRO 구독 + 활성 FREE 구독
+        freeUser = entityManager.persist(User.createSocialUser("free", "free@example.com", "무료", User.Provider.GOOGLE));
+        Subscription cancelled = subscription(freeUser, proPlan);
+        cancelled.cancel();
+        entityManager.persist(cancelled);
+        entityManager.persist(subscription(freeUser, freePlan));
+
+        User proUser = entityManager.persist(User.createSocialUser("pro", "pro@example.com", "프로", User.Provider.GOOGLE));
+        entityManager.persist(subscription(proUser, proPlan));
+
+        entityManager.persist(User.createSocialUser("none", "none@example.com", "미구독", User.Provider.APPLE));
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private Subscription subscription(User user, Plan plan) {
+        return Subscription.createSubscription(user, plan, LocalDateTime.now(), LocalDateTime.now().plusMonths(1),
+                plan.getMonthlyPrice(), Subscription.SubscriptionCycle.MONTHLY);
+    }
+
+    @Test
+    @DisplayName("사용자 목록 조회는 사용자 수와 관계없이 페이지당 쿼리 1회로 활성 플랜까지 가져온다")
+    void searchUsers() {
+        // when
+        CursorPage<UserDto> first = userService.searchUsers(new UserSearchCondition(), KeysetCursor.FIRST_ASC, 2);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(first.getItems()).extracting(UserDto::getEmail)
+                .containsExactly("free@example.com", "pro@example.com");
+        assertThat(first.getItems()).extracting(user -> user.getPlan().getPlanType())
+                .containsExactly(PlanType.FREE, PlanType.PRO);
+
+        // when: 다음 페이지
+        entityManager.clear();
+        statistics.clear();
+        CursorPage<UserDto> second = userService.searchUsers(new UserSearchCondition(),
+                KeysetCursor.decode(first.getNextCursor(), KeysetCursor.FIRST_ASC), 2);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(second.getItems()).extracting(UserDto::getEmail).containsExactly("none@example.com");
+        assertThat(second.getItems().get(0).getPlan()).isNull();
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("목록 조건(제공자)과 가입일 역순 정렬은 쿼리에서 처리된다")
+    void searchUsersWithCondition() {
+        // given
+        UserSearchCondition condition = new UserSearchCondition();
+        condition.setProvider(User.Provider.GOOGLE);
+        condition.setSort(UserSearchCondition.Sort.CREATED_AT);
+
+        // when
+        CursorPage<UserDto> users = userService.searchUsers(condition, condition.firstCursor(), 10);
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(users.getItems()).extracting(UserDto::getEmail)
+                .containsExactlyInAnyOrder("free@example.com", "pro@example.com");
+    }
+
+    @Test
+    @DisplayName("내보내기는 조건에 맞는 사용자를 하나의 쿼리 스트림으로 전달한다")
+    void exportUsers() {
+        // given
+        List<String> exported = new ArrayList<>();
+
+        // when
+        long count = userService.exportUsers(new UserSearchCondition(), user -> exported.add(user.getEmail()));
+
+        // then
+        assertThat(count).isEqualTo(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(exported).containsExactly("free@example.com", "pro@example.com", "none@example.com");
+    }
+
+    @Test
+    @DisplayName("단건 조회(ID, 이메일, UID)는 각각 쿼리 1회로 처리된다")
+    void getSingleUser() {
+        // when & then
+        UserDto byId = userService.getUserById(freeUser.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(byId.getPlan().getPlanType()).isEqualTo(PlanType.FREE);
+
+        entityManager.clear();
+        statistics.clear();
+        userService.getUserByEmail("pro@example.com");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        entityManager.clear();
+        statistics.clear();
+        UserDto byUid = userService.getUserByUid("none");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(byUid.getPlan()).isNull();
+    }
+}
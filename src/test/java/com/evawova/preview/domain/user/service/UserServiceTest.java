@@ -1,12 +1,16 @@
 package com.evawova.preview.domain.user.service;
 
+import com.evawova.preview.common.response.CursorPage;
+import com.evawova.preview.common.response.KeysetCursor;
+import com.evawova.preview.domain.user.dto.PlanDto;
 import com.evawova.preview.domain.user.dto.SocialLoginRequest;
 import com.evawova.preview.domain.user.dto.UserDto;
+import com.evawova.preview.domain.user.dto.UserSearchCondition;
 import com.evawova.preview.domain.user.entity.Plan;
 import com.evawova.preview.domain.user.entity.PlanType;
 import com.evawova.preview.domain.user.entity.User;
-import com.evawova.preview.domain.user.repository.PlanRepository;
 import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.domain.user.repository.UserWithActivePlan;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,7 +26,6 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,7 +42,7 @@ class UserServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PlanRepository planRepository;
+    private PlanCatalog planCatalog;
 
     @Mock
     private PasswordEncoder passwordEncoder;
@@ -95,27 +98,34 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("모든 사용자 조회")
-    void getAllUsers() {
+    @DisplayName("사용자 목록 조회 - 다음 페이지가 있으면 커서를 반환")
+    void searchUsers() {
         // given
         User user1 = User.createUser("user1@example.com", "password1", "User 1");
         User user2 = User.createUser("user2@example.com", "password2", "User 2");
-        when(userRepository.findAll()).thenReturn(Arrays.asList(user1, user2));
+        User user3 = User.createUser("user3@example.com", "password3", "User 3");
+        when(userRepository.searchOrderById(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(Arrays.asList(new UserWithActivePlan(user1, freePlan),
+                        new UserWithActivePlan(user2, null), new UserWithActivePlan(user3, null)));
 
         // when
-        List<UserDto> users = userService.getAllUsers();
+        CursorPage<UserDto> users = userService.searchUsers(new UserSearchCondition(), KeysetCursor.FIRST_ASC, 2);
 
         // then
-        assertThat(users).hasSize(2);
-        assertThat(users.get(0).getEmail()).isEqualTo("user1@example.com");
-        assertThat(users.get(1).getEmail()).isEqualTo("user2@example.com");
+        assertThat(users.getItems()).hasSize(2);
+        assertThat(users.getItems().get(0).getEmail()).isEqualTo("user1@example.com");
+        assertThat(users.getItems().get(1).getEmail()).isEqualTo("user2@example.com");
+        assertThat(users.getItems().get(0).getPlan().getPlanType()).isEqualTo(PlanType.FREE);
+        assertThat(users.getItems().get(1).getPlan()).isNull();
+        assertThat(users.isHasNext()).isTrue();
+        assertThat(users.getNextCursor()).isNotNull();
     }
 
     @Test
     @DisplayName("ID로 사용자 조회 - 성공")
     void getUserById_Success() {
         // given
-        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.findWithActivePlanById(1L)).thenReturn(Optional.of(new UserWithActivePlan(testUser, freePlan)));
 
         // when
         UserDto userDto = userService.getUserById(1L);
@@ -129,7 +139,7 @@ class UserServiceTest {
     @DisplayName("ID로 사용자 조회 - 실패 (존재하지 않는 ID)")
     void getUserById_Fail_UserNotFound() {
         // given
-        when(userRepository.findById(999L)).thenReturn(Optional.empty());
+        when(userRepository.findWithActivePlanById(999L)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.getUserById(999L))
@@ -141,7 +151,8 @@ class UserServiceTest {
     @DisplayName("이메일로 사용자 조회 - 성공")
     void getUserByEmail_Success() {
         // given
-        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(testUser));
+        when(userRepository.findWithActivePlanByEmail("test@example.com"))
+                .thenReturn(Optional.of(new UserWithActivePlan(testUser, freePlan)));
 
         // when
         UserDto userDto = userService.getUserByEmail("test@example.com");
@@ -155,7 +166,7 @@ class UserServiceTest {
     @DisplayName("이메일로 사용자 조회 - 실패 (존재하지 않는 이메일)")
     void getUserByEmail_Fail_UserNotFound() {
         // given
-        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findWithActivePlanByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.getUserByEmail("nonexistent@example.com"))
@@ -168,8 +179,9 @@ class UserServiceTest {
     void changePlan_Success() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(planRepository.findByPlanType(PlanType.STANDARD)).thenReturn(Optional.of(standardPlan));
+        when(userRepository.findWithActivePlanById(userId))
+                .thenReturn(Optional.of(new UserWithActivePlan(testUser, freePlan)));
+        when(planCatalog.findByType(PlanType.STANDARD)).thenReturn(Optional.of(PlanDto.fromEntity(standardPlan)));
 
         // when
         UserDto userDto = userService.changePlan(userId, PlanType.STANDARD);
@@ -184,7 +196,7 @@ class UserServiceTest {
     void changePlan_Fail_UserNotFound() {
         // given
         Long userId = 999L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.findWithActivePlanById(userId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.changePlan(userId, PlanType.STANDARD))
@@ -197,8 +209,9 @@ class UserServiceTest {
     void changePlan_Fail_PlanNotFound() {
         // given
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(testUser));
-        when(planRepository.findByPlanType(PlanType.STANDARD)).thenReturn(Optional.empty());
+        when(userRepository.findWithActivePlanById(userId))
+                .thenReturn(Optional.of(new UserWithActivePlan(testUser, freePlan)));
+        when(planCatalog.findByType(PlanType.STANDARD)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> userService.changePlan(userId, PlanType.STANDARD))
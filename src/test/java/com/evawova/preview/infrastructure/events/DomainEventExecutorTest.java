@@ -0,0 +1,86 @@
+package com.evawova.preview.infrastructure.events;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.evawova.preview.support.Latches.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DomainEventExecutorTest {
+
+    @Test
+    @DisplayName("가상 스레드에서 실행하되 동시에 실행하는 작업은 concurrency개를 넘지 않고 나머지는 대기열에서 기다린다")
+    void limitsConcurrency() throws InterruptedException {
+        // given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DomainEventExecutor executor = new DomainEventExecutor(meterRegistry, 2, 10);
+        CountDownLatch started = new CountDownLatch(2);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(6);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        AtomicReference<Boolean> virtual = new AtomicReference<>();
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                virtual.set(Thread.currentThread().isVirtual());
+                started.countDown();
+                await(release);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        double active = meterRegistry.get("domain.event.executor.active").gauge().value();
+        double queued = meterRegistry.get("domain.event.executor.queued").gauge().value();
+        release.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(active).isEqualTo(2);
+        assertThat(queued).isEqualTo(4);
+        assertThat(maxRunning.get()).isEqualTo(2);
+        assertThat(virtual.get()).isTrue();
+        executor.stop();
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업과 대기 작업이 한도에 차면 호출 스레드에서 직접 실행한다")
+    void runsOnCallerWhenFull() throws InterruptedException {
+        // given: 동시 실행 1개, 대기열 1개
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DomainEventExecutor executor = new DomainEventExecutor(meterRegistry, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        AtomicReference<Thread> overflowThread = new AtomicReference<>();
+
+        // when
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+            done.countDown();
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(done::countDown);
+        executor.execute(() -> overflowThread.set(Thread.currentThread()));
+        release.countDown();
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(overflowThread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("domain.event.executor.caller-runs").counter().count()).isEqualTo(1);
+        assertThatThrownBy(() -> new DomainEventExecutor(meterRegistry, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        executor.stop();
+    }
+}
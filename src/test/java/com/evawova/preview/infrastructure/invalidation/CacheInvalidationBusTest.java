@@ -0,0 +1,230 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+import com.evawova.preview.support.MutableClock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static com.evawova.preview.support.Latches.await;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB를 공유하는 두 노드(버스 인스턴스)로 노드 간 무효화를 검증합니다.
+ * 폴링이 커밋된 기록만 봐야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CacheInvalidationBusTest {
+
+    private static final Duration GAP_TIMEOUT = Duration.ofMinutes(1);
+
+    @Autowired
+    private CacheInvalidationRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MutableClock clock;
+    private TransactionTemplate transactionTemplate;
+    private RecordingHandler handlerA;
+    private RecordingHandler handlerB;
+    private CacheInvalidationBus nodeA;
+    private CacheInvalidationBus nodeB;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2024-03-01T00:00:00Z"));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        handlerA = new RecordingHandler("principals");
+        handlerB = new RecordingHandler("principals");
+        nodeA = node(handlerA);
+        nodeB = node(handlerB);
+        nodeA.poll();
+        nodeB.poll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+        repository.deleteAll();
+    }
+
+    private CacheInvalidationBus node(CacheInvalidationHandler... handlers) {
+        return new CacheInvalidationBus(repository, () -> Arrays.asList(handlers), transactionManager,
+                Duration.ofSeconds(1), 10, Duration.ofHours(1), GAP_TIMEOUT, Duration.ofMinutes(10), clock);
+    }
+
+    private void publish(CacheInvalidationBus node, String key) {
+        transactionTemplate.executeWithoutResult(status -> node.publish("principals", key));
+    }
+
+    @Test
+    @DisplayName("커밋된 기록은 다른 노드에만 적용되고, 이미 읽은 기록은 다시 적용하지 않는다")
+    void appliesRemoteInvalidations() {
+        // given
+        publish(nodeA, "uid-1");
+        publish(nodeA, "uid-2");
+
+        // when
+        int appliedByA = nodeA.poll();
+        int appliedByB = nodeB.poll();
+        int appliedAgain = nodeB.poll();
+
+        // then
+        assertThat(appliedByA).isZero();
+        assertThat(handlerA.keys).isEmpty();
+        assertThat(appliedByB).isEqualTo(2);
+        assertThat(appliedAgain).isZero();
+        assertThat(handlerB.keys).containsExactly("uid-1", "uid-2");
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 여러 키를 기록하면 다른 노드에 키마다 적용된다")
+    void appliesKeysPublishedTogether() {
+        // given
+        transactionTemplate.executeWithoutResult(status ->
+                nodeA.publishAll("principals", List.of("uid-1", "uid-2", "uid-3")));
+
+        // when
+        int applied = nodeB.poll();
+
+        // then
+        assertThat(applied).isEqualTo(3);
+        assertThat(handlerB.keys).containsExactly("uid-1", "uid-2", "uid-3");
+    }
+
+    @Test
+    @DisplayName("다른 캐시 이름의 기록은 해당 핸들러에만 전달된다")
+    void routesByCacheName() {
+        // given
+        RecordingHandler plans = new RecordingHandler("plans");
+        CacheInvalidationBus nodeC = node(handlerB, plans);
+        nodeC.poll();
+        transactionTemplate.executeWithoutResult(status -> nodeA.publish("plans", null));
+
+        // when
+        nodeC.poll();
+        nodeC.stop();
+
+        // then
+        assertThat(plans.keys).containsExactly((String) null);
+        assertThat(handlerB.keys).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 기록은 적용되지 않는다")
+    void ignoresRolledBackRecords() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.publish("principals", "rolled-back");
+            status.setRollbackOnly();
+        });
+        publish(nodeA, "committed");
+
+        // when
+        nodeB.poll();
+
+        // then
+        assertThat(handlerB.keys).containsExactly("committed");
+    }
+
+    @Test
+    @DisplayName("먼저 받은 id가 늦게 커밋되어도 다음 폴링에서 적용한다")
+    void appliesRecordsCommittedOutOfIdOrder() throws Exception {
+        // given: 먼저 id를 받은 기록이 아직 커밋되지 않은 상태에서 뒤의 기록이 커밋됨
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread slowWriter = new Thread(() -> transactionTemplate.executeWithoutResult(status -> {
+            nodeA.publish("principals", "late");
+            inserted.countDown();
+            await(release);
+        }));
+        slowWriter.start();
+        await(inserted);
+        publish(nodeA, "early");
+
+        // when
+        nodeB.poll();
+        List<String> beforeLateCommit = List.copyOf(handlerB.keys);
+        release.countDown();
+        slowWriter.join();
+        nodeB.poll();
+
+        // then
+        assertThat(beforeLateCommit).containsExactly("early");
+        assertThat(handlerB.keys).containsExactly("early", "late");
+        assertThat(nodeB.getPendingGapCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("공백이 gap-timeout 동안 채워지지 않으면 잊는다")
+    void forgetsGapsAfterTimeout() {
+        // given
+        transactionTemplate.executeWithoutResult(status -> {
+            nodeA.publish("principals", "rolled-back");
+            status.setRollbackOnly();
+        });
+        publish(nodeA, "committed");
+        nodeB.poll();
+        int pendingBefore = nodeB.getPendingGapCount();
+
+        // when
+        clock.advance(GAP_TIMEOUT.plusSeconds(1));
+        nodeB.poll();
+
+        // then
+        assertThat(pendingBefore).isEqualTo(1);
+        assertThat(nodeB.getPendingGapCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 기록만 삭제한다")
+    void prunesExpiredRecords() {
+        // given
+        publish(nodeA, "old");
+        clock.advance(Duration.ofMinutes(90));
+        publish(nodeA, "recent");
+
+        // when
+        int deleted = nodeA.prune();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(CacheInvalidation::getCacheKey).containsExactly("recent");
+    }
+
+    private static final class RecordingHandler implements CacheInvalidationHandler {
+
+        private final String cacheName;
+        private final List<String> keys = new ArrayList<>();
+
+        private RecordingHandler(String cacheName) {
+            this.cacheName = cacheName;
+        }
+
+        @Override
+        public String cacheName() {
+            return cacheName;
+        }
+
+        @Override
+        public void invalidate(String key) {
+            keys.add(key);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.evawova.preview.infrastructure.invalidation;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+
+import com.evawova.preview.PreviewServiceApplication;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.entity.ServiceStatus;
+import com.evawova.preview.domain.app.service.AppInfoCatalog;
+import com.evawova.preview.domain.app.service.AppInfoService;
+import com.evawova.preview.domain.user.dto.PlanDto;
+import com.evawova.preview.domain.user.dto.PlanUpdateRequest;
+import com.evawova.preview.domain.user.dto.SocialLoginRequest;
+import com.evawova.preview.domain.user.entity.PlanType;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.service.PlanCatalog;
+import com.evawova.preview.domain.user.service.PlanService;
+import com.evawova.preview.domain.user.service.UserService;
+import com.evawova.preview.security.PrincipalSnapshot;
+import com.evawova.preview.security.PrincipalSnapshotCache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 H2 DB를 공유하는 두 애플리케이션 컨텍스트(노드 A, B)로 실제 빈 구성의 노드 간 무효화를 검증합니다.
+ * - 노드 A의 서비스 트랜잭션이 BEFORE_COMMIT 리스너로 남긴 기록을, 노드 B의 버스가 ObjectProvider로 찾은 핸들러에 적용
+ * - 폴링 시점을 테스트가 정하도록 poll-interval을 길게 두고 노드 B의 poll()을 직접 호출
+ * - 스키마는 노드 A만 만들고 지우며, 노드 B는 만들어진 스키마를 그대로 사용
+ */
+class CacheInvalidationNodesTest {
+
+    private static final String DATASOURCE_URL =
+            "jdbc:h2:mem:invalidation-nodes;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE";
+
+    private static ConfigurableApplicationContext nodeA;
+    private static ConfigurableApplicationContext nodeB;
+    private static CacheInvalidationBus busB;
+
+    @BeforeAll
+    static void startNodes() {
+        nodeA = startNode("create-drop");
+        nodeB = startNode("none");
+        busB = nodeB.getBean(CacheInvalidationBus.class);
+    }
+
+    @AfterAll
+    static void stopNodes() {
+        if (nodeB != null) {
+            nodeB.close();
+        }
+        if (nodeA != null) {
+            nodeA.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String ddlAuto) {
+        return new SpringApplicationBuilder(PreviewServiceApplication.class)
+                .profiles("test")
+                // @SpringBootTest가 아니므로 테스트 소스의 @TestConfiguration이 스캔되지 않도록 직접 제외
+                .initializers(context -> context.getBeanFactory()
+                        .registerSingleton("testConfigurationExcludeFilter", new TestConfigurationExcludeFilter()))
+                .run("--spring.datasource.url=" + DATASOURCE_URL,
+                        "--spring.jpa.hibernate.ddl-auto=" + ddlAuto,
+                        "--spring.jpa.show-sql=false",
+                        "--server.port=0",
+                        "--cache.invalidation.poll-interval=PT1H");
+    }
+
+    @BeforeEach
+    void drainPendingRecords() {
+        // 기동 중 다른 백그라운드 작업이 남긴 기록이 각 테스트의 결과에 섞이지 않도록 먼저 적용
+        busB.poll();
+    }
+
+    @Test
+    @DisplayName("노드 A에서 역할이 바뀌면 노드 B의 인증 주체 캐시가 폴링 후 무효화된다")
+    void evictsPrincipalOnOtherNode() {
+        // given
+        String uid = "uid-" + UUID.randomUUID();
+        nodeA.getBean(UserService.class).socialLogin(new SocialLoginRequest(uid + "@example.com", "테스트 사용자",
+                User.Provider.GOOGLE, uid, null, true, LocalDateTime.now()));
+        busB.poll();
+        PrincipalSnapshotCache cacheB = nodeB.getBean(PrincipalSnapshotCache.class);
+        User.Role cachedRole = cacheB.get(uid).map(PrincipalSnapshot::getRole).orElseThrow();
+
+        // when
+        nodeA.getBean(UserService.class).changeUserPlanByUid(uid, PlanType.PRO);
+        User.Role beforePoll = cacheB.get(uid).map(PrincipalSnapshot::getRole).orElseThrow();
+        int applied = busB.poll();
+
+        // then
+        assertThat(cachedRole).isEqualTo(User.Role.USER_FREE);
+        assertThat(beforePoll).isEqualTo(User.Role.USER_FREE);
+        assertThat(applied).isPositive();
+        assertThat(cacheB.get(uid).map(PrincipalSnapshot::getRole)).contains(User.Role.USER_PRO);
+    }
+
+    @Test
+    @DisplayName("노드 A에서 플랜이 바뀌면 노드 B의 플랜 카탈로그가 폴링 후 다시 로딩된다")
+    void reloadsPlanCatalogOnOtherNode() {
+        // given
+        PlanCatalog catalogB = nodeB.getBean(PlanCatalog.class);
+        PlanDto plan = catalogB.findByType(PlanType.STANDARD).orElseThrow();
+        PlanUpdateRequest request = new PlanUpdateRequest();
+        request.setMonthlyPrice(BigDecimal.valueOf(plan.getMonthlyPrice() + 1000));
+        request.setAnnualPrice(BigDecimal.valueOf(plan.getAnnualPrice()));
+        request.setMonthlyTokenLimit(plan.getMonthlyTokenLimit());
+        request.setIsActive(plan.getIsActive());
+
+        // when
+        nodeA.getBean(PlanService.class).updatePlan(plan.getId(), request);
+        Integer beforePoll = catalogB.findById(plan.getId()).map(PlanDto::getMonthlyPrice).orElseThrow();
+        busB.poll();
+
+        // then
+        assertThat(beforePoll).isEqualTo(plan.getMonthlyPrice());
+        assertThat(catalogB.findById(plan.getId()).map(PlanDto::getMonthlyPrice))
+                .contains(plan.getMonthlyPrice() + 1000);
+    }
+
+    @Test
+    @DisplayName("노드 A에서 앱 정보가 바뀌면 노드 B에 변경 이벤트를 다시 발행해 스냅샷을 교체한다")
+    void republishesAppInfoChangeOnOtherNode() {
+        // given
+        AppInfoService appInfoServiceA = nodeA.getBean(AppInfoService.class);
+        AppInfo appInfo = appInfoServiceA.createAppInfo("Preview Service", "1.0.0", "설명", null);
+        busB.poll();
+        AppInfoCatalog catalogB = nodeB.getBean(AppInfoCatalog.class);
+        long versionBefore = catalogB.snapshot().getVersion();
+
+        // when
+        appInfoServiceA.updateServiceStatus(appInfo.getId(), ServiceStatus.MAINTENANCE, "정기 점검");
+        ServiceStatus beforePoll = catalogB.snapshot().getServiceStatusInfo().getServiceStatus();
+        busB.poll();
+
+        // then
+        assertThat(beforePoll).isNotEqualTo(ServiceStatus.MAINTENANCE);
+        assertThat(catalogB.snapshot().getVersion()).isGreaterThan(versionBefore);
+        assertThat(catalogB.snapshot().getServiceStatusInfo().getServiceStatus())
+                .isEqualTo(ServiceStatus.MAINTENANCE);
+    }
+
+    private static final class TestConfigurationExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            return metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj != null && obj.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.evawova.preview.infrastructure.outbox;
+
+import com.evawova.preview.domain.common.model.AbstractDomainEvent;
+import com.evawova.preview.domain.common.model.DomainEvent;
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.event.UserRoleChangedEvent;
+import com.evawova.preview.domain.user.repository.UserRepository;
+import com.evawova.preview.infrastructure.events.DomainEventDispatcher;
+import com.evawova.preview.infrastructure.events.DomainEventPublisher;
+import com.evawova.preview.support.MutableClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 릴레이는 커밋된 아웃박스 기록만 읽어야 하므로 테스트 트랜잭션 없이 실행하고 직접 정리합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DomainEventDispatcher.class, OutboxWriter.class, DomainEventPublisher.class,
+        OutboxRelayTest.OutboxTestConfig.class})
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        meterRegistry = new SimpleMeterRegistry();
+        listener.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxEventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    /**
+     * 전달은 호출 스레드에서 바로 실행
+     */
+    private OutboxRelay relay(int batchSize, boolean coalesce) {
+        return relay(batchSize, coalesce, 10, Duration.ZERO, Clock.systemDefaultZone());
+    }
+
+    private OutboxRelay relay(int batchSize, boolean coalesce, int maxAttempts, Duration retryBackoff, Clock clock) {
+        return new OutboxRelay(outboxEventRepository, domainEventPublisher, objectMapper, Runnable::run,
+                transactionManager, meterRegistry, Duration.ofSeconds(1), batchSize, Duration.ofHours(24),
+                Duration.ofMinutes(10), maxAttempts, retryBackoff, Duration.ofHours(1), coalesce, true, clock);
+    }
+
+    /**
+     * 역할을 두 번 바꿔 이벤트 두 건을 등록하고 애그리거트를 발행
+     */
+    private User changeRoleTwice(String uid, boolean rollback) {
+        return transactionTemplate.execute(status -> {
+            User user = userRepository.save(
+                    User.createSocialUser(uid, uid + "@example.com", uid, User.Provider.GOOGLE));
+            user.setRole(User.Role.USER_STANDARD);
+            user.setRole(User.Role.USER_PRO);
+            eventPublisher.publishEvent(user);
+            if (rollback) {
+                status.setRollbackOnly();
+            }
+            return user;
+        });
+    }
+
+    @Test
+    @DisplayName("커밋된 애그리거트의 이벤트만 아웃박스에 기록되고, 릴레이가 배치 크기씩 순서대로 복원해 발행한다")
+    void relaysCommittedEventsInOrder() {
+        // given
+        User committed = changeRoleTwice("committed", false);
+        changeRoleTwice("rolled-back", true);
+        List<OutboxEvent> rows = outboxEventRepository.findAll();
+        OutboxRelay relay = relay(1, false);
+
+        // when: 배치 크기 1이므로 배치 두 번에 나눠 발행
+        int published = relay.relay();
+        int publishedAgain = relay.relay();
+
+        // then
+        assertThat(rows).hasSize(2)
+                .allMatch(row -> row.getAggregateType().equals("User")
+                        && row.getAggregateId().equals(String.valueOf(committed.getId())));
+        assertThat(published).isEqualTo(2);
+        assertThat(publishedAgain).isZero();
+        assertThat(listener.events).hasSize(2).allMatch(UserRoleChangedEvent.class::isInstance);
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getNewRole())
+                .containsExactly(User.Role.USER_STANDARD, User.Role.USER_PRO);
+        assertThat(listener.events).extracting(event -> ((AbstractDomainEvent) event).getEventId())
+                .containsExactlyElementsOf(rows.stream().map(OutboxEvent::getEventId).toList());
+        assertThat(outboxEventRepository.findAll()).allMatch(row -> row.getPublishedAt() != null);
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 같은 애그리거트의 이후 이벤트는 미루고 다른 애그리거트는 계속 발행한다")
+    void defersFailedAggregateOnly() {
+        // given
+        changeRoleTwice("failing", false);
+        changeRoleTwice("healthy", false);
+        List<OutboxEvent> rows = outboxEventRepository.findAll();
+        listener.failOnce(rows.get(0).getEventId());
+        OutboxRelay relay = relay(10, false);
+
+        // when
+        int first = relay.relay();
+        long pendingAfterFailure = (long) meterRegistry.get("outbox.relay.pending").gauge().value();
+        int second = relay.relay();
+
+        // then: 실패한 애그리거트는 다음 폴링에서 처음 이벤트부터 순서대로 발행
+        assertThat(first).isEqualTo(2);
+        assertThat(pendingAfterFailure).isEqualTo(2);
+        assertThat(second).isEqualTo(2);
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getUid())
+                .containsExactly("healthy", "healthy", "failing", "failing");
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getNewRole())
+                .containsExactly(User.Role.USER_STANDARD, User.Role.USER_PRO,
+                        User.Role.USER_STANDARD, User.Role.USER_PRO);
+        assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.relay.published").counter().count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("계속 실패하는 이벤트는 간격을 늘려 다시 시도하다가 한도에 닿으면 격리하고, 같은 애그리거트의 이후 이벤트를 이어서 발행한다")
+    void parksPoisonEventAfterMaxAttempts() {
+        // given
+        changeRoleTwice("poison", false);
+        List<OutboxEvent> rows = outboxEventRepository.findAll();
+        listener.failAlways(rows.get(0).getEventId());
+        MutableClock clock = new MutableClock(Instant.now(), ZoneId.systemDefault());
+        OutboxRelay relay = relay(10, false, 2, Duration.ofMinutes(1), clock);
+
+        // when: 첫 실패 후 대기 시간 전에는 같은 애그리거트의 어떤 이벤트도 읽지 않음
+        int first = relay.relay();
+        int beforeBackoff = relay.relay();
+        OutboxEvent retrying = outboxEventRepository.findById(rows.get(0).getId()).orElseThrow();
+        clock.advance(Duration.ofMinutes(1));
+        int parkedOnSecondFailure = relay.relay();
+        int afterPark = relay.relay();
+
+        // then
+        assertThat(first).isZero();
+        assertThat(beforeBackoff).isZero();
+        assertThat(retrying.getAttempts()).isEqualTo(1);
+        assertThat(retrying.getNextAttemptAt()).isAfter(retrying.getCreatedAt());
+        assertThat(parkedOnSecondFailure).isZero();
+        assertThat(afterPark).isEqualTo(1);
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getNewRole())
+                .containsExactly(User.Role.USER_PRO);
+
+        OutboxEvent parked = outboxEventRepository.findById(rows.get(0).getId()).orElseThrow();
+        assertThat(parked.getDeadAt()).isNotNull();
+        assertThat(parked.getPublishedAt()).isNull();
+        assertThat(parked.getAttempts()).isEqualTo(2);
+        assertThat(parked.getLastError()).contains("발행 실패");
+        assertThat(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.relay.parked").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("outbox.relay.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("병합 모드에서는 배치 안의 같은 애그리거트, 같은 타입 이벤트 중 마지막 것만 전달하고 모두 발행 처리한다")
+    void coalescesDuplicateEventsPerAggregate() {
+        // given
+        changeRoleTwice("first", false);
+        changeRoleTwice("second", false);
+        OutboxRelay relay = relay(10, true);
+
+        // when
+        int delivered = relay.relay();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getUid())
+                .containsExactly("first", "second");
+        assertThat(listener.events).extracting(event -> ((UserRoleChangedEvent) event).getNewRole())
+                .containsOnly(User.Role.USER_PRO);
+        assertThat(outboxEventRepository.findAll()).hasSize(4).allMatch(row -> row.getPublishedAt() != null);
+        assertThat(meterRegistry.get("outbox.relay.coalesced").counter().count()).isEqualTo(2);
+    }
+
+    @TestConfiguration
+    static class OutboxTestConfig {
+
+        @Bean
+        SimpleMeterRegistry simpleMeterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return Jackson2ObjectMapperBuilder.json()
+                    .modules(new JavaTimeModule())
+                    .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .build();
+        }
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+
+        private final List<DomainEvent> events = new ArrayList<>();
+        private final Set<String> failing = new HashSet<>();
+        private final Set<String> alwaysFailing = new HashSet<>();
+
+        @EventListener
+        public void on(DomainEvent event) {
+            String eventId = ((AbstractDomainEvent) event).getEventId();
+            if (failing.remove(eventId) || alwaysFailing.contains(eventId)) {
+                throw new IllegalStateException("발행 실패: " + eventId);
+            }
+            events.add(event);
+        }
+
+        void failOnce(String eventId) {
+            failing.add(eventId);
+        }
+
+        void failAlways(String eventId) {
+            alwaysFailing.add(eventId);
+        }
+
+        void clear() {
+            events.clear();
+            failing.clear();
+            alwaysFailing.clear();
+        }
+    }
+}
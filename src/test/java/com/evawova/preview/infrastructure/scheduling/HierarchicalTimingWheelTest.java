@@ -0,0 +1,91 @@
+package com.evawova.preview.infrastructure.scheduling;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("만료 시각이 된 항목만 꺼내고 tick 단위로 순서를 지킨다")
+    void firesDueItemsInOrder() {
+        // given: tick 10ms, 슬롯 8개 (가장 아래 휠 한 바퀴 80ms)
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        wheel.add(START + 35, "b");
+        wheel.add(START + 15, "a");
+        wheel.add(START + 70, "c");
+
+        // when & then
+        assertThat(wheel.advance(START + 9)).isEmpty();
+        assertThat(wheel.advance(START + 20)).containsExactly("a");
+        assertThat(wheel.advance(START + 69)).containsExactly("b");
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(START + 70)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("가장 아래 휠 범위를 넘는 항목은 상위 휠에 두었다가 아래 휠로 내려 제때 꺼낸다")
+    void cascadesFromOverflowWheels() {
+        // given: 가장 아래 휠 80ms, 두 번째 휠 640ms, 세 번째 휠 5120ms
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        List<Long> deadlines = List.of(START + 95, START + 700, START + 4_321, START + 30_000);
+        deadlines.forEach(deadline -> wheel.add(deadline, deadline));
+
+        // when: 1ms씩 시간을 진행하며 꺼낸 시각 기록
+        List<Long> firedAt = new ArrayList<>();
+        List<Long> fired = new ArrayList<>();
+        for (long now = START; now <= START + 30_010; now++) {
+            for (Long item : wheel.advance(now)) {
+                fired.add(item);
+                firedAt.add(now);
+            }
+        }
+
+        // then: 만료 시각이 속한 tick이 시작될 때 꺼냄
+        assertThat(fired).containsExactlyElementsOf(deadlines);
+        for (int i = 0; i < fired.size(); i++) {
+            assertThat(firedAt.get(i)).isBetween(fired.get(i) - 10, fired.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("오래 호출되지 않았다가 호출되면 그 사이 만료된 항목을 한 번에 꺼낸다")
+    void catchesUpAfterLongPause() {
+        // given
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+        for (int i = 1; i <= 100; i++) {
+            wheel.add(START + i * 37L, i);
+        }
+
+        // when
+        List<Integer> fired = wheel.advance(START + 50 * 37);
+
+        // then
+        assertThat(fired).hasSize(50).allMatch(i -> i <= 50);
+        assertThat(wheel.size()).isEqualTo(50);
+        assertThat(wheel.advance(START + 100 * 37)).hasSize(50);
+    }
+
+    @Test
+    @DisplayName("이미 지났거나 현재 tick 안인 만료 시각은 등록하지 않는다")
+    void rejectsPastDeadlines() {
+        // given
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, START);
+
+        // when & then
+        assertThat(wheel.add(START - 1, "past")).isFalse();
+        assertThat(wheel.add(START + 5, "current tick")).isFalse();
+        assertThat(wheel.add(START + 10, "next tick")).isTrue();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThatThrownBy(() -> new HierarchicalTimingWheel<String>(0, 8, START))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
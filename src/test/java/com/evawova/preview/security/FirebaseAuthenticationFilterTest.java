@@ -0,0 +1,93 @@
+package com.evawova.preview.security;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.evawova.preview.domain.app.controller.AppInfoController;
+import com.evawova.preview.domain.app.entity.AppInfo;
+import com.evawova.preview.domain.app.service.AppInfoCatalog;
+import com.evawova.preview.domain.app.service.AppInfoService;
+import com.evawova.preview.domain.app.service.AppInfoSnapshot;
+import com.evawova.preview.domain.app.service.ServiceStatusBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 거부된 토큰이 공개 API 응답을 막지 않는지 확인 (필터는 실제 빈, 가드와 토큰 검증은 모킹)
+ */
+@WebMvcTest(AppInfoController.class)
+@ActiveProfiles("test")
+@Import(TestSecurityConfig.class)
+class FirebaseAuthenticationFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FirebaseTokenProvider firebaseTokenProvider;
+
+    @MockBean
+    private InvalidTokenGuard invalidTokenGuard;
+
+    @MockBean
+    private AppInfoService appInfoService;
+
+    @MockBean
+    private AppInfoCatalog appInfoCatalog;
+
+    @MockBean
+    private ServiceStatusBroadcaster statusBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        AppInfo appInfo = AppInfo.builder()
+                .id(1L)
+                .appName("Preview Service")
+                .appVersion("1.1.0")
+                .build();
+        when(appInfoCatalog.snapshot()).thenReturn(
+                AppInfoSnapshot.of(1, appInfo, new ObjectMapper().findAndRegisterModules().writer()));
+    }
+
+    @Test
+    @DisplayName("최근 거부된 토큰으로 공개 API를 호출해도 정상 응답을 받는다")
+    void knownInvalidTokenOnPublicEndpoint() throws Exception {
+        // given
+        when(invalidTokenGuard.isKnownInvalid("forged")).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/app/info")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer forged"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.appName").value("Preview Service"));
+        verifyNoInteractions(firebaseTokenProvider);
+    }
+
+    @Test
+    @DisplayName("실패가 반복된 IP에서 공개 API를 호출해도 검증 없이 정상 응답을 받는다")
+    void throttledIpOnPublicEndpoint() throws Exception {
+        // given
+        when(invalidTokenGuard.isThrottled(anyString(), anyString())).thenReturn(true);
+
+        // when & then
+        mockMvc.perform(get("/api/v1/app/info")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer new-token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.appName").value("Preview Service"));
+        verifyNoInteractions(firebaseTokenProvider);
+    }
+}
@@ -0,0 +1,146 @@
+package com.evawova.preview.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvalidTokenGuardTest {
+
+    private static final String IP = "10.0.0.1";
+    private static final IllegalArgumentException INVALID = new IllegalArgumentException("Invalid token");
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(10));
+    }
+
+    private InvalidTokenGuard guard(int maxFailuresPerIp) {
+        return new InvalidTokenGuard(verifiedTokenCache, meterRegistry, 1000, Duration.ofMinutes(5),
+                maxFailuresPerIp, Duration.ofMinutes(1), 5, nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("한 번 거부된 토큰은 IP와 무관하게 이후 검증이 생략된다")
+    void rejectsKnownInvalidToken() {
+        // given
+        InvalidTokenGuard guard = guard(100);
+        assertThat(guard.isKnownInvalid("forged")).isFalse();
+
+        // when
+        guard.recordFailure("forged", IP, INVALID);
+
+        // then
+        assertThat(guard.isKnownInvalid("forged")).isTrue();
+        assertThat(guard.isKnownInvalid("other")).isFalse();
+        assertThat(meterRegistry.get("security.invalid-token.rejected").tag("reason", "known-invalid")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실패가 한도를 넘은 IP는 검증되지 않은 토큰의 검증을 생략하고, 이미 검증된 토큰은 통과시킨다")
+    void throttlesIpButKeepsVerifiedTokens() {
+        // given
+        InvalidTokenGuard guard = guard(3);
+        verifiedTokenCache.get("valid", token -> new VerifiedToken("uid", Instant.now().plusSeconds(3600)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            guard.recordFailure("forged-" + i, IP, INVALID);
+        }
+
+        // then
+        assertThat(guard.isThrottled("new-token", IP)).isTrue();
+        assertThat(guard.isThrottled("valid", IP)).isFalse();
+        assertThat(guard.isThrottled("new-token", "10.0.0.2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("서명 키 미로딩으로 검증하지 못한 요청은 토큰과 IP 실패로 집계하지 않는다")
+    void unavailableIsNotCountedAsFailure() {
+        // given
+        InvalidTokenGuard guard = guard(1);
+
+        // when
+        guard.recordUnavailable(IP, new SigningKeysNotLoadedException());
+
+        // then
+        assertThat(guard.isKnownInvalid("token")).isFalse();
+        assertThat(guard.isThrottled("token", IP)).isFalse();
+    }
+
+    @Test
+    @DisplayName("모르는 서명 키로 거부된 토큰은 거부 토큰으로 기록하지 않고 IP 실패로만 집계한다")
+    void unknownSigningKeyIsNotCachedAsInvalid() {
+        // given
+        InvalidTokenGuard guard = guard(1);
+
+        // when
+        guard.recordFailure("rotated-key-token", IP, new UnknownSigningKeyException("key-2"));
+
+        // then
+        assertThat(guard.isKnownInvalid("rotated-key-token")).isFalse();
+        assertThat(guard.isThrottled("rotated-key-token", IP)).isTrue();
+    }
+
+    @Test
+    @DisplayName("윈도우가 지나면 실패 횟수가 점차 줄어 다시 허용된다")
+    void windowSlides() {
+        // given
+        InvalidTokenGuard guard = guard(3);
+        for (int i = 0; i < 3; i++) {
+            guard.recordFailure("forged-" + i, IP, INVALID);
+        }
+        assertThat(guard.isThrottled("new-token", IP)).isTrue();
+
+        // when: 1.5 윈도우 경과 -> 이전 구간 3건 * 0.5 = 1.5건
+        nanoTime.addAndGet(Duration.ofSeconds(90).toNanos());
+
+        // then
+        assertThat(guard.isThrottled("new-token", IP)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동시에 기록된 실패도 누락 없이 집계된다")
+    void countsConcurrentFailures() throws Exception {
+        // given
+        int threads = 8;
+        int perThread = 500;
+        InvalidTokenGuard exact = guard(threads * perThread);
+        InvalidTokenGuard oneMore = guard(threads * perThread + 1);
+
+        // when
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int offset = t * perThread;
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    exact.recordFailure("forged-" + (offset + i), IP, INVALID);
+                    oneMore.recordFailure("forged-" + (offset + i), IP, INVALID);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // then
+        assertThat(exact.isThrottled("new-token", IP)).isTrue();
+        assertThat(oneMore.isThrottled("new-token", IP)).isFalse();
+    }
+}
@@ -0,0 +1,293 @@
+package com.evawova.preview.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 키 서버(JDK HttpServer)와 자체 서명한 토큰으로 로컬 검증기를 검증합니다.
+ */
+class LocalIdTokenVerifierTest {
+
+    private static final String PROJECT_ID = "test-project";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicReference<String> jwks = new AtomicReference<>();
+    private final AtomicInteger keyRequests = new AtomicInteger();
+
+    private HttpServer keyServer;
+    private SimpleMeterRegistry meterRegistry;
+    private SigningKeyStore keyStore;
+    private LocalIdTokenVerifier verifier;
+    private KeyPair keyPair;
+    private URI keysUri;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        keyPair = generateKeyPair();
+        jwks.set(jwks(Map.of("key-1", keyPair)));
+
+        keyServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        keyServer.createContext("/jwks", exchange -> {
+            keyRequests.incrementAndGet();
+            byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=21600, must-revalidate");
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        keyServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        keysUri = URI.create("http://127.0.0.1:" + keyServer.getAddress().getPort() + "/jwks");
+        keyStore = new SigningKeyStore(objectMapper, meterRegistry, keysUri,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(1), clock);
+        verifier = new LocalIdTokenVerifier(keyStore, objectMapper, meterRegistry, PROJECT_ID,
+                Duration.ofMinutes(1), clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyStore.stop();
+        keyServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("키가 로딩되기 전에는 네트워크 호출 없이 검증을 거부한다")
+    void rejectsBeforeKeysLoaded() throws Exception {
+        // given
+        String token = sign(keyPair, "key-1", validClaims());
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(token))
+                .isInstanceOf(SigningKeysNotLoadedException.class)
+                .hasMessageContaining("not loaded");
+        assertThat(keyRequests.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰은 로컬에서 검증되고 키 서버는 다시 호출되지 않는다")
+    void verifiesValidToken() throws Exception {
+        // given
+        SigningKeyStore.KeySet keySet = keyStore.refresh();
+        String token = sign(keyPair, "key-1", validClaims());
+
+        // when
+        VerifiedToken verified = verifier.verify(token);
+        verifier.verify(token);
+
+        // then
+        assertThat(verified.getUid()).isEqualTo("user-1");
+        assertThat(verified.getExpiresAt()).isEqualTo(NOW.plusSeconds(3600 + 60));
+        assertThat(keySet.getExpiresAt()).isEqualTo(NOW.plusSeconds(21600));
+        assertThat(keyRequests.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("firebase.token.verification").tag("result", "success").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거부된다")
+    void rejectsForgedSignature() throws Exception {
+        // given
+        keyStore.refresh();
+        String forged = sign(generateKeyPair(), "key-1", validClaims());
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(forged))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("signature");
+        assertThat(meterRegistry.get("firebase.token.verification").tag("result", "failure").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("aud, iss, exp, iat 클레임이 맞지 않으면 거부된다")
+    void rejectsInvalidClaims() throws Exception {
+        // given
+        keyStore.refresh();
+
+        Map<String, Object> wrongAudience = validClaims();
+        wrongAudience.put("aud", "other-project");
+        Map<String, Object> wrongIssuer = validClaims();
+        wrongIssuer.put("iss", "https://securetoken.google.com/other-project");
+        Map<String, Object> expired = validClaims();
+        expired.put("exp", NOW.minusSeconds(120).getEpochSecond());
+        Map<String, Object> issuedInFuture = validClaims();
+        issuedInFuture.put("iat", NOW.plusSeconds(600).getEpochSecond());
+
+        // when & then
+        assertThatThrownBy(() -> verifier.verify(sign(keyPair, "key-1", wrongAudience)))
+                .hasMessageContaining("audience");
+        assertThatThrownBy(() -> verifier.verify(sign(keyPair, "key-1", wrongIssuer)))
+                .hasMessageContaining("issuer");
+        assertThatThrownBy(() -> verifier.verify(sign(keyPair, "key-1", expired)))
+                .hasMessageContaining("Expired");
+        assertThatThrownBy(() -> verifier.verify(sign(keyPair, "key-1", issuedInFuture)))
+                .hasMessageContaining("future");
+    }
+
+    @Test
+    @DisplayName("허용 시계 오차 안에서 exp가 지난 토큰은 검증과 캐시 조회를 모두 통과한다")
+    void acceptsTokenWithinClockSkewThroughCache() throws Exception {
+        // given
+        keyStore.refresh();
+        Map<String, Object> claims = validClaims();
+        claims.put("exp", NOW.minusSeconds(30).getEpochSecond());
+        String token = sign(keyPair, "key-1", claims);
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // when
+        VerifiedToken verified = cache.get(token, verifier::verify);
+
+        // then
+        assertThat(verified.getUid()).isEqualTo("user-1");
+        assertThat(verified.getExpiresAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(cache.isVerified(token)).isTrue();
+    }
+
+    @Test
+    @DisplayName("키가 교체되면 갱신 후 새 키로 서명된 토큰을 검증한다")
+    void picksUpRotatedKeys() throws Exception {
+        // given
+        keyStore.refresh();
+        KeyPair rotated = generateKeyPair();
+        String token = sign(rotated, "key-2", validClaims());
+        assertThatThrownBy(() -> verifier.verify(token)).hasMessageContaining("Unknown signing key");
+
+        // when
+        jwks.set(jwks(Map.of("key-1", keyPair, "key-2", rotated)));
+        keyStore.refresh();
+
+        // then
+        assertThat(verifier.verify(token).getUid()).isEqualTo("user-1");
+    }
+
+    @Test
+    @DisplayName("모르는 kid의 토큰이 오면 키를 다시 내려받아, 교체된 키로 서명된 같은 토큰을 검증한다")
+    void refreshesKeysOnUnknownKid() throws Exception {
+        // given
+        SigningKeyStore eagerKeyStore = new SigningKeyStore(objectMapper, meterRegistry, keysUri,
+                Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ZERO, Clock.fixed(NOW, ZoneOffset.UTC));
+        LocalIdTokenVerifier eagerVerifier = new LocalIdTokenVerifier(eagerKeyStore, objectMapper, meterRegistry,
+                PROJECT_ID, Duration.ofMinutes(1), Clock.fixed(NOW, ZoneOffset.UTC));
+        eagerKeyStore.refresh();
+        KeyPair rotated = generateKeyPair();
+        jwks.set(jwks(Map.of("key-1", keyPair, "key-2", rotated)));
+        String token = sign(rotated, "key-2", validClaims());
+
+        // when
+        assertThatThrownBy(() -> eagerVerifier.verify(token)).isInstanceOf(UnknownSigningKeyException.class);
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (eagerKeyStore.getKey("key-2") == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // then
+        assertThat(eagerVerifier.verify(token).getUid()).isEqualTo("user-1");
+        eagerKeyStore.stop();
+    }
+
+    @Test
+    @DisplayName("모르는 kid의 토큰이 반복되어도 min-refresh-interval 안에는 키 서버를 다시 호출하지 않는다")
+    void rateLimitsRefreshOnUnknownKid() throws Exception {
+        // given
+        keyStore.refresh();
+        String token = sign(generateKeyPair(), "key-unknown", validClaims());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> verifier.verify(token)).isInstanceOf(UnknownSigningKeyException.class);
+        }
+
+        // then
+        assertThat(keyRequests.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 갱신에 실패해도 기존 키로 계속 검증한다")
+    void keepsKeysWhenRefreshFails() throws Exception {
+        // given
+        keyStore.refresh();
+        jwks.set("not-json");
+
+        // when
+        assertThatThrownBy(() -> keyStore.refresh()).isInstanceOf(Exception.class);
+
+        // then
+        assertThat(verifier.verify(sign(keyPair, "key-1", validClaims())).getUid()).isEqualTo("user-1");
+        assertThat(meterRegistry.get("firebase.signing-keys.refresh").tag("result", "failure").counter().count())
+                .isEqualTo(1);
+    }
+
+    private Map<String, Object> validClaims() {
+        Map<String, Object> claims = new LinkedHashMap<>();
+        claims.put("iss", "https://securetoken.google.com/" + PROJECT_ID);
+        claims.put("aud", PROJECT_ID);
+        claims.put("auth_time", NOW.minusSeconds(60).getEpochSecond());
+        claims.put("sub", "user-1");
+        claims.put("iat", NOW.minusSeconds(60).getEpochSecond());
+        claims.put("exp", NOW.plusSeconds(3600).getEpochSecond());
+        return claims;
+    }
+
+    private String sign(KeyPair signer, String kid, Map<String, Object> claims) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString(objectMapper.writeValueAsBytes(Map.of("alg", "RS256", "kid", kid, "typ", "JWT")));
+        String payload = encoder.encodeToString(objectMapper.writeValueAsBytes(claims));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(signer.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + payload + "." + encoder.encodeToString(signature.sign());
+    }
+
+    private String jwks(Map<String, KeyPair> keyPairs) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        List<Map<String, String>> keys = keyPairs.entrySet().stream()
+                .map(entry -> {
+                    RSAPublicKey publicKey = (RSAPublicKey) entry.getValue().getPublic();
+                    return Map.of(
+                            "kty", "RSA",
+                            "alg", "RS256",
+                            "use", "sig",
+                            "kid", entry.getKey(),
+                            "n", encoder.encodeToString(publicKey.getModulus().toByteArray()),
+                            "e", encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+                })
+                .toList();
+        return objectMapper.writeValueAsString(Map.of("keys", keys));
+    }
+
+    private static KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+}
@@ -0,0 +1,166 @@
+package com.evawova.preview.security;
+
+import com.evawova.preview.domain.user.entity.User;
+import com.evawova.preview.domain.user.event.UserRoleChangedEvent;
+import com.evawova.preview.domain.user.event.UserWithdrawnEvent;
+import com.evawova.preview.infrastructure.invalidation.CacheInvalidationBus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.evawova.preview.support.Latches.await;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 인증 주체 캐시의 일관성 검증
+ * 역할 변경/탈퇴가 커밋된 직후의 다음 요청부터 반영되는지 확인합니다.
+ */
+class PrincipalSnapshotCacheTest {
+
+    private static final String TOKEN = "token";
+    private static final String UID = "firebase-uid";
+
+    private final Map<String, PrincipalSnapshot> database = new ConcurrentHashMap<>();
+    private final AtomicInteger dbQueries = new AtomicInteger();
+
+    private PrincipalSnapshotCache cache;
+    private PrincipalCacheInvalidator invalidator;
+    private FirebaseTokenProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new PrincipalSnapshotCache(uid -> {
+            dbQueries.incrementAndGet();
+            return Optional.ofNullable(database.get(uid));
+        }, meterRegistry, 1000, Duration.ofMinutes(10));
+        invalidator = new PrincipalCacheInvalidator(cache, mock(CacheInvalidationBus.class));
+
+        VerifiedTokenCache tokenCache = new VerifiedTokenCache(meterRegistry, 1000, Duration.ofMinutes(10));
+        IdTokenVerifier verifier = token -> new VerifiedToken(UID, Instant.now().plusSeconds(3600));
+        provider = new FirebaseTokenProvider(tokenCache, verifier, cache);
+
+        user = User.createSocialUser(UID, "user@example.com", "사용자", User.Provider.GOOGLE);
+        database.put(UID, PrincipalSnapshot.of(user));
+    }
+
+    /**
+     * 서비스 계층의 트랜잭션 커밋과 User 애그리거트 발행을 흉내냅니다.
+     */
+    private void commit(User changed) {
+        database.put(changed.getUid(), PrincipalSnapshot.of(changed));
+        invalidator.onUserChanged(changed);
+    }
+
+    private String authority(Authentication authentication) {
+        return authentication.getAuthorities().iterator().next().getAuthority();
+    }
+
+    @Test
+    @DisplayName("반복 인증은 DB를 다시 조회하지 않는다")
+    void hotPathDoesNotHitDatabase() {
+        // when
+        for (int i = 0; i < 10; i++) {
+            provider.getAuthentication(TOKEN);
+        }
+
+        // then
+        assertThat(dbQueries.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역할 변경은 커밋 직후 다음 요청부터 반영된다")
+    void roleChangeIsVisibleImmediately() {
+        // given
+        assertThat(authority(provider.getAuthentication(TOKEN))).isEqualTo("ROLE_USER_FREE");
+
+        // when
+        user.setRole(User.Role.USER_PRO);
+        commit(user);
+
+        // then
+        assertThat(user.getDomainEvents()).hasAtLeastOneElementOfType(UserRoleChangedEvent.class);
+        assertThat(authority(provider.getAuthentication(TOKEN))).isEqualTo("ROLE_USER_PRO");
+    }
+
+    @Test
+    @DisplayName("탈퇴한 사용자는 다음 요청부터 인증되지 않는다")
+    void withdrawalRevokesImmediately() {
+        // given
+        assertThat(provider.getAuthentication(TOKEN)).isNotNull();
+
+        // when
+        user.withdraw();
+        commit(user);
+
+        // then
+        assertThat(user.getDomainEvents()).hasAtLeastOneElementOfType(UserWithdrawnEvent.class);
+        assertThat(provider.getAuthentication(TOKEN)).isNull();
+    }
+
+    @Test
+    @DisplayName("미가입 uid 캐시는 가입 직후 무효화된다")
+    void negativeEntryIsInvalidatedOnSignUp() {
+        // given
+        database.clear();
+        assertThat(authority(provider.getAuthentication(TOKEN))).isEqualTo("ROLE_USER");
+        provider.getAuthentication(TOKEN);
+        assertThat(dbQueries.get()).isEqualTo(1);
+
+        // when
+        commit(user);
+
+        // then
+        Authentication authentication = provider.getAuthentication(TOKEN);
+        assertThat(authority(authentication)).isEqualTo("ROLE_USER_FREE");
+        assertThat(((FirebaseUserDetails) authentication.getPrincipal()).getRole()).isEqualTo(User.Role.USER_FREE);
+    }
+
+    @Test
+    @DisplayName("변경 이전 값을 로딩 중에 무효화되면 이전 값이 캐시에 남지 않는다")
+    void invalidationDuringLoadDoesNotLeaveStaleEntry() throws Exception {
+        // given
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        PrincipalSnapshot stale = PrincipalSnapshot.of(user);
+        PrincipalSnapshotCache slowCache = new PrincipalSnapshotCache(uid -> {
+            if (loadStarted.getCount() > 0) {
+                loadStarted.countDown();
+                await(releaseLoad);
+                return Optional.of(stale);
+            }
+            return Optional.ofNullable(database.get(uid));
+        }, new SimpleMeterRegistry(), 1000, Duration.ofMinutes(10));
+
+        Thread reader = new Thread(() -> slowCache.get(UID));
+        reader.start();
+        assertThat(loadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        user.setRole(User.Role.USER_STANDARD);
+        database.put(UID, PrincipalSnapshot.of(user));
+        Thread writer = new Thread(() -> slowCache.invalidate(UID));
+        writer.start();
+        releaseLoad.countDown();
+        reader.join(5000);
+        writer.join(5000);
+
+        // then
+        assertThat(slowCache.get(UID)).get()
+                .extracting(PrincipalSnapshot::getRole)
+                .isEqualTo(User.Role.USER_STANDARD);
+    }
+}
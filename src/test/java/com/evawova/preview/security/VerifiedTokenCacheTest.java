@@ -0,0 +1,102 @@
+package com.evawova.preview.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache cache;
+    private AtomicInteger verifications;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new VerifiedTokenCache(meterRegistry, 100, Duration.ofMinutes(10),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+        verifications = new AtomicInteger();
+    }
+
+    private Function<String, VerifiedToken> verifier(Instant expiresAt) {
+        return token -> {
+            verifications.incrementAndGet();
+            return new VerifiedToken("uid-" + token.length(), expiresAt);
+        };
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 여러 번 요청해도 서명 검증은 한 번만 수행된다")
+    void verifiesOncePerToken() {
+        // given
+        Function<String, VerifiedToken> verifier = verifier(NOW.plusSeconds(3600));
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            cache.get("token-a", verifier);
+        }
+
+        // then
+        assertThat(verifications.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(4);
+        assertThat(meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 토큰은 각각 검증된다")
+    void differentTokensAreVerifiedSeparately() {
+        // given
+        Function<String, VerifiedToken> verifier = verifier(NOW.plusSeconds(3600));
+
+        // when
+        cache.get("token-a", verifier);
+        cache.get("token-b", verifier);
+
+        // then
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 만료된 토큰은 캐시에서 반환되지 않고 거부된다")
+    void expiredTokenIsRejected() {
+        // given
+        Function<String, VerifiedToken> verifier = verifier(NOW.minusSeconds(1));
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("token-a", verifier))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.get("token-a", verifier))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(verifications.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검증 실패는 캐시되지 않는다")
+    void failuresAreNotCached() {
+        // given
+        Function<String, VerifiedToken> failing = token -> {
+            verifications.incrementAndGet();
+            throw new IllegalArgumentException("Invalid token");
+        };
+
+        // when & then
+        assertThatThrownBy(() -> cache.get("forged", failing)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> cache.get("forged", failing)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(verifications.get()).isEqualTo(2);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,30 @@
+package com.evawova.preview.support;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 테스트용 CountDownLatch 대기
+ */
+public final class Latches {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private Latches() {
+    }
+
+    /**
+     * 래치가 열릴 때까지 기다립니다. 제한 시간 안에 열리지 않으면 IllegalStateException을 던집니다.
+     * 작업 스레드 안에서도 쓸 수 있도록 검사 예외를 던지지 않습니다.
+     */
+    public static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("대기 시간 초과");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
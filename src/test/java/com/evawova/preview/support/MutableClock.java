@@ -0,0 +1,50 @@
+package com.evawova.preview.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 테스트에서 시간을 앞으로 옮길 수 있는 시계
+ * 스케줄러 스레드에서 읽어도 되도록 현재 시각을 AtomicReference로 보관하며, withZone으로 만든 시계도 같은 시각을 공유합니다.
+ */
+public final class MutableClock extends Clock {
+
+    private final AtomicReference<Instant> instant;
+    private final ZoneId zone;
+
+    public MutableClock(Instant instant) {
+        this(instant, ZoneOffset.UTC);
+    }
+
+    public MutableClock(Instant instant, ZoneId zone) {
+        this(new AtomicReference<>(instant), zone);
+    }
+
+    private MutableClock(AtomicReference<Instant> instant, ZoneId zone) {
+        this.instant = instant;
+        this.zone = zone;
+    }
+
+    public void advance(Duration duration) {
+        instant.updateAndGet(current -> current.plus(duration));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return zone.equals(this.zone) ? this : new MutableClock(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+}